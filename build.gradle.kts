@@ -73,6 +73,43 @@ application {
     mainClassName = mainClass.get()
 }
 
+tasks.register<JavaExec>("runHeadless") {
+    // Plays the game without any display, printing the ticks per second: ./gradlew runHeadless --args="ticks from to"
+    group = "application"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("it.unibo.pyxis.app.HeadlessMain")
+}
+
+val jmhVersion = "1.33"
+
+val jmh: SourceSet by sourceSets.creating {
+    // Microbenchmarks of the engine hot paths, compiled against the main classes
+    compileClasspath += sourceSets["main"].output
+    runtimeClasspath += sourceSets["main"].output
+}
+
+configurations["jmhImplementation"].extendsFrom(configurations.implementation.get())
+configurations["jmhRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+tasks.register<JavaExec>("jmh") {
+    // Runs the benchmarks reporting the allocation rates, a regex selects them: ./gradlew jmh --args="Hitbox"
+    group = "verification"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    // Kept out of args, which --args replaces
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf("-prof", "gc", "-rf", "json", "-rff", "$buildDir/reports/jmh/results.json")
+    })
+    doFirst {
+        file("$buildDir/reports/jmh").mkdirs()
+    }
+}
+
 java {
     sourceCompatibility = JavaVersion.VERSION_11
     targetCompatibility = JavaVersion.VERSION_11
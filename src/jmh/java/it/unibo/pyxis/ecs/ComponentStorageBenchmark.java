@@ -0,0 +1,80 @@
+package it.unibo.pyxis.ecs;
+
+import it.unibo.pyxis.ecs.component.physics.AbstractUpdateComponent;
+import it.unibo.pyxis.ecs.component.physics.UpdateComponent;
+import it.unibo.pyxis.ecs.storage.DenseComponentStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks updating the {@link UpdateComponent}s of many entities, visiting
+ * each entity with its own storage or iterating a {@link DenseComponentStorage}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentStorageBenchmark {
+
+    private static final double ELAPSED = 20;
+
+    @Param({"1000", "30000"})
+    private int entities;
+
+    private List<Entity> localEntities;
+    private DenseComponentStorage denseStorage;
+
+    @Setup
+    public void setUp() {
+        this.localEntities = new ArrayList<>();
+        this.denseStorage = new DenseComponentStorage();
+        for (int i = 0; i < this.entities; i++) {
+            final Entity local = new EntityImpl();
+            local.registerComponent(new CounterComponent(local));
+            this.localEntities.add(local);
+            final Entity dense = new EntityImpl(this.denseStorage);
+            dense.registerComponent(new CounterComponent(dense));
+        }
+    }
+
+    @Benchmark
+    public void updateLocal() {
+        for (final Entity entity : this.localEntities) {
+            entity.getComponent(UpdateComponent.class).update(ELAPSED);
+        }
+    }
+
+    @Benchmark
+    public void updateDense() {
+        this.denseStorage.forEach(UpdateComponent.class, c -> c.update(ELAPSED));
+    }
+
+    private static final class CounterComponent extends AbstractUpdateComponent<Entity> {
+
+        private long updates;
+
+        CounterComponent(final Entity entity) {
+            super(entity);
+        }
+
+        @Override
+        public void update(final double elapsed) {
+            this.updates++;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package it.unibo.pyxis.ecs;
+
+import it.unibo.pyxis.ecs.component.event.EventComponent;
+import it.unibo.pyxis.ecs.component.physics.UpdateComponent;
+import it.unibo.pyxis.ecs.component.sprite.SpriteComponent;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.ball.BallImpl;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.util.VectorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link it.unibo.pyxis.ecs.component.Component} lookups of an {@link EntityImpl}, both for
+ * registered interfaces and for interfaces that aren't registered.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityBenchmark {
+
+    private Ball ball;
+
+    @Setup
+    public void setUp() {
+        this.ball = new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(300, 300))
+                .pace(new VectorImpl(100, -100))
+                .id(1)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.ball.removeComponent(EventComponent.class);
+    }
+
+    @Benchmark
+    public Object getComponent() {
+        return this.ball.getComponent(UpdateComponent.class);
+    }
+
+    @Benchmark
+    public boolean hasRegisteredComponent() {
+        return this.ball.hasComponent(EventComponent.class);
+    }
+
+    @Benchmark
+    public boolean hasMissingComponent() {
+        return this.ball.hasComponent(SpriteComponent.class);
+    }
+}
@@ -0,0 +1,92 @@
+package it.unibo.pyxis.model.arena;
+
+import it.unibo.pyxis.model.arena.component.ArenaUpdateComponent;
+import it.unibo.pyxis.model.element.ball.BallImpl;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.element.brick.BrickImpl;
+import it.unibo.pyxis.model.element.brick.BrickType;
+import it.unibo.pyxis.model.element.pad.PadImpl;
+import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.util.DimensionImpl;
+import it.unibo.pyxis.model.util.VectorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a physics step of the {@link Arena} for different amounts of
+ * {@link it.unibo.pyxis.model.element.ball.Ball}s and
+ * {@link it.unibo.pyxis.model.element.brick.Brick}s. The bricks are
+ * indestructible and the pad covers the whole floor, so neither the layout
+ * nor the number of balls change during an iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArenaUpdateBenchmark {
+
+    private static final double ELAPSED = 20;
+    private static final int COLUMNS = 12;
+    private static final double WIDTH = 600;
+
+    @Param({"1", "16", "256"})
+    private int balls;
+
+    @Param({"12", "60", "240"})
+    private int bricks;
+
+    private Arena arena;
+    private ArenaUpdateComponent updateComponent;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        this.arena = new ArenaImpl(new DimensionImpl(WIDTH, 700), 7);
+        this.arena.setPad(new PadImpl(new DimensionImpl(WIDTH, 12), new CoordImpl(WIDTH / 2, 680)));
+        for (int i = 0; i < this.bricks; i++) {
+            this.arena.addBrick(new BrickImpl(BrickType.INDESTRUCTIBLE,
+                    new CoordImpl(69 + i % COLUMNS * 42, 49 + i / COLUMNS * 18)));
+        }
+        final Random random = new Random(7);
+        for (int i = 1; i <= this.balls; i++) {
+            this.arena.addBall(new BallImpl.Builder()
+                    .ballType(BallType.NORMAL_BALL)
+                    .initialPosition(new CoordImpl(20 + random.nextInt(560), 500 + random.nextInt(150)))
+                    .pace(new VectorImpl(random.nextInt(200) - 100, -50 - random.nextInt(100)))
+                    .id(i)
+                    .build());
+        }
+        this.updateComponent = new ArenaUpdateComponent(this.arena);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        final int remainingBalls = this.arena.getBallList().size();
+        this.arena.cleanUp();
+        if (remainingBalls != this.balls) {
+            throw new IllegalStateException("Only " + remainingBalls + " of " + this.balls
+                    + " balls left at the end of the iteration");
+        }
+    }
+
+    @Benchmark
+    public Arena update() {
+        this.updateComponent.update(ELAPSED);
+        return this.arena;
+    }
+}
@@ -0,0 +1,73 @@
+package it.unibo.pyxis.model.event;
+
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.arena.ArenaImpl;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.element.brick.BrickImpl;
+import it.unibo.pyxis.model.element.brick.BrickType;
+import it.unibo.pyxis.model.hitbox.Contact;
+import it.unibo.pyxis.model.hitbox.ContactImpl;
+import it.unibo.pyxis.model.hitbox.HitEdge;
+import it.unibo.pyxis.model.util.Coord;
+import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.util.DimensionImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the delivery of an {@link Event} posted on the default {@link EventDispatcher}
+ * to an {@link Arena} full of {@link it.unibo.pyxis.model.element.brick.Brick}s: being
+ * routed by key, the cost must not grow with the number of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+    private static final int COLUMNS = 12;
+
+    @Param({"12", "60", "240"})
+    private int bricks;
+
+    private Arena arena;
+    private Contact contact;
+    private Coord brickCoord;
+
+    @Setup
+    public void setUp() {
+        this.contact = new ContactImpl();
+        this.contact.set(HitEdge.HORIZONTAL, 0, 0, 0);
+        this.brickCoord = new CoordImpl(0, 0);
+        this.arena = new ArenaImpl(new DimensionImpl(600, 700), 7);
+        for (int i = 0; i < this.bricks; i++) {
+            this.arena.addBrick(new BrickImpl(BrickType.INDESTRUCTIBLE,
+                    new CoordImpl(69 + i % COLUMNS * 42, 49 + i / COLUMNS * 18)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.arena.cleanUp();
+    }
+
+    @Benchmark
+    public void postBrickCollision() {
+        this.arena.getEventDispatcher().post(Events.newBallCollisionWithBrickEvent(1, BallType.NORMAL_BALL,
+                this.brickCoord, true, this.contact));
+    }
+}
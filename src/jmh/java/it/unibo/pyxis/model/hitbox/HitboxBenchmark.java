@@ -0,0 +1,110 @@
+package it.unibo.pyxis.model.hitbox;
+
+import it.unibo.pyxis.ecs.Entity;
+import it.unibo.pyxis.ecs.component.event.EventComponent;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.ball.BallImpl;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.element.brick.BrickImpl;
+import it.unibo.pyxis.model.element.brick.BrickType;
+import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.util.VectorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the collision tests of the {@link Hitbox}es, one for each way
+ * a {@link BallHitbox} can touch a {@link RectHitbox}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HitboxBenchmark {
+
+    private Brick brick;
+    private Brick overlappingBrick;
+    private Ball verticalBall;
+    private Ball horizontalBall;
+    private Ball cornerBall;
+    private Ball insideBall;
+    private Ball otherBall;
+    private Contact contact;
+
+    private Ball createBall(final double x, final double y, final int id) {
+        return new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(x, y))
+                .pace(new VectorImpl(100, -100))
+                .id(id)
+                .build();
+    }
+
+    @Setup
+    public void setUp() {
+        this.brick = new BrickImpl(BrickType.RED, new CoordImpl(300, 300));
+        this.overlappingBrick = new BrickImpl(BrickType.RED, new CoordImpl(330, 310));
+        this.verticalBall = this.createBall(276, 300, 1);
+        this.horizontalBall = this.createBall(300, 313, 2);
+        this.cornerBall = this.createBall(277, 289, 3);
+        this.insideBall = this.createBall(300, 300, 4);
+        this.otherBall = this.createBall(305, 305, 5);
+        this.contact = new ContactImpl();
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (final Entity entity : List.of(this.brick, this.overlappingBrick, this.verticalBall,
+                this.horizontalBall, this.cornerBall, this.insideBall, this.otherBall)) {
+            entity.removeComponent(EventComponent.class);
+        }
+    }
+
+    @Benchmark
+    public boolean ballWithVerticalEdge() {
+        return this.verticalBall.getHitbox().collidingInformationWithHB(this.brick.getHitbox(), this.contact);
+    }
+
+    @Benchmark
+    public boolean ballWithHorizontalEdge() {
+        return this.horizontalBall.getHitbox().collidingInformationWithHB(this.brick.getHitbox(), this.contact);
+    }
+
+    @Benchmark
+    public boolean ballWithCorner() {
+        return this.cornerBall.getHitbox().collidingInformationWithHB(this.brick.getHitbox(), this.contact);
+    }
+
+    @Benchmark
+    public boolean ballInside() {
+        return this.insideBall.getHitbox().collidingInformationWithHB(this.brick.getHitbox(), this.contact);
+    }
+
+    @Benchmark
+    public boolean ballWithBall() {
+        return this.insideBall.getHitbox().collidingInformationWithHB(this.otherBall.getHitbox(), this.contact);
+    }
+
+    @Benchmark
+    public void rectWithRect(final Blackhole blackhole) {
+        blackhole.consume(this.brick.getHitbox().isCollidingWithHB(this.overlappingBrick.getHitbox()));
+        blackhole.consume(this.brick.getHitbox().collidingInformationWithHB(this.overlappingBrick.getHitbox(),
+                this.contact));
+    }
+}
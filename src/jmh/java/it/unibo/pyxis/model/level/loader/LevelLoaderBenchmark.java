@@ -0,0 +1,46 @@
+package it.unibo.pyxis.model.level.loader;
+
+import it.unibo.pyxis.model.level.Level;
+import it.unibo.pyxis.model.level.iterator.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the loading of a {@link Level} from its YAML file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelLoaderBenchmark {
+
+    @Param({"level1.yaml", "level5.yaml"})
+    private String filename;
+
+    private LevelLoader loader;
+
+    @Setup
+    public void setUp() {
+        this.loader = new LevelLoaderImpl(Config.LEVEL_RESOURCE_FOLDER.getValue());
+    }
+
+    @Benchmark
+    public Level fromFile() {
+        final Level level = this.loader.fromFile(this.filename, 7);
+        level.cleanUp();
+        return level;
+    }
+}
@@ -0,0 +1,81 @@
+package it.unibo.pyxis.app;
+
+import it.unibo.pyxis.app.headless.BallFollowerCommand;
+import it.unibo.pyxis.app.headless.HeadlessRunner;
+import it.unibo.pyxis.app.headless.HeadlessRunnerImpl;
+import it.unibo.pyxis.app.headless.InputScriptImpl;
+import it.unibo.pyxis.app.headless.SimulationReport;
+import it.unibo.pyxis.controller.engine.replay.InputRecording;
+import it.unibo.pyxis.controller.engine.replay.InputRecordingImpl;
+import it.unibo.pyxis.model.level.iterator.Config;
+import it.unibo.pyxis.model.level.iterator.LevelIterator;
+import it.unibo.pyxis.model.state.GameStateImpl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Entry point playing the game without any display. By default a bot following
+ * the ball plays; the accepted arguments, all optional, are the maximum number of
+ * ticks, the starting level and the final level.
+ * With {@code replay <file> [realtime]} it replays an
+ * {@link InputRecording} instead, at the maximum speed or in real time.
+ */
+public final class HeadlessMain {
+
+    private static final long DEFAULT_MAX_TICKS = 1_000_000;
+    private static final int DEFAULT_STARTING_LEVEL = 1;
+    private static final int DEFAULT_FINAL_LEVEL = 5;
+    private static final double FOLLOWER_TOLERANCE = 10;
+    private static final String REPLAY_COMMAND = "replay";
+    private static final String REAL_TIME_OPTION = "realtime";
+
+    private HeadlessMain() {
+    }
+
+    /**
+     * Plays the game with a bot following the ball.
+     *
+     * @param args The maximum number of ticks, the starting level and the final level.
+     * @return The {@link SimulationReport}.
+     */
+    private static SimulationReport play(final String[] args) {
+        final long maxTicks = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_MAX_TICKS;
+        final int startingLevel = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_STARTING_LEVEL;
+        final int finalLevel = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_FINAL_LEVEL;
+        final HeadlessRunner runner = new HeadlessRunnerImpl(new GameStateImpl(
+                () -> new LevelIterator(Config.LEVEL_RESOURCE_FOLDER.getValue(), startingLevel, finalLevel)));
+        return runner.run(new InputScriptImpl.Builder()
+                .everyTick(new BallFollowerCommand(FOLLOWER_TOLERANCE))
+                .build(), maxTicks);
+    }
+
+    /**
+     * Replays an {@link InputRecording} saved in a file.
+     *
+     * @param args The replay command, the file name and optionally the real time option.
+     * @return The {@link SimulationReport}.
+     * @throws IOException If the recording can't be read.
+     */
+    private static SimulationReport replay(final String[] args) throws IOException {
+        final InputRecording recording;
+        try (Reader reader = Files.newBufferedReader(Paths.get(args[1]))) {
+            recording = InputRecordingImpl.readFrom(reader);
+        }
+        final boolean realTime = args.length > 2 && REAL_TIME_OPTION.equals(args[2]);
+        final HeadlessRunner runner = new HeadlessRunnerImpl(new GameStateImpl(
+                () -> new LevelIterator(Config.LEVEL_RESOURCE_FOLDER.getValue(), recording.getLevelNumber(),
+                        recording.getLevelNumber(), recording::getSeed)),
+                recording.getPhysicsRate(), realTime);
+        return runner.run(recording::commandsAt, recording.getTicks());
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final SimulationReport report = args.length > 1 && REPLAY_COMMAND.equals(args[0])
+                ? replay(args)
+                : play(args);
+        System.out.println(report);
+    }
+}
@@ -10,10 +10,40 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import java.awt.GraphicsDevice;
 import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
 
 public final class Launcher extends Application {
 
     private static final double WINDOW_SCALE_FACTOR = 2;
+    private static final String RECORD_PARAMETER = "record";
+
+    /**
+     * Creates the {@link Linker}. When the application is started with
+     * {@code --record=<directory>}, the input of every level played is saved
+     * in that directory, to be replayed later by {@link HeadlessMain}.
+     *
+     * @return The {@link Linker}.
+     */
+    private Linker createLinker() {
+        final String recordDirectory = this.getParameters().getNamed().get(RECORD_PARAMETER);
+        if (recordDirectory == null) {
+            return new LinkerImpl();
+        }
+        return new LinkerImpl(recording -> {
+            final Path file = Paths.get(recordDirectory, "level" + recording.getLevelNumber()
+                    + "-" + System.currentTimeMillis() + ".rec");
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                recording.writeTo(writer);
+            } catch (final IOException e) {
+                Logger.getLogger(Launcher.class.getName()).warning("Can't save the recording: " + e.getMessage());
+            }
+        });
+    }
 
     @Override
     public void start(final Stage primaryStage) throws Exception {
@@ -22,7 +52,7 @@ public final class Launcher extends Application {
         final float height = gd.getDisplayMode().getHeight();
         primaryStage.setHeight(height / WINDOW_SCALE_FACTOR);
         primaryStage.setWidth(width / WINDOW_SCALE_FACTOR);
-        final Linker linker = new LinkerImpl();
+        final Linker linker = this.createLinker();
         final InputHandler inputHandler = new InputHandlerImpl();
         inputHandler.bindCommands(linker, primaryStage);
         final SceneHandler sceneHandler = new SceneHandlerImpl(primaryStage, linker);
@@ -0,0 +1,43 @@
+package it.unibo.pyxis.app.headless;
+
+import it.unibo.pyxis.controller.command.Command;
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.level.Level;
+
+/**
+ * A {@link Command} playing as a simple bot: it moves the {@link Pad} under
+ * the lowest {@link Ball} of the {@link Arena}.
+ */
+public final class BallFollowerCommand implements Command<Level> {
+
+    private final double tolerance;
+
+    public BallFollowerCommand(final double inputTolerance) {
+        this.tolerance = inputTolerance;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(final Level target) {
+        final Arena arena = target.getArena();
+        Ball lowestBall = null;
+        for (final Ball ball : arena.getBallList()) {
+            if (lowestBall == null || ball.getY() > lowestBall.getY()) {
+                lowestBall = ball;
+            }
+        }
+        if (lowestBall == null) {
+            return;
+        }
+        final Pad pad = arena.getPad();
+        if (lowestBall.getX() < pad.getX() - this.tolerance) {
+            arena.movePadLeft();
+        } else if (lowestBall.getX() > pad.getX() + this.tolerance) {
+            arena.movePadRight();
+        }
+    }
+}
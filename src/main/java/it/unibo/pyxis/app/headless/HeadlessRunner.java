@@ -0,0 +1,16 @@
+package it.unibo.pyxis.app.headless;
+
+public interface HeadlessRunner {
+
+    /**
+     * Plays the {@link it.unibo.pyxis.model.level.Level}s as fast as possible,
+     * without any view nor frame pacing. The simulation ends when the game is over,
+     * when the last {@link it.unibo.pyxis.model.level.Level} is completed or when
+     * the maximum number of ticks is reached.
+     *
+     * @param script The {@link InputScript} feeding the commands.
+     * @param maxTicks The maximum number of physics steps to simulate.
+     * @return The {@link SimulationReport} of the run.
+     */
+    SimulationReport run(InputScript script, long maxTicks);
+}
@@ -0,0 +1,108 @@
+package it.unibo.pyxis.app.headless;
+
+import it.unibo.pyxis.controller.command.Command;
+import it.unibo.pyxis.model.level.Level;
+import it.unibo.pyxis.model.level.status.LevelStatus;
+import it.unibo.pyxis.model.state.GameState;
+import it.unibo.pyxis.model.state.StateEnum;
+
+import java.util.concurrent.locks.LockSupport;
+
+public final class HeadlessRunnerImpl implements HeadlessRunner {
+
+    private static final double MILLIS_PER_SECOND = 1000;
+    private static final int DEFAULT_PHYSICS_RATE = 50;
+    private static final double NANOS_PER_MILLI = 1_000_000;
+    private final GameState gameState;
+    private final double step;
+    private final boolean realTime;
+
+    /**
+     * Creates a {@link HeadlessRunner}.
+     *
+     * @param inputGameState The {@link GameState} to play.
+     * @param physicsRate The number of physics steps per second of simulated time.
+     * @param inputRealTime True to pace the physics steps at the same rate as the
+     *                      game loop does, false to run them as fast as possible.
+     */
+    public HeadlessRunnerImpl(final GameState inputGameState, final int physicsRate, final boolean inputRealTime) {
+        if (physicsRate <= 0) {
+            throw new IllegalArgumentException("The physics rate must be positive");
+        }
+        this.gameState = inputGameState;
+        this.step = MILLIS_PER_SECOND / physicsRate;
+        this.realTime = inputRealTime;
+    }
+
+    public HeadlessRunnerImpl(final GameState inputGameState, final int physicsRate) {
+        this(inputGameState, physicsRate, false);
+    }
+
+    public HeadlessRunnerImpl(final GameState inputGameState) {
+        this(inputGameState, DEFAULT_PHYSICS_RATE);
+    }
+
+    /**
+     * Ends the current {@link Level}, switching to the next one if it has been
+     * completed and there is one left, stopping the game otherwise.
+     *
+     * @param levelStatus The {@link LevelStatus} of the ended {@link Level}.
+     */
+    private void endLevel(final LevelStatus levelStatus) {
+        this.gameState.updateTotalScore();
+        if (levelStatus == LevelStatus.SUCCESSFULLY_COMPLETED && this.gameState.getLevelIterator().hasNext()) {
+            this.gameState.switchLevel();
+            this.gameState.cleanUpRetiredLevels();
+            this.gameState.setState(StateEnum.RUN);
+        } else {
+            this.gameState.setState(StateEnum.STOP);
+        }
+    }
+
+    /**
+     * Waits until the wall-clock time reaches the simulated time of the input tick.
+     *
+     * @param start The start time of the simulation, in nanoseconds.
+     * @param tick The number of ticks simulated.
+     */
+    private void waitForTick(final long start, final long tick) {
+        final long wait = start + (long) (tick * this.step * NANOS_PER_MILLI) - System.nanoTime();
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationReport run(final InputScript script, final long maxTicks) {
+        int completedLevels = 0;
+        long tick = 0;
+        LevelStatus levelStatus = this.gameState.getCurrentLevel().getLevelStatus();
+        this.gameState.setState(StateEnum.RUN);
+        final long start = System.nanoTime();
+        while (tick < maxTicks && this.gameState.getState() != StateEnum.STOP) {
+            final Level level = this.gameState.getCurrentLevel();
+            for (final Command<Level> command : script.commandsAt(tick)) {
+                command.execute(level);
+            }
+            this.gameState.update(this.step);
+            tick++;
+            if (this.realTime) {
+                this.waitForTick(start, tick);
+            }
+            levelStatus = level.getLevelStatus();
+            if (levelStatus != LevelStatus.PLAYING) {
+                if (levelStatus == LevelStatus.SUCCESSFULLY_COMPLETED) {
+                    completedLevels++;
+                }
+                this.endLevel(levelStatus);
+            }
+        }
+        final long elapsed = System.nanoTime() - start;
+        this.gameState.setState(StateEnum.STOP);
+        this.gameState.getCurrentLevel().cleanUp();
+        return new SimulationReportImpl(tick, elapsed, completedLevels, this.gameState.getScore(), levelStatus);
+    }
+}
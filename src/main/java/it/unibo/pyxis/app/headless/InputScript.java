@@ -0,0 +1,18 @@
+package it.unibo.pyxis.app.headless;
+
+import it.unibo.pyxis.controller.command.Command;
+import it.unibo.pyxis.model.level.Level;
+
+import java.util.List;
+
+public interface InputScript {
+
+    /**
+     * Returns the {@link Command}s to execute on the current {@link Level}
+     * before the physics step of the input tick.
+     *
+     * @param tick The number of the tick, starting from 0.
+     * @return The {@link List} of {@link Command}s to execute, in order.
+     */
+    List<Command<Level>> commandsAt(long tick);
+}
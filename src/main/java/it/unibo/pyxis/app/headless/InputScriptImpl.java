@@ -0,0 +1,80 @@
+package it.unibo.pyxis.app.headless;
+
+import it.unibo.pyxis.controller.command.Command;
+import it.unibo.pyxis.model.level.Level;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class InputScriptImpl implements InputScript {
+
+    private final Map<Long, List<Command<Level>>> scheduledCommands;
+    private final List<Command<Level>> repeatedCommands;
+
+    private InputScriptImpl(final Map<Long, List<Command<Level>>> inputScheduledCommands,
+                            final List<Command<Level>> inputRepeatedCommands) {
+        this.scheduledCommands = inputScheduledCommands;
+        this.repeatedCommands = inputRepeatedCommands;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Command<Level>> commandsAt(final long tick) {
+        final List<Command<Level>> scheduled = this.scheduledCommands.getOrDefault(tick, Collections.emptyList());
+        if (this.repeatedCommands.isEmpty()) {
+            return scheduled;
+        }
+        final List<Command<Level>> commands = new ArrayList<>(scheduled);
+        commands.addAll(this.repeatedCommands);
+        return commands;
+    }
+
+    public static final class Builder {
+
+        private final Map<Long, List<Command<Level>>> scheduledCommands = new HashMap<>();
+        private final List<Command<Level>> repeatedCommands = new ArrayList<>();
+
+        /**
+         * Schedules a {@link Command} to be executed once, at the input tick.
+         *
+         * @param tick The tick of the execution.
+         * @param command The {@link Command} to execute.
+         * @return The {@link Builder}.
+         */
+        public Builder at(final long tick, final Command<Level> command) {
+            if (tick < 0) {
+                throw new IllegalArgumentException("The tick must not be negative");
+            }
+            this.scheduledCommands.computeIfAbsent(tick, t -> new ArrayList<>()).add(command);
+            return this;
+        }
+
+        /**
+         * Schedules a {@link Command} to be executed at every tick, after the
+         * ones scheduled with {@link #at(long, Command)}.
+         *
+         * @param command The {@link Command} to execute.
+         * @return The {@link Builder}.
+         */
+        public Builder everyTick(final Command<Level> command) {
+            this.repeatedCommands.add(command);
+            return this;
+        }
+
+        /**
+         * Builds the {@link InputScript}.
+         *
+         * @return The {@link InputScript}.
+         */
+        public InputScript build() {
+            final Map<Long, List<Command<Level>>> scheduled = new HashMap<>();
+            this.scheduledCommands.forEach((tick, commands) -> scheduled.put(tick, List.copyOf(commands)));
+            return new InputScriptImpl(scheduled, List.copyOf(this.repeatedCommands));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package it.unibo.pyxis.app.headless;
+
+import it.unibo.pyxis.model.level.status.LevelStatus;
+
+public interface SimulationReport {
+
+    /**
+     * Returns the number of {@link it.unibo.pyxis.model.level.Level}s completed
+     * during the simulation.
+     *
+     * @return The number of completed levels.
+     */
+    int getCompletedLevels();
+
+    /**
+     * Returns the wall-clock time spent by the simulation.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    long getElapsedNanos();
+
+    /**
+     * Returns the {@link LevelStatus} of the last
+     * {@link it.unibo.pyxis.model.level.Level} played.
+     *
+     * @return The last {@link LevelStatus}.
+     */
+    LevelStatus getLastLevelStatus();
+
+    /**
+     * Returns the total score reached at the end of the simulation.
+     *
+     * @return The score.
+     */
+    int getScore();
+
+    /**
+     * Returns the number of physics steps simulated.
+     *
+     * @return The number of ticks.
+     */
+    long getTicks();
+
+    /**
+     * Returns the average number of physics steps simulated per second of
+     * wall-clock time.
+     *
+     * @return The ticks per second.
+     */
+    double getTicksPerSecond();
+}
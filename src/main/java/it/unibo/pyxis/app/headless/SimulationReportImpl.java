@@ -0,0 +1,83 @@
+package it.unibo.pyxis.app.headless;
+
+import it.unibo.pyxis.model.level.status.LevelStatus;
+
+public final class SimulationReportImpl implements SimulationReport {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000;
+    private final long ticks;
+    private final long elapsedNanos;
+    private final int completedLevels;
+    private final int score;
+    private final LevelStatus lastLevelStatus;
+
+    public SimulationReportImpl(final long inputTicks, final long inputElapsedNanos, final int inputCompletedLevels,
+                                final int inputScore, final LevelStatus inputLastLevelStatus) {
+        this.ticks = inputTicks;
+        this.elapsedNanos = inputElapsedNanos;
+        this.completedLevels = inputCompletedLevels;
+        this.score = inputScore;
+        this.lastLevelStatus = inputLastLevelStatus;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCompletedLevels() {
+        return this.completedLevels;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LevelStatus getLastLevelStatus() {
+        return this.lastLevelStatus;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTicksPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.ticks * NANOS_PER_SECOND / this.elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "SimulationReport[ticks : " + this.ticks
+                + ", ticks/s : " + Math.round(this.getTicksPerSecond())
+                + ", completed levels : " + this.completedLevels
+                + ", score : " + this.score
+                + ", last level : " + this.lastLevelStatus
+                + "]";
+    }
+}
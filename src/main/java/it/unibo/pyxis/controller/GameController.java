@@ -2,22 +2,12 @@ package it.unibo.pyxis.controller;
 
 import it.unibo.pyxis.ecs.component.sprite.SpriteComponent;
 import it.unibo.pyxis.model.arena.Arena;
-import it.unibo.pyxis.model.element.ball.Ball;
-import it.unibo.pyxis.model.element.brick.Brick;
-import it.unibo.pyxis.model.element.pad.Pad;
-import it.unibo.pyxis.model.element.powerup.Powerup;
+import it.unibo.pyxis.model.arena.snapshot.RenderSnapshot;
 import it.unibo.pyxis.model.level.Level;
 import it.unibo.pyxis.model.util.Dimension;
-import it.unibo.pyxis.view.graphic.BallSpriteComponent;
-import it.unibo.pyxis.view.graphic.BrickSpriteComponent;
 import it.unibo.pyxis.view.graphic.LevelSpriteComponent;
-import it.unibo.pyxis.view.graphic.PadSpriteComponent;
-import it.unibo.pyxis.view.graphic.PowerupSpriteComponent;
 import javafx.scene.image.Image;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-
 public class GameController extends AbstractController {
 
     /**
@@ -38,30 +28,6 @@ public class GameController extends AbstractController {
         return this.getArena().getDimension();
     }
 
-    /**
-     * Returns the {@link Arena}'s {@link Ball}.
-     *
-     * @return The {@link Ball}'s {@link Set}.
-     */
-    public final Set<Ball> getBalls() {
-        return this.getArena().getBalls()
-                .stream()
-                .peek(b -> b.registerComponent(new BallSpriteComponent(b)))
-                .collect(Collectors.toSet());
-    }
-
-    /**
-     * Returns the {@link Arena}'s {@link Brick}s.
-     *
-     * @return The {@link Brick}'s {@link Set}.
-     */
-    public final Set<Brick> getBricks() {
-        return this.getArena().getBricks()
-                .stream()
-                .peek(b -> b.registerComponent(new BrickSpriteComponent(b)))
-                .collect(Collectors.toSet());
-    }
-
     /**
      * Returns the current {@link Level} number.
      *
@@ -94,26 +60,12 @@ public class GameController extends AbstractController {
     }
 
     /**
-     * Returns the {@link Arena}'s {@link Pad}.
-     *
-     * @return The {@link Pad}.
-     */
-    public final Pad getPad() {
-        final Pad arenaPad = this.getArena().getPad();
-        arenaPad.registerComponent(new PadSpriteComponent(arenaPad));
-        return arenaPad;
-    }
-
-    /**
-     * Returns the {@link Arena}'s {@link Powerup}.
+     * Returns the last {@link RenderSnapshot} published by the game loop.
      *
-     * @return The {@link Powerup}'s {@link Set}.
+     * @return The {@link RenderSnapshot} to draw.
      */
-    public final Set<Powerup> getPowerups() {
-        return this.getArena().getPowerups()
-                .stream()
-                .peek(p -> p.registerComponent(new PowerupSpriteComponent(p)))
-                .collect(Collectors.toSet());
+    public final RenderSnapshot getRenderSnapshot() {
+        return this.getArena().getRenderSnapshot();
     }
 
     /**
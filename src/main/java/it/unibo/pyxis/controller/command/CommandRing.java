@@ -0,0 +1,53 @@
+package it.unibo.pyxis.controller.command;
+
+import java.util.function.Consumer;
+
+/**
+ * A bounded lock-free queue of {@link Command}s. Any number of threads can
+ * offer {@link Command}s, while a single thread drains them. When it's full,
+ * its {@link OverflowPolicy} decides which {@link Command} is discarded.
+ *
+ * @param <T> The type of the target of the {@link Command}s.
+ */
+public interface CommandRing<T> {
+
+    /**
+     * Removes the queued {@link Command}s, in the order they were offered,
+     * handing each of them to the input consumer. It doesn't remove more
+     * {@link Command}s than the capacity of the ring, so producers offering
+     * faster than it drains can't keep it running.
+     *
+     * @param consumer The consumer of the {@link Command}s.
+     * @return The number of {@link Command}s drained.
+     */
+    int drain(Consumer<Command<T>> consumer);
+
+    /**
+     * Returns the maximum number of queued {@link Command}s.
+     *
+     * @return The capacity.
+     */
+    int getCapacity();
+
+    /**
+     * Returns the number of {@link Command}s discarded because the ring was full.
+     *
+     * @return The number of discarded {@link Command}s.
+     */
+    long getDroppedCount();
+
+    /**
+     * Returns true if no {@link Command} is queued.
+     *
+     * @return True if the ring is empty, false otherwise.
+     */
+    boolean isEmpty();
+
+    /**
+     * Queues a {@link Command}, applying the {@link OverflowPolicy} if the ring is full.
+     *
+     * @param command The {@link Command} to queue.
+     * @return True if the {@link Command} has been queued, false if it has been discarded.
+     */
+    boolean offer(Command<T> command);
+}
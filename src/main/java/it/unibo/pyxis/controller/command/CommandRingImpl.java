@@ -0,0 +1,160 @@
+package it.unibo.pyxis.controller.command;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A {@link CommandRing} where every slot carries a sequence number telling
+ * whether it's free for the producer of a position or full for its consumer.
+ * Producers and consumer only contend on their own counter, with a
+ * compare-and-set. A producer applying {@link OverflowPolicy#DROP_OLDEST}
+ * takes the oldest {@link Command} like the consumer does, so removal is safe
+ * even when it races with the consumer.
+ *
+ * @param <T> The type of the target of the {@link Command}s.
+ */
+public final class CommandRingImpl<T> implements CommandRing<T> {
+
+    private final AtomicReferenceArray<Command<T>> commands;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head;
+    private final AtomicLong tail;
+    private final AtomicLong dropped;
+    private final OverflowPolicy policy;
+    private final int mask;
+
+    /**
+     * Creates a {@link CommandRing}.
+     *
+     * @param capacity The capacity, a power of two.
+     * @param inputPolicy The {@link OverflowPolicy}.
+     */
+    public CommandRingImpl(final int capacity, final OverflowPolicy inputPolicy) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two");
+        }
+        this.commands = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            this.sequences.set(i, i);
+        }
+        this.head = new AtomicLong();
+        this.tail = new AtomicLong();
+        this.dropped = new AtomicLong();
+        this.policy = Objects.requireNonNull(inputPolicy);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Queues a {@link Command} if there is a free slot.
+     *
+     * @param command The {@link Command} to queue.
+     * @return True if the {@link Command} has been queued, false if the ring is full.
+     */
+    private boolean tryOffer(final Command<T> command) {
+        long position = this.tail.get();
+        while (true) {
+            final int slot = (int) (position & this.mask);
+            final long difference = this.sequences.get(slot) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.commands.set(slot, command);
+                    this.sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = this.tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = this.tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest queued {@link Command}.
+     *
+     * @return The {@link Command}, or null if the ring is empty.
+     */
+    private Command<T> poll() {
+        long position = this.head.get();
+        while (true) {
+            final int slot = (int) (position & this.mask);
+            final long difference = this.sequences.get(slot) - (position + 1);
+            if (difference == 0) {
+                if (this.head.compareAndSet(position, position + 1)) {
+                    final Command<T> command = this.commands.getAndSet(slot, null);
+                    this.sequences.set(slot, position + this.mask + 1);
+                    return command;
+                }
+                position = this.head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = this.head.get();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drain(final Consumer<Command<T>> consumer) {
+        int drained = 0;
+        while (drained <= this.mask) {
+            final Command<T> command = this.poll();
+            if (Objects.isNull(command)) {
+                break;
+            }
+            consumer.accept(command);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCapacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDroppedCount() {
+        return this.dropped.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return this.head.get() >= this.tail.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offer(final Command<T> command) {
+        Objects.requireNonNull(command);
+        while (!this.tryOffer(command)) {
+            if (this.policy == OverflowPolicy.DROP_NEWEST) {
+                this.dropped.incrementAndGet();
+                return false;
+            }
+            if (!Objects.isNull(this.poll())) {
+                this.dropped.incrementAndGet();
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package it.unibo.pyxis.controller.command;
+
+import it.unibo.pyxis.model.level.Level;
+
+/**
+ * The {@link Command}s the player can send to the current {@link Level}.
+ * Being constants, they can be recorded and replayed.
+ */
+public enum LevelCommand implements Command<Level> {
+
+    /**
+     * Moves the {@link it.unibo.pyxis.model.element.pad.Pad} to the left.
+     */
+    MOVE_PAD_LEFT {
+        @Override
+        public void execute(final Level target) {
+            target.getArena().movePadLeft();
+        }
+    },
+
+    /**
+     * Moves the {@link it.unibo.pyxis.model.element.pad.Pad} to the right.
+     */
+    MOVE_PAD_RIGHT {
+        @Override
+        public void execute(final Level target) {
+            target.getArena().movePadRight();
+        }
+    },
+
+    /**
+     * Starts moving the {@link it.unibo.pyxis.model.element.pad.Pad} to the left
+     * at every update, until it's steered again.
+     */
+    STEER_PAD_LEFT {
+        @Override
+        public void execute(final Level target) {
+            target.getArena().steerPad(-1);
+        }
+    },
+
+    /**
+     * Starts moving the {@link it.unibo.pyxis.model.element.pad.Pad} to the right
+     * at every update, until it's steered again.
+     */
+    STEER_PAD_RIGHT {
+        @Override
+        public void execute(final Level target) {
+            target.getArena().steerPad(1);
+        }
+    },
+
+    /**
+     * Stops the movement of the {@link it.unibo.pyxis.model.element.pad.Pad}
+     * started by a steering {@link Command}.
+     */
+    STOP_PAD {
+        @Override
+        public void execute(final Level target) {
+            target.getArena().steerPad(0);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package it.unibo.pyxis.controller.command;
+
+/**
+ * What a full {@link CommandRing} does with a new {@link Command}.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Discards the oldest {@link Command} in the {@link CommandRing} to make room
+     * for the new one, keeping the most recent input.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Discards the new {@link Command}, keeping the input already queued.
+     */
+    DROP_NEWEST
+}
@@ -5,14 +5,27 @@ import it.unibo.pyxis.model.level.Level;
 
 public interface GameLoop {
     /**
-     * Adds a command in the queue.
+     * Adds a command in the queue. When the queue is full, the oldest
+     * command is discarded.
      *
      * @param command The command to add in the queue.
      */
     void addCommand(Command<Level> command);
 
     /**
-     * Processes the next command sent by the user to the application.
+     * Returns the factor used to interpolate the positions of the
+     * {@link it.unibo.pyxis.model.element.Element}s between the last two
+     * physics steps, that is the fraction of the next step already elapsed.
+     *
+     * @return The interpolation factor, in the range [0, 1].
+     */
+    double getInterpolationFactor();
+
+    /**
+     * Processes all the commands sent by the user to the application since
+     * the last call, merging the consecutive movements of the
+     * {@link it.unibo.pyxis.model.element.pad.Pad} into a single one, then
+     * samples the held {@link it.unibo.pyxis.controller.input.InputKey}s.
      */
     void processInput();
 
@@ -28,7 +41,7 @@ public interface GameLoop {
     void start();
 
     /**
-     * Updates the game model passing the elapsed time between two game loop's cycles.
+     * Updates the game model of a physics step.
      *
      * @param elapsed The elapsed time.
      */
@@ -1,26 +1,187 @@
 package it.unibo.pyxis.controller.engine;
 
 import it.unibo.pyxis.controller.command.Command;
+import it.unibo.pyxis.controller.command.CommandRing;
+import it.unibo.pyxis.controller.command.CommandRingImpl;
+import it.unibo.pyxis.controller.command.LevelCommand;
+import it.unibo.pyxis.controller.command.OverflowPolicy;
+import it.unibo.pyxis.controller.engine.replay.InputRecording;
+import it.unibo.pyxis.controller.engine.replay.InputRecordingImpl;
+import it.unibo.pyxis.controller.input.InputKey;
 import it.unibo.pyxis.controller.linker.Linker;
 import it.unibo.pyxis.model.level.Level;
 import it.unibo.pyxis.model.level.status.LevelStatus;
 import it.unibo.pyxis.model.state.StateEnum;
 import javafx.application.Platform;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 
 public final class GameLoopImpl extends Thread implements GameLoop {
 
-    private static final int COMMAND_QUEUE_DIMENSION = 100;
-    private static final int PERIOD = 20;
+    private static final int COMMAND_RING_CAPACITY = 128;
+    private static final int PERIOD = 16;
+    private static final int DEFAULT_PHYSICS_RATE = 50;
+    private static final int MAX_STEPS_PER_FRAME = 5;
+    private static final double MILLIS_PER_SECOND = 1000;
+    private static final double NANOS_PER_MILLI = 1_000_000;
     private final Linker linker;
-    private final BlockingQueue<Command<Level>> commandQueue;
+    private final CommandRing<Level> commandRing;
+    private final double step;
+    private final int physicsRate;
+    private final Optional<Consumer<InputRecording>> recordingSink;
+    private volatile double interpolationFactor;
+    private Optional<InputRecordingImpl.Builder> recorder;
+    private Level recordedLevel;
+    private long tick;
+    private int padSteps;
+    private int padSteering;
+    private Level steeredLevel;
+    private Level endedLevel;
 
-    public GameLoopImpl(final Linker linker) {
+    private GameLoopImpl(final Linker linker, final int physicsRate,
+                         final Optional<Consumer<InputRecording>> recordingSink) {
+        if (physicsRate <= 0) {
+            throw new IllegalArgumentException("The physics rate must be positive");
+        }
         this.linker = linker;
-        this.commandQueue = new ArrayBlockingQueue<>(COMMAND_QUEUE_DIMENSION);
+        this.commandRing = new CommandRingImpl<>(COMMAND_RING_CAPACITY, OverflowPolicy.DROP_OLDEST);
+        this.physicsRate = physicsRate;
+        this.step = MILLIS_PER_SECOND / physicsRate;
+        this.recordingSink = recordingSink;
+        this.recorder = Optional.empty();
+    }
+
+    /**
+     * Creates a {@link GameLoop} recording the input of every
+     * {@link Level} played, handing each {@link InputRecording} to the input
+     * sink when the {@link Level} ends. Only the {@link LevelCommand}s are recorded.
+     *
+     * @param linker The {@link Linker}.
+     * @param physicsRate The number of physics steps per second.
+     * @param recordingSink The consumer of the {@link InputRecording}s.
+     */
+    public GameLoopImpl(final Linker linker, final int physicsRate, final Consumer<InputRecording> recordingSink) {
+        this(linker, physicsRate, Optional.of(Objects.requireNonNull(recordingSink)));
+    }
+
+    public GameLoopImpl(final Linker linker, final Consumer<InputRecording> recordingSink) {
+        this(linker, DEFAULT_PHYSICS_RATE, recordingSink);
+    }
+
+    public GameLoopImpl(final Linker linker, final int physicsRate) {
+        this(linker, physicsRate, Optional.empty());
+    }
+
+    public GameLoopImpl(final Linker linker) {
+        this(linker, DEFAULT_PHYSICS_RATE);
+    }
+
+    /**
+     * Starts a new {@link InputRecording} when the input {@link Level} is
+     * not the one being recorded.
+     *
+     * @param level The current {@link Level}.
+     */
+    private void startRecording(final Level level) {
+        if (this.recordingSink.isPresent() && level != this.recordedLevel) {
+            this.recordedLevel = level;
+            this.tick = 0;
+            this.recorder = Optional.of(new InputRecordingImpl.Builder(level.getLevelNumber(),
+                    level.getArena().getSeed(), this.physicsRate));
+        }
+    }
+
+    /**
+     * Completes the current {@link InputRecording}, if any, and hands it to the sink.
+     */
+    private void finishRecording() {
+        this.recorder.ifPresent(r -> this.recordingSink.orElseThrow().accept(r.build(this.tick)));
+        this.recorder = Optional.empty();
+    }
+
+    /**
+     * Executes a {@link Command} drained from the ring. The consecutive movements
+     * of the {@link it.unibo.pyxis.model.element.pad.Pad} are only summed, to be
+     * executed as a single net displacement before the next different {@link Command}.
+     *
+     * @param command The {@link Command}.
+     * @param level The current {@link Level}.
+     */
+    private void execute(final Command<Level> command, final Level level) {
+        if (command == LevelCommand.MOVE_PAD_LEFT) {
+            this.padSteps--;
+        } else if (command == LevelCommand.MOVE_PAD_RIGHT) {
+            this.padSteps++;
+        } else {
+            this.movePad(level);
+            command.execute(level);
+        }
+    }
+
+    /**
+     * Moves the {@link it.unibo.pyxis.model.element.pad.Pad} of the net displacement
+     * summed so far, one {@link LevelCommand} at a time so that it's recorded and
+     * replayed the same way.
+     *
+     * @param level The current {@link Level}.
+     */
+    private void movePad(final Level level) {
+        final LevelCommand command = this.padSteps < 0 ? LevelCommand.MOVE_PAD_LEFT : LevelCommand.MOVE_PAD_RIGHT;
+        for (int i = Math.abs(this.padSteps); i > 0; i--) {
+            command.execute(level);
+            this.recorder.ifPresent(r -> r.add(this.tick, command));
+        }
+        this.padSteps = 0;
+    }
+
+    /**
+     * Samples the held {@link InputKey}s and steers the
+     * {@link it.unibo.pyxis.model.element.pad.Pad} of the current {@link Level},
+     * sending and recording a {@link LevelCommand} only when the direction changes.
+     *
+     * @param level The current {@link Level}.
+     */
+    private void steerPad(final Level level) {
+        if (level != this.steeredLevel) {
+            this.steeredLevel = level;
+            this.padSteering = 0;
+        }
+        final int sample = this.linker.getInputState().sample();
+        int direction = 0;
+        if (InputKey.PAD_LEFT.isPressedIn(sample)) {
+            direction--;
+        }
+        if (InputKey.PAD_RIGHT.isPressedIn(sample)) {
+            direction++;
+        }
+        if (direction == this.padSteering) {
+            return;
+        }
+        final LevelCommand command;
+        if (direction < 0) {
+            command = LevelCommand.STEER_PAD_LEFT;
+        } else if (direction > 0) {
+            command = LevelCommand.STEER_PAD_RIGHT;
+        } else {
+            command = LevelCommand.STOP_PAD;
+        }
+        command.execute(level);
+        this.recorder.ifPresent(r -> r.add(this.tick, command));
+        this.padSteering = direction;
+    }
+
+    /**
+     * Checks if the current {@link Level} is still being played, so that it
+     * can be advanced of another physics step.
+     *
+     * @return True if the {@link LevelStatus} of the current {@link Level} is PLAYING.
+     *         False otherwise.
+     */
+    private boolean isCurrentLevelPlaying() {
+        return this.linker.getGameState().getCurrentLevel().getLevelStatus() == LevelStatus.PLAYING;
     }
 
     /**
@@ -58,19 +219,28 @@ public final class GameLoopImpl extends Thread implements GameLoop {
     @Override
     public void addCommand(final Command<Level> command) {
         if (this.linker.getGameState().getState() == StateEnum.RUN) {
-            this.commandQueue.add(command);
+            this.commandRing.offer(command);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getInterpolationFactor() {
+        return this.interpolationFactor;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void processInput() {
-        if (!this.commandQueue.isEmpty()) {
-            final Command<Level> nextCommand = this.commandQueue.poll();
-            nextCommand.execute(this.linker.getGameState().getCurrentLevel());
-        }
+        final Level currentLevel = this.linker.getGameState().getCurrentLevel();
+        this.startRecording(currentLevel);
+        this.commandRing.drain(command -> this.execute(command, currentLevel));
+        this.movePad(currentLevel);
+        this.steerPad(currentLevel);
     }
 
     /**
@@ -78,6 +248,7 @@ public final class GameLoopImpl extends Thread implements GameLoop {
      */
     @Override
     public void render() {
+        this.linker.getGameState().getCurrentLevel().getArena().publishRenderSnapshot(this.interpolationFactor);
         Platform.runLater(this.linker::render);
     }
 
@@ -86,18 +257,33 @@ public final class GameLoopImpl extends Thread implements GameLoop {
      */
     @Override
     public void run() {
-        long lastTime = System.currentTimeMillis();
+        long lastTime = System.nanoTime();
+        double accumulator = 0;
         while (this.linker.getGameState().getState() != StateEnum.STOP) {
-            final long current = System.currentTimeMillis();
-            final int elapsed = (int) (current - lastTime);
+            final long frameStart = System.currentTimeMillis();
+            final long current = System.nanoTime();
+            this.linker.getGameState().cleanUpRetiredLevels();
             if (this.linker.getGameState().getState() == StateEnum.RUN) {
-                this.processInput();
-                this.update(elapsed);
+                accumulator += (current - lastTime) / NANOS_PER_MILLI;
+                int steps = 0;
+                while (accumulator >= this.step && steps < MAX_STEPS_PER_FRAME
+                        && this.linker.getGameState().getState() == StateEnum.RUN
+                        && this.isCurrentLevelPlaying()) {
+                    this.processInput();
+                    this.update(this.step);
+                    accumulator -= this.step;
+                    steps++;
+                }
+                accumulator = Math.min(accumulator, this.step);
+                this.interpolationFactor = accumulator / this.step;
+            } else {
+                accumulator = 0;
+                this.interpolationFactor = 1;
             }
             if (this.conditionProcessRender()) {
                 this.render();
             }
-            this.waitForNextFrame(current);
+            this.waitForNextFrame(frameStart);
             lastTime = current;
         }
     }
@@ -107,8 +293,14 @@ public final class GameLoopImpl extends Thread implements GameLoop {
      */
     @Override
     public void update(final double elapsed) {
-        this.linker.getGameState().update(elapsed);
-        if (this.linker.getGameState().getCurrentLevel().getLevelStatus() != LevelStatus.PLAYING) {
+        final Level currentLevel = this.linker.getGameState().getCurrentLevel();
+        if (currentLevel.getLevelStatus() == LevelStatus.PLAYING) {
+            this.linker.getGameState().update(elapsed);
+            this.tick++;
+        }
+        if (currentLevel.getLevelStatus() != LevelStatus.PLAYING && currentLevel != this.endedLevel) {
+            this.endedLevel = currentLevel;
+            this.finishRecording();
             Platform.runLater(this.linker::endLevel);
         }
     }
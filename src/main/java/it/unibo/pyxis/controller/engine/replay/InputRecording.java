@@ -0,0 +1,63 @@
+package it.unibo.pyxis.controller.engine.replay;
+
+import it.unibo.pyxis.controller.command.Command;
+import it.unibo.pyxis.model.level.Level;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * The input received while playing a {@link Level}, together with everything
+ * needed to play it again in the same way: the seed of its random choices and
+ * the physics rate. The {@link Command}s are indexed by the physics step in
+ * which they have been executed.
+ */
+public interface InputRecording {
+
+    /**
+     * Returns the {@link Command}s executed before the physics step of the input tick.
+     *
+     * @param tick The number of the tick, starting from 0.
+     * @return The {@link List} of {@link Command}s, in order of execution.
+     */
+    List<Command<Level>> commandsAt(long tick);
+
+    /**
+     * Returns the number of the recorded {@link Level}.
+     *
+     * @return The {@link Level} number.
+     */
+    int getLevelNumber();
+
+    /**
+     * Returns the number of physics steps per second used while recording.
+     *
+     * @return The physics rate.
+     */
+    int getPhysicsRate();
+
+    /**
+     * Returns the seed of the {@link it.unibo.pyxis.model.arena.Arena} of the
+     * recorded {@link Level}.
+     *
+     * @return The seed.
+     */
+    long getSeed();
+
+    /**
+     * Returns the number of physics steps recorded.
+     *
+     * @return The number of ticks.
+     */
+    long getTicks();
+
+    /**
+     * Writes the {@link InputRecording} in a text format that can be read back
+     * with {@link InputRecordingImpl#readFrom(java.io.Reader)}.
+     *
+     * @param writer The {@link Writer} to write to.
+     * @throws IOException If the {@link Writer} fails.
+     */
+    void writeTo(Writer writer) throws IOException;
+}
@@ -0,0 +1,191 @@
+package it.unibo.pyxis.controller.engine.replay;
+
+import it.unibo.pyxis.controller.command.Command;
+import it.unibo.pyxis.controller.command.LevelCommand;
+import it.unibo.pyxis.model.level.Level;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class InputRecordingImpl implements InputRecording {
+
+    private static final String HEADER = "pyxis-recording 1";
+    private static final String LEVEL_KEY = "level";
+    private static final String SEED_KEY = "seed";
+    private static final String RATE_KEY = "rate";
+    private static final String TICKS_KEY = "ticks";
+    private static final String SEPARATOR = " ";
+
+    private final int levelNumber;
+    private final long seed;
+    private final int physicsRate;
+    private final long ticks;
+    private final Map<Long, List<Command<Level>>> commands;
+
+    private InputRecordingImpl(final int inputLevelNumber, final long inputSeed, final int inputPhysicsRate,
+                               final long inputTicks, final Map<Long, List<Command<Level>>> inputCommands) {
+        this.levelNumber = inputLevelNumber;
+        this.seed = inputSeed;
+        this.physicsRate = inputPhysicsRate;
+        this.ticks = inputTicks;
+        this.commands = inputCommands;
+    }
+
+    /**
+     * Reads the value of a header line with the input key.
+     *
+     * @param reader The {@link BufferedReader} to read from.
+     * @param key The expected key.
+     * @return The value.
+     * @throws IOException If the {@link BufferedReader} fails or the line is not the expected one.
+     */
+    private static String readHeaderValue(final BufferedReader reader, final String key) throws IOException {
+        final String line = reader.readLine();
+        if (line == null || !line.startsWith(key + SEPARATOR)) {
+            throw new IOException("Missing " + key + " in the recording");
+        }
+        return line.substring(key.length() + SEPARATOR.length()).trim();
+    }
+
+    /**
+     * Reads an {@link InputRecording} written by {@link InputRecording#writeTo(Writer)}.
+     *
+     * @param reader The {@link Reader} to read from.
+     * @return The {@link InputRecording} read.
+     * @throws IOException If the {@link Reader} fails or its content is not a recording.
+     */
+    public static InputRecording readFrom(final Reader reader) throws IOException {
+        final BufferedReader bufferedReader = new BufferedReader(reader);
+        if (!HEADER.equals(bufferedReader.readLine())) {
+            throw new IOException("Not a recording");
+        }
+        try {
+            final Builder builder = new Builder(Integer.parseInt(readHeaderValue(bufferedReader, LEVEL_KEY)),
+                    Long.parseLong(readHeaderValue(bufferedReader, SEED_KEY)),
+                    Integer.parseInt(readHeaderValue(bufferedReader, RATE_KEY)));
+            final long ticks = Long.parseLong(readHeaderValue(bufferedReader, TICKS_KEY));
+            String line = bufferedReader.readLine();
+            while (line != null) {
+                if (!line.isBlank()) {
+                    final String[] fields = line.trim().split(SEPARATOR);
+                    builder.add(Long.parseLong(fields[0]), LevelCommand.valueOf(fields[1]));
+                }
+                line = bufferedReader.readLine();
+            }
+            return builder.build(ticks);
+        } catch (final IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Malformed recording", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Command<Level>> commandsAt(final long tick) {
+        return this.commands.getOrDefault(tick, Collections.emptyList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLevelNumber() {
+        return this.levelNumber;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPhysicsRate() {
+        return this.physicsRate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeTo(final Writer writer) throws IOException {
+        writer.write(HEADER + System.lineSeparator());
+        writer.write(LEVEL_KEY + SEPARATOR + this.levelNumber + System.lineSeparator());
+        writer.write(SEED_KEY + SEPARATOR + this.seed + System.lineSeparator());
+        writer.write(RATE_KEY + SEPARATOR + this.physicsRate + System.lineSeparator());
+        writer.write(TICKS_KEY + SEPARATOR + this.ticks + System.lineSeparator());
+        for (final Map.Entry<Long, List<Command<Level>>> entry : this.commands.entrySet()) {
+            for (final Command<Level> command : entry.getValue()) {
+                writer.write(entry.getKey() + SEPARATOR + ((LevelCommand) command).name() + System.lineSeparator());
+            }
+        }
+        writer.flush();
+    }
+
+    public static final class Builder {
+
+        private final int levelNumber;
+        private final long seed;
+        private final int physicsRate;
+        private final Map<Long, List<Command<Level>>> commands;
+
+        public Builder(final int inputLevelNumber, final long inputSeed, final int inputPhysicsRate) {
+            if (inputPhysicsRate <= 0) {
+                throw new IllegalArgumentException("The physics rate must be positive");
+            }
+            this.levelNumber = inputLevelNumber;
+            this.seed = inputSeed;
+            this.physicsRate = inputPhysicsRate;
+            this.commands = new TreeMap<>();
+        }
+
+        /**
+         * Records a {@link LevelCommand} executed before the physics step of the input tick.
+         *
+         * @param tick The number of the tick.
+         * @param command The {@link LevelCommand} executed.
+         * @return The {@link Builder}.
+         */
+        public Builder add(final long tick, final LevelCommand command) {
+            if (tick < 0) {
+                throw new IllegalArgumentException("The tick must not be negative");
+            }
+            this.commands.computeIfAbsent(tick, t -> new ArrayList<>()).add(command);
+            return this;
+        }
+
+        /**
+         * Builds the {@link InputRecording}.
+         *
+         * @param ticks The number of physics steps recorded.
+         * @return The {@link InputRecording}.
+         */
+        public InputRecording build(final long ticks) {
+            final Map<Long, List<Command<Level>>> recordedCommands = new TreeMap<>();
+            this.commands.forEach((tick, tickCommands) -> recordedCommands.put(tick, List.copyOf(tickCommands)));
+            return new InputRecordingImpl(this.levelNumber, this.seed, this.physicsRate, ticks,
+                    Collections.unmodifiableMap(recordedCommands));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package it.unibo.pyxis.controller.input;
+
+/**
+ * The keys whose state is sampled by the {@link it.unibo.pyxis.controller.engine.GameLoop}
+ * at every physics step, rather than sent as commands.
+ */
+public enum InputKey {
+
+    /**
+     * Moves the {@link it.unibo.pyxis.model.element.pad.Pad} to the left while held.
+     */
+    PAD_LEFT,
+
+    /**
+     * Moves the {@link it.unibo.pyxis.model.element.pad.Pad} to the right while held.
+     */
+    PAD_RIGHT;
+
+    /**
+     * Returns the bit representing the key in a sample of an {@link InputState}.
+     *
+     * @return The bit of the key.
+     */
+    public int getMask() {
+        return 1 << this.ordinal();
+    }
+
+    /**
+     * Checks if the key is pressed in a sample of an {@link InputState}.
+     *
+     * @param sample The sample.
+     * @return True if the key is pressed, false otherwise.
+     */
+    public boolean isPressedIn(final int sample) {
+        return (sample & this.getMask()) != 0;
+    }
+}
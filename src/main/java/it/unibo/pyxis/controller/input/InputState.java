@@ -0,0 +1,36 @@
+package it.unibo.pyxis.controller.input;
+
+/**
+ * The set of the {@link InputKey}s currently held. Any thread can press and
+ * release them, while the {@link it.unibo.pyxis.controller.engine.GameLoop}
+ * reads all of them at once with {@link #sample()}.
+ */
+public interface InputState {
+
+    /**
+     * Marks an {@link InputKey} as held.
+     *
+     * @param key The {@link InputKey}.
+     */
+    void press(InputKey key);
+
+    /**
+     * Marks an {@link InputKey} as released.
+     *
+     * @param key The {@link InputKey}.
+     */
+    void release(InputKey key);
+
+    /**
+     * Marks all the {@link InputKey}s as released.
+     */
+    void releaseAll();
+
+    /**
+     * Returns the held {@link InputKey}s, as a bit set to query
+     * with {@link InputKey#isPressedIn(int)}.
+     *
+     * @return The sample of the held {@link InputKey}s.
+     */
+    int sample();
+}
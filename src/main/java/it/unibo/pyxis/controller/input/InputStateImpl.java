@@ -0,0 +1,44 @@
+package it.unibo.pyxis.controller.input;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class InputStateImpl implements InputState {
+
+    private final AtomicInteger pressedKeys;
+
+    public InputStateImpl() {
+        this.pressedKeys = new AtomicInteger();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void press(final InputKey key) {
+        this.pressedKeys.getAndUpdate(keys -> keys | key.getMask());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(final InputKey key) {
+        this.pressedKeys.getAndUpdate(keys -> keys & ~key.getMask());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void releaseAll() {
+        this.pressedKeys.set(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int sample() {
+        return this.pressedKeys.get();
+    }
+}
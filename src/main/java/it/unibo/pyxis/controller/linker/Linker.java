@@ -1,6 +1,7 @@
 package it.unibo.pyxis.controller.linker;
 
 import it.unibo.pyxis.controller.command.Command;
+import it.unibo.pyxis.controller.input.InputState;
 import it.unibo.pyxis.model.level.Level;
 import it.unibo.pyxis.model.state.GameState;
 import it.unibo.pyxis.view.scene.SceneHandler;
@@ -20,6 +21,22 @@ public interface Linker {
      */
     GameState getGameState();
 
+    /**
+     * Returns the {@link InputState} sampled by the
+     * {@link it.unibo.pyxis.controller.engine.GameLoop} at every physics step.
+     *
+     * @return The {@link InputState}.
+     */
+    InputState getInputState();
+
+    /**
+     * Returns the factor used to interpolate the positions of the
+     * {@link it.unibo.pyxis.model.element.Element}s while rendering.
+     *
+     * @return The interpolation factor of the {@link it.unibo.pyxis.controller.engine.GameLoop}.
+     */
+    double getInterpolationFactor();
+
     /**
      * Returns the maximum level reached by the player during the actual game session.
      *
@@ -3,6 +3,9 @@ package it.unibo.pyxis.controller.linker;
 import it.unibo.pyxis.controller.command.Command;
 import it.unibo.pyxis.controller.engine.GameLoop;
 import it.unibo.pyxis.controller.engine.GameLoopImpl;
+import it.unibo.pyxis.controller.engine.replay.InputRecording;
+import it.unibo.pyxis.controller.input.InputState;
+import it.unibo.pyxis.controller.input.InputStateImpl;
 import it.unibo.pyxis.model.level.Level;
 import it.unibo.pyxis.model.level.status.LevelStatus;
 import it.unibo.pyxis.model.state.GameState;
@@ -12,19 +15,40 @@ import it.unibo.pyxis.view.scene.SceneHandler;
 import it.unibo.pyxis.view.scene.SceneType;
 import it.unibo.pyxis.view.RenderableView;
 
+import java.util.Optional;
+import java.util.function.Consumer;
+
 public class LinkerImpl implements Linker {
 
+    private final Optional<Consumer<InputRecording>> recordingSink;
+    private final InputState inputState;
     private GameState gameState;
     private SceneHandler sceneHandler;
     private GameLoop gameLoop;
     private int maximumLevelReached;
 
-    public LinkerImpl() {
+    private LinkerImpl(final Optional<Consumer<InputRecording>> inputRecordingSink) {
+        this.recordingSink = inputRecordingSink;
+        this.inputState = new InputStateImpl();
         this.createGameState();
         this.createGameLoop();
         this.maximumLevelReached = 1;
     }
 
+    /**
+     * Creates a {@link Linker} whose {@link GameLoop} records the input of
+     * every {@link Level} played.
+     *
+     * @param inputRecordingSink The consumer of the {@link InputRecording}s.
+     */
+    public LinkerImpl(final Consumer<InputRecording> inputRecordingSink) {
+        this(Optional.of(inputRecordingSink));
+    }
+
+    public LinkerImpl() {
+        this(Optional.empty());
+    }
+
     /**
      * Establishes if a command can be handled.
      *
@@ -43,7 +67,9 @@ public class LinkerImpl implements Linker {
      * Creates and start a new {@link GameLoop} instance.
      */
     private void createGameLoop() {
-        this.gameLoop = new GameLoopImpl(this);
+        this.gameLoop = this.recordingSink
+                .<GameLoop>map(sink -> new GameLoopImpl(this, sink))
+                .orElseGet(() -> new GameLoopImpl(this));
         this.gameLoop.start();
     }
 
@@ -83,6 +109,22 @@ public class LinkerImpl implements Linker {
         return this.gameState;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final InputState getInputState() {
+        return this.inputState;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getInterpolationFactor() {
+        return this.gameLoop.getInterpolationFactor();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -138,6 +180,7 @@ public class LinkerImpl implements Linker {
     public final void pause() {
         if (this.gameState.getState() != StateEnum.PAUSE) {
             this.gameState.setState(StateEnum.PAUSE);
+            this.inputState.releaseAll();
             this.gameState.getCurrentLevel().getArena().getPowerupHandler().pause();
         }
         this.switchScene(SceneType.PAUSE_SCENE);
@@ -1,21 +1,56 @@
 package it.unibo.pyxis.ecs;
 
 import it.unibo.pyxis.ecs.component.Component;
+import it.unibo.pyxis.ecs.storage.ComponentStorage;
+import it.unibo.pyxis.ecs.storage.LocalComponentStorage;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 public class EntityImpl implements Entity {
 
-    private final Map<Class<?>, Component<?>> componentMap = new HashMap<>();
+    private static final ClassValue<List<Class<?>>> SUPER_INTERFACES = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(final Class<?> type) {
+            return List.of(type.getInterfaces());
+        }
+    };
+    private static final ClassValue<Optional<Class<?>>> COMPONENT_INTERFACES = new ClassValue<>() {
+        @Override
+        protected Optional<Class<?>> computeValue(final Class<?> type) {
+            return findComponentInterface(type);
+        }
+    };
+
+    private final ComponentStorage storage;
+    private final int entityId;
+
+    /**
+     * Creates an {@link Entity} keeping its {@link Component}s in the input
+     * {@link ComponentStorage}, which can be shared with other entities.
+     *
+     * @param inputStorage The {@link ComponentStorage}.
+     */
+    public EntityImpl(final ComponentStorage inputStorage) {
+        this.storage = inputStorage;
+        this.entityId = inputStorage.createEntity();
+    }
+
+    /**
+     * Creates an {@link Entity} keeping its {@link Component}s in a
+     * {@link LocalComponentStorage} of its own.
+     */
+    public EntityImpl() {
+        this(new LocalComponentStorage());
+    }
 
     /**
      * Extracts a registered {@link Component} interface from the one in input.
      * The method will check first if the given interface is already registered in the
-     * {@link Entity}, if not it will search for one of the other super interfaces.
+     * {@link Entity}, if not it will search for one of the other super interfaces,
+     * which are resolved only once for each interface.
      *
      * @param inputInterface The starting interface
      * @return An {@link Optional} with the registered interface if inputInterface is
@@ -24,21 +59,26 @@ public class EntityImpl implements Entity {
     private Optional<Class<?>> extractRegisteredInterface(final Class<?> inputInterface) {
         if (Objects.isNull(inputInterface)) {
             return Optional.empty();
-        } else if (this.componentMap.containsKey(inputInterface)) {
+        } else if (this.storage.contains(this.entityId, inputInterface)) {
             return Optional.of(inputInterface);
         }
-        final Class<?>[] superInterfaces = inputInterface.getInterfaces();
-        return Arrays.stream(superInterfaces).filter(this.componentMap::containsKey).findFirst();
+        for (final Class<?> superInterface : SUPER_INTERFACES.get(inputInterface)) {
+            if (this.storage.contains(this.entityId, superInterface)) {
+                return Optional.of(superInterface);
+            }
+        }
+        return Optional.empty();
     }
 
     /**
-     * Extracts the interface of an input {@link Component}.
+     * Extracts the interface of a {@link Component} class. The result is memoised
+     * for each class by {@link #COMPONENT_INTERFACES}.
      *
-     * @param component The {@link Component}.
+     * @param componentClass The class of the {@link Component}.
      * @return An {@link Optional} with the {@link Component} interface.
      */
-    private Optional<Class<?>> findComponentInterface(final Component<?> component) {
-        Class<?> actualClass = component.getClass();
+    private static Optional<Class<?>> findComponentInterface(final Class<?> componentClass) {
+        Class<?> actualClass = componentClass;
         while (!actualClass.getName().equals(Object.class.getName())) {
             final Class<?>[] compInterfaces = actualClass.getInterfaces();
             if (compInterfaces.length != 0) {
@@ -59,11 +99,13 @@ public class EntityImpl implements Entity {
      */
     @Override
     public final <C extends Component<?>> C getComponent(final Class<C> componentInterface) {
-        if (!this.hasComponent(componentInterface)) {
-            throw new IllegalArgumentException("The component isn't registered in this entity");
+        final Optional<Component<?>> component = this.storage.get(this.entityId, componentInterface);
+        if (component.isPresent()) {
+            return componentInterface.cast(component.get());
         }
-        final Class<?> regInterface = this.extractRegisteredInterface(componentInterface).orElseThrow();
-        return componentInterface.cast(this.componentMap.get(regInterface));
+        final Class<?> regInterface = this.extractRegisteredInterface(componentInterface)
+                .orElseThrow(() -> new IllegalArgumentException("The component isn't registered in this entity"));
+        return componentInterface.cast(this.storage.get(this.entityId, regInterface).orElseThrow());
     }
 
     /**
@@ -82,10 +124,10 @@ public class EntityImpl implements Entity {
         if (component.isAttached()) {
            throw new IllegalStateException("The input component is already attached to an entity");
         }
-        final Optional<Class<?>> componentClass = findComponentInterface(component);
+        final Optional<Class<?>> componentClass = COMPONENT_INTERFACES.get(component.getClass());
         if (componentClass.isPresent() && !this.hasComponent(componentClass.get())) {
             component.attach();
-            this.componentMap.put(componentClass.get(), component);
+            this.storage.put(this.entityId, componentClass.get(), component);
         }
     }
 
@@ -94,11 +136,9 @@ public class EntityImpl implements Entity {
      */
     @Override
     public final <C extends Component<?>> void removeComponent(final Class<C> componentInterface) {
-        if (!this.hasComponent(componentInterface)) {
-            throw new IllegalArgumentException("The component isn't registered in this entity");
-        }
-        final Class<?> regInterface = this.extractRegisteredInterface(componentInterface).orElseThrow();
-        final Component<?> removedComponent = this.componentMap.remove(regInterface);
+        final Class<?> regInterface = this.extractRegisteredInterface(componentInterface)
+                .orElseThrow(() -> new IllegalArgumentException("The component isn't registered in this entity"));
+        final Component<?> removedComponent = this.storage.remove(this.entityId, regInterface).orElseThrow();
         removedComponent.detach();
     }
 }
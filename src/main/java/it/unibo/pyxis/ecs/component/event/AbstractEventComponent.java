@@ -2,19 +2,105 @@ package it.unibo.pyxis.ecs.component.event;
 
 import it.unibo.pyxis.ecs.Entity;
 import it.unibo.pyxis.ecs.component.AbstractComponent;
-import org.greenrobot.eventbus.EventBus;
+import it.unibo.pyxis.model.event.BatchListener;
+import it.unibo.pyxis.model.event.Event;
+import it.unibo.pyxis.model.event.EventDispatcher;
+import it.unibo.pyxis.model.event.EventListener;
+import it.unibo.pyxis.model.event.RoutingKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 public abstract class AbstractEventComponent<E extends Entity> extends AbstractComponent<E> implements EventComponent<E> {
 
-    public AbstractEventComponent(final E entity) {
+    private final EventDispatcher dispatcher;
+    private final List<Subscription> subscriptions;
+    private boolean attached;
+
+    public AbstractEventComponent(final E entity, final EventDispatcher inputDispatcher) {
         super(entity);
+        this.dispatcher = inputDispatcher;
+        this.subscriptions = new ArrayList<>();
+    }
+
+    /**
+     * Declares an {@link EventListener} to subscribe to the {@link EventDispatcher}
+     * while the component is attached. It must be called in the constructor.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param listener The {@link EventListener}.
+     * @param <T> The type of the {@link Event}s.
+     */
+    protected final <T extends Event> void subscribe(final Class<T> eventType,
+                                                     final EventListener<? super T> listener) {
+        this.subscriptions.add(new Subscription(d -> d.subscribe(eventType, listener),
+                d -> d.unsubscribe(eventType, listener)));
     }
+
+    /**
+     * Declares an {@link EventListener} to subscribe to the {@link EventDispatcher}
+     * for the {@link Event}s with a key while the component is attached.
+     * It must be called in the constructor.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param routingKey The {@link RoutingKey} of the {@link Event}s.
+     * @param key The key of the {@link Event}s to receive.
+     * @param listener The {@link EventListener}.
+     * @param <T> The type of the {@link Event}s.
+     */
+    protected final <T extends Event> void subscribe(final Class<T> eventType, final RoutingKey<? super T> routingKey,
+                                                     final long key, final EventListener<? super T> listener) {
+        this.subscriptions.add(new Subscription(d -> d.subscribe(eventType, routingKey, key, listener),
+                d -> d.unsubscribe(eventType, routingKey, key, listener)));
+    }
+
+    /**
+     * Declares a deferred {@link EventListener} to subscribe to the {@link EventDispatcher}
+     * while the component is attached. It must be called in the constructor.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param listener The {@link EventListener}.
+     * @param <T> The type of the {@link Event}s.
+     */
+    protected final <T extends Event> void subscribeDeferred(final Class<T> eventType,
+                                                             final EventListener<? super T> listener) {
+        this.subscriptions.add(new Subscription(d -> d.subscribeDeferred(eventType, listener),
+                d -> d.unsubscribeDeferred(eventType, listener)));
+    }
+
+    /**
+     * Declares a {@link BatchListener} to subscribe to the {@link EventDispatcher}
+     * while the component is attached. It must be called in the constructor.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param listener The {@link BatchListener}.
+     * @param <T> The type of the {@link Event}s.
+     */
+    protected final <T extends Event> void subscribeBatch(final Class<T> eventType,
+                                                          final BatchListener<? super T> listener) {
+        this.subscriptions.add(new Subscription(d -> d.subscribeBatch(eventType, listener),
+                d -> d.unsubscribeBatch(eventType, listener)));
+    }
+
+    /**
+     * Posts an {@link Event} on the {@link EventDispatcher} of the component.
+     *
+     * @param event The {@link Event} to post.
+     */
+    protected final void post(final Event event) {
+        this.dispatcher.post(event);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public final void attach() {
-        EventBus.getDefault().register(this);
+        if (!this.attached) {
+            this.subscriptions.forEach(s -> s.subscribeTo(this.dispatcher));
+            this.attached = true;
+        }
     }
 
     /**
@@ -22,7 +108,10 @@ public abstract class AbstractEventComponent<E extends Entity> extends AbstractC
      */
     @Override
     public final void detach() {
-        EventBus.getDefault().unregister(this);
+        if (this.attached) {
+            this.subscriptions.forEach(s -> s.unsubscribeFrom(this.dispatcher));
+            this.attached = false;
+        }
     }
 
     /**
@@ -30,6 +119,26 @@ public abstract class AbstractEventComponent<E extends Entity> extends AbstractC
      */
     @Override
     public final boolean isAttached() {
-        return EventBus.getDefault().isRegistered(this);
+        return this.attached;
+    }
+
+    private static final class Subscription {
+
+        private final Consumer<EventDispatcher> subscriber;
+        private final Consumer<EventDispatcher> unsubscriber;
+
+        Subscription(final Consumer<EventDispatcher> inputSubscriber,
+                     final Consumer<EventDispatcher> inputUnsubscriber) {
+            this.subscriber = inputSubscriber;
+            this.unsubscriber = inputUnsubscriber;
+        }
+
+        void subscribeTo(final EventDispatcher dispatcher) {
+            this.subscriber.accept(dispatcher);
+        }
+
+        void unsubscribeFrom(final EventDispatcher dispatcher) {
+            this.unsubscriber.accept(dispatcher);
+        }
     }
 }
@@ -0,0 +1,186 @@
+package it.unibo.pyxis.ecs.storage;
+
+import it.unibo.pyxis.ecs.component.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The {@link Component}s of all the entities registered with the same set of
+ * interfaces, the signature. Each interface has a dense column and each
+ * entity a row shared by all the columns.
+ */
+final class Archetype {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private final Set<Class<?>> signature;
+    private final Map<Class<?>, Component<?>[]> columns;
+    private final Map<Class<?>, Archetype> additions;
+    private final Map<Class<?>, Archetype> removals;
+    private int[] entities;
+    private int size;
+
+    Archetype(final Set<Class<?>> inputSignature) {
+        this.signature = Set.copyOf(inputSignature);
+        this.columns = new HashMap<>();
+        this.signature.forEach(c -> this.columns.put(c, new Component<?>[INITIAL_CAPACITY]));
+        this.additions = new HashMap<>();
+        this.removals = new HashMap<>();
+        this.entities = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the signature obtained adding or removing an interface from this one.
+     *
+     * @param componentInterface The interface to add or remove.
+     * @param add True to add the interface, false to remove it.
+     * @return The new signature.
+     */
+    Set<Class<?>> edgeSignature(final Class<?> componentInterface, final boolean add) {
+        final Set<Class<?>> edge = new HashSet<>(this.signature);
+        if (add) {
+            edge.add(componentInterface);
+        } else {
+            edge.remove(componentInterface);
+        }
+        return edge;
+    }
+
+    /**
+     * Returns the cached {@link Archetype} reached adding or removing an interface.
+     *
+     * @param componentInterface The interface added or removed.
+     * @param add True if the interface is added, false if removed.
+     * @return The {@link Archetype}, null if it hasn't been cached yet.
+     */
+    Archetype getEdge(final Class<?> componentInterface, final boolean add) {
+        return add ? this.additions.get(componentInterface) : this.removals.get(componentInterface);
+    }
+
+    /**
+     * Caches the {@link Archetype} reached adding or removing an interface.
+     *
+     * @param componentInterface The interface added or removed.
+     * @param add True if the interface is added, false if removed.
+     * @param archetype The {@link Archetype} reached.
+     */
+    void setEdge(final Class<?> componentInterface, final boolean add, final Archetype archetype) {
+        if (add) {
+            this.additions.put(componentInterface, archetype);
+        } else {
+            this.removals.put(componentInterface, archetype);
+        }
+    }
+
+    /**
+     * Appends an empty row for an entity.
+     *
+     * @param entity The id of the entity.
+     * @return The index of the row.
+     */
+    int addRow(final int entity) {
+        if (this.size == this.entities.length) {
+            final int capacity = this.size * 2;
+            this.entities = Arrays.copyOf(this.entities, capacity);
+            this.columns.replaceAll((c, column) -> Arrays.copyOf(column, capacity));
+        }
+        this.entities[this.size] = entity;
+        return this.size++;
+    }
+
+    /**
+     * Copies into a row of another {@link Archetype} the {@link Component}s of
+     * a row of this one whose interface belongs to both signatures.
+     *
+     * @param row The row of this {@link Archetype}.
+     * @param target The target {@link Archetype}.
+     * @param targetRow The row of the target {@link Archetype}.
+     */
+    void copyRow(final int row, final Archetype target, final int targetRow) {
+        for (final Map.Entry<Class<?>, Component<?>[]> entry : this.columns.entrySet()) {
+            final Component<?>[] targetColumn = target.columns.get(entry.getKey());
+            if (!Objects.isNull(targetColumn)) {
+                targetColumn[targetRow] = entry.getValue()[row];
+            }
+        }
+    }
+
+    /**
+     * Removes a row moving the last one in its place.
+     *
+     * @param row The index of the row to remove.
+     * @return The id of the entity moved in the removed row, -1 if the removed row was the last one.
+     */
+    int removeRow(final int row) {
+        final int last = this.size - 1;
+        final int moved = row == last ? -1 : this.entities[last];
+        for (final Component<?>[] column : this.columns.values()) {
+            column[row] = column[last];
+            column[last] = null;
+        }
+        this.entities[row] = this.entities[last];
+        this.size--;
+        return moved;
+    }
+
+    /**
+     * Returns the {@link Component} of a row registered with the input interface.
+     *
+     * @param row The index of the row.
+     * @param componentInterface The interface of the {@link Component}.
+     * @return The {@link Component}, null if the interface isn't in the signature.
+     */
+    Component<?> get(final int row, final Class<?> componentInterface) {
+        final Component<?>[] column = this.columns.get(componentInterface);
+        return Objects.isNull(column) ? null : column[row];
+    }
+
+    /**
+     * Sets the {@link Component} of a row registered with the input interface.
+     *
+     * @param row The index of the row.
+     * @param componentInterface The interface of the {@link Component}, in the signature.
+     * @param component The {@link Component}.
+     */
+    void set(final int row, final Class<?> componentInterface, final Component<?> component) {
+        this.columns.get(componentInterface)[row] = component;
+    }
+
+    /**
+     * Applies an action to every {@link Component} of a column.
+     *
+     * @param componentInterface The interface of the column, in the signature.
+     * @param action The action to apply.
+     * @param <C> The type of the {@link Component}s.
+     */
+    <C> void forEach(final Class<C> componentInterface, final Consumer<? super C> action) {
+        final Component<?>[] column = this.columns.get(componentInterface);
+        for (int row = 0; row < this.size; row++) {
+            action.accept(componentInterface.cast(column[row]));
+        }
+    }
+
+    /**
+     * Checks if an interface belongs to the signature.
+     *
+     * @param componentInterface The interface.
+     * @return True if the interface is in the signature, false otherwise.
+     */
+    boolean has(final Class<?> componentInterface) {
+        return this.columns.containsKey(componentInterface);
+    }
+
+    /**
+     * Returns the interfaces of the {@link Archetype}.
+     *
+     * @return The signature.
+     */
+    Set<Class<?>> getSignature() {
+        return this.signature;
+    }
+}
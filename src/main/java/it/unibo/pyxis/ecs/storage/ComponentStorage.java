@@ -0,0 +1,78 @@
+package it.unibo.pyxis.ecs.storage;
+
+import it.unibo.pyxis.ecs.Entity;
+import it.unibo.pyxis.ecs.component.Component;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Stores the {@link Component}s of one or more {@link Entity}s, each one
+ * identified by the id returned by {@link #createEntity()} and each of its
+ * {@link Component}s by the interface it has been registered with.
+ * The implementations aren't thread safe: the {@link Component}s can be read
+ * concurrently only while no thread is modifying the storage.
+ */
+public interface ComponentStorage {
+
+    /**
+     * Checks if the {@link Entity} has a {@link Component} registered with the input interface.
+     *
+     * @param entity The id of the {@link Entity}.
+     * @param componentInterface The interface of the {@link Component}.
+     * @return True if the {@link Component} is stored, false otherwise.
+     */
+    boolean contains(int entity, Class<?> componentInterface);
+
+    /**
+     * Reserves the storage for a new {@link Entity}.
+     *
+     * @return The id of the {@link Entity}.
+     */
+    int createEntity();
+
+    /**
+     * Releases the storage of an {@link Entity}, dropping its {@link Component}s
+     * without detaching them. Its id can be returned again by {@link #createEntity()}.
+     *
+     * @param entity The id of the {@link Entity}.
+     */
+    void destroyEntity(int entity);
+
+    /**
+     * Applies an action to every stored {@link Component} registered with the input interface.
+     *
+     * @param componentInterface The interface of the {@link Component}s.
+     * @param action The action to apply.
+     * @param <C> The type of the {@link Component}s.
+     */
+    <C> void forEach(Class<C> componentInterface, Consumer<? super C> action);
+
+    /**
+     * Returns the {@link Component} of the {@link Entity} registered with the input interface.
+     *
+     * @param entity The id of the {@link Entity}.
+     * @param componentInterface The interface of the {@link Component}.
+     * @return An {@link Optional} with the {@link Component}, an empty one if it isn't stored.
+     */
+    Optional<Component<?>> get(int entity, Class<?> componentInterface);
+
+    /**
+     * Stores a {@link Component} of the {@link Entity}, replacing the one
+     * registered with the same interface, if any.
+     *
+     * @param entity The id of the {@link Entity}.
+     * @param componentInterface The interface of the {@link Component}.
+     * @param component The {@link Component} to store.
+     */
+    void put(int entity, Class<?> componentInterface, Component<?> component);
+
+    /**
+     * Removes the {@link Component} of the {@link Entity} registered with the input interface.
+     *
+     * @param entity The id of the {@link Entity}.
+     * @param componentInterface The interface of the {@link Component}.
+     * @return An {@link Optional} with the removed {@link Component}, an empty one if it wasn't stored.
+     */
+    Optional<Component<?>> remove(int entity, Class<?> componentInterface);
+}
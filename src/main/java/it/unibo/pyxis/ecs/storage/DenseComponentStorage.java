@@ -0,0 +1,192 @@
+package it.unibo.pyxis.ecs.storage;
+
+import it.unibo.pyxis.ecs.component.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A {@link ComponentStorage} shared by many {@link it.unibo.pyxis.ecs.Entity}s.
+ * The entities are grouped by the set of interfaces of their {@link Component}s,
+ * and every group keeps the {@link Component}s of the same interface in a dense
+ * array, so iterating over all the {@link Component}s of an interface doesn't
+ * visit the entities at all.
+ */
+public final class DenseComponentStorage implements ComponentStorage {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private final Map<Set<Class<?>>, Archetype> archetypes;
+    private final Map<Class<?>, List<Archetype>> archetypesByComponent;
+    private final Archetype emptyArchetype;
+    private Archetype[] entityArchetypes;
+    private int[] entityRows;
+    private int[] freeEntities;
+    private int entityCount;
+    private int freeCount;
+
+    public DenseComponentStorage() {
+        this.archetypes = new HashMap<>();
+        this.archetypesByComponent = new HashMap<>();
+        this.emptyArchetype = new Archetype(Set.of());
+        this.archetypes.put(this.emptyArchetype.getSignature(), this.emptyArchetype);
+        this.entityArchetypes = new Archetype[INITIAL_CAPACITY];
+        this.entityRows = new int[INITIAL_CAPACITY];
+        this.freeEntities = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the {@link Archetype} of an {@link it.unibo.pyxis.ecs.Entity}.
+     *
+     * @param entity The id of the {@link it.unibo.pyxis.ecs.Entity}.
+     * @return The {@link Archetype}.
+     */
+    private Archetype archetypeOf(final int entity) {
+        if (entity < 0 || entity >= this.entityCount || Objects.isNull(this.entityArchetypes[entity])) {
+            throw new IllegalArgumentException("The entity isn't stored in this storage");
+        }
+        return this.entityArchetypes[entity];
+    }
+
+    /**
+     * Returns the {@link Archetype} reached adding or removing an interface
+     * from another one, creating it if it doesn't exist.
+     *
+     * @param archetype The starting {@link Archetype}.
+     * @param componentInterface The interface to add or remove.
+     * @param add True to add the interface, false to remove it.
+     * @return The {@link Archetype} reached.
+     */
+    private Archetype edgeOf(final Archetype archetype, final Class<?> componentInterface, final boolean add) {
+        final Archetype cached = archetype.getEdge(componentInterface, add);
+        if (!Objects.isNull(cached)) {
+            return cached;
+        }
+        final Archetype edge = this.archetypes.computeIfAbsent(archetype.edgeSignature(componentInterface, add),
+                signature -> {
+                    final Archetype created = new Archetype(signature);
+                    signature.forEach(c -> this.archetypesByComponent
+                            .computeIfAbsent(c, k -> new ArrayList<>()).add(created));
+                    return created;
+                });
+        archetype.setEdge(componentInterface, add, edge);
+        return edge;
+    }
+
+    /**
+     * Moves an {@link it.unibo.pyxis.ecs.Entity} to another {@link Archetype},
+     * copying the {@link Component}s shared by the two signatures.
+     *
+     * @param entity The id of the {@link it.unibo.pyxis.ecs.Entity}.
+     * @param target The target {@link Archetype}.
+     * @return The row of the {@link it.unibo.pyxis.ecs.Entity} in the target {@link Archetype}.
+     */
+    private int move(final int entity, final Archetype target) {
+        final Archetype source = this.entityArchetypes[entity];
+        final int sourceRow = this.entityRows[entity];
+        final int targetRow = target.addRow(entity);
+        source.copyRow(sourceRow, target, targetRow);
+        final int moved = source.removeRow(sourceRow);
+        if (moved >= 0) {
+            this.entityRows[moved] = sourceRow;
+        }
+        this.entityArchetypes[entity] = target;
+        this.entityRows[entity] = targetRow;
+        return targetRow;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final int entity, final Class<?> componentInterface) {
+        return this.archetypeOf(entity).has(componentInterface);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createEntity() {
+        final int entity;
+        if (this.freeCount > 0) {
+            entity = this.freeEntities[--this.freeCount];
+        } else {
+            if (this.entityCount == this.entityArchetypes.length) {
+                final int capacity = this.entityCount * 2;
+                this.entityArchetypes = Arrays.copyOf(this.entityArchetypes, capacity);
+                this.entityRows = Arrays.copyOf(this.entityRows, capacity);
+                this.freeEntities = Arrays.copyOf(this.freeEntities, capacity);
+            }
+            entity = this.entityCount++;
+        }
+        this.entityArchetypes[entity] = this.emptyArchetype;
+        this.entityRows[entity] = this.emptyArchetype.addRow(entity);
+        return entity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroyEntity(final int entity) {
+        final Archetype archetype = this.archetypeOf(entity);
+        final int row = this.entityRows[entity];
+        final int moved = archetype.removeRow(row);
+        if (moved >= 0) {
+            this.entityRows[moved] = row;
+        }
+        this.entityArchetypes[entity] = null;
+        this.freeEntities[this.freeCount++] = entity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <C> void forEach(final Class<C> componentInterface, final Consumer<? super C> action) {
+        for (final Archetype archetype : this.archetypesByComponent.getOrDefault(componentInterface, List.of())) {
+            archetype.forEach(componentInterface, action);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Component<?>> get(final int entity, final Class<?> componentInterface) {
+        return Optional.ofNullable(this.archetypeOf(entity).get(this.entityRows[entity], componentInterface));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(final int entity, final Class<?> componentInterface, final Component<?> component) {
+        final Archetype archetype = this.archetypeOf(entity);
+        final int row = archetype.has(componentInterface)
+                ? this.entityRows[entity]
+                : this.move(entity, this.edgeOf(archetype, componentInterface, true));
+        this.entityArchetypes[entity].set(row, componentInterface, component);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Component<?>> remove(final int entity, final Class<?> componentInterface) {
+        final Archetype archetype = this.archetypeOf(entity);
+        if (!archetype.has(componentInterface)) {
+            return Optional.empty();
+        }
+        final Component<?> removed = archetype.get(this.entityRows[entity], componentInterface);
+        this.move(entity, this.edgeOf(archetype, componentInterface, false));
+        return Optional.of(removed);
+    }
+}
@@ -0,0 +1,100 @@
+package it.unibo.pyxis.ecs.storage;
+
+import it.unibo.pyxis.ecs.component.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * The default {@link ComponentStorage}, holding the {@link Component}s of a
+ * single {@link it.unibo.pyxis.ecs.Entity} in a {@link HashMap}.
+ */
+public final class LocalComponentStorage implements ComponentStorage {
+
+    private static final int ENTITY_ID = 0;
+    private final Map<Class<?>, Component<?>> componentMap = new HashMap<>();
+    private boolean entityCreated;
+
+    /**
+     * Checks that the input id is the one of the stored {@link it.unibo.pyxis.ecs.Entity}.
+     *
+     * @param entity The id to check.
+     */
+    private void checkEntity(final int entity) {
+        if (!this.entityCreated || entity != ENTITY_ID) {
+            throw new IllegalArgumentException("The entity isn't stored in this storage");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final int entity, final Class<?> componentInterface) {
+        this.checkEntity(entity);
+        return this.componentMap.containsKey(componentInterface);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createEntity() {
+        if (this.entityCreated) {
+            throw new IllegalStateException("This storage can hold a single entity");
+        }
+        this.entityCreated = true;
+        return ENTITY_ID;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void destroyEntity(final int entity) {
+        this.checkEntity(entity);
+        this.componentMap.clear();
+        this.entityCreated = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <C> void forEach(final Class<C> componentInterface, final Consumer<? super C> action) {
+        final Component<?> component = this.componentMap.get(componentInterface);
+        if (!Objects.isNull(component)) {
+            action.accept(componentInterface.cast(component));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Component<?>> get(final int entity, final Class<?> componentInterface) {
+        this.checkEntity(entity);
+        return Optional.ofNullable(this.componentMap.get(componentInterface));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(final int entity, final Class<?> componentInterface, final Component<?> component) {
+        this.checkEntity(entity);
+        this.componentMap.put(componentInterface, component);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Component<?>> remove(final int entity, final Class<?> componentInterface) {
+        this.checkEntity(entity);
+        return Optional.ofNullable(this.componentMap.remove(componentInterface));
+    }
+}
@@ -0,0 +1,41 @@
+package it.unibo.pyxis.ecs.system;
+
+import java.util.Collections;
+import java.util.Set;
+
+public abstract class AbstractGameSystem implements GameSystem {
+
+    private final Set<Class<?>> reads;
+    private final Set<Class<?>> writes;
+
+    public AbstractGameSystem(final Set<Class<?>> inputReads, final Set<Class<?>> inputWrites) {
+        this.reads = Set.copyOf(inputReads);
+        this.writes = Set.copyOf(inputWrites);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean conflictsWith(final GameSystem other) {
+        return !Collections.disjoint(this.writes, other.getWrites())
+                || !Collections.disjoint(this.writes, other.getReads())
+                || !Collections.disjoint(this.reads, other.getWrites());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Set<Class<?>> getReads() {
+        return this.reads;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Set<Class<?>> getWrites() {
+        return this.writes;
+    }
+}
@@ -0,0 +1,48 @@
+package it.unibo.pyxis.ecs.system;
+
+import it.unibo.pyxis.ecs.Entity;
+
+import java.util.List;
+
+/**
+ * Keeps track of a set of {@link Entity}s, answering the queries of the
+ * {@link GameSystem}s without scanning all of them. The result of each kind
+ * of query is maintained incrementally once it has been asked for the first
+ * time. The {@link it.unibo.pyxis.ecs.component.Component}s of an
+ * {@link Entity} are the ones registered when it has been added.
+ */
+public interface EntityIndex {
+
+    /**
+     * Adds an {@link Entity} to the index.
+     *
+     * @param entity The {@link Entity} to add.
+     */
+    void add(Entity entity);
+
+    /**
+     * Returns the indexed {@link Entity}s of the input type, in insertion order.
+     *
+     * @param entityType The type of the {@link Entity}s.
+     * @param <E> The type of the {@link Entity}s.
+     * @return A {@link List} with the {@link Entity}s.
+     */
+    <E extends Entity> List<E> getEntities(Class<E> entityType);
+
+    /**
+     * Returns the indexed {@link Entity}s with a
+     * {@link it.unibo.pyxis.ecs.component.Component} registered with
+     * the input interface, in insertion order.
+     *
+     * @param componentInterface The interface of the {@link it.unibo.pyxis.ecs.component.Component}.
+     * @return A {@link List} with the {@link Entity}s.
+     */
+    List<Entity> getEntitiesWithComponent(Class<?> componentInterface);
+
+    /**
+     * Removes an {@link Entity} from the index.
+     *
+     * @param entity The {@link Entity} to remove.
+     */
+    void remove(Entity entity);
+}
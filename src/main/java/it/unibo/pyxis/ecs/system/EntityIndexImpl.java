@@ -0,0 +1,93 @@
+package it.unibo.pyxis.ecs.system;
+
+import it.unibo.pyxis.ecs.Entity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public final class EntityIndexImpl implements EntityIndex {
+
+    private final Set<Entity> entities;
+    private final Map<Class<?>, Set<Entity>> typeIndex;
+    private final Map<Class<?>, Set<Entity>> componentIndex;
+
+    public EntityIndexImpl() {
+        this.entities = new LinkedHashSet<>();
+        this.typeIndex = new HashMap<>();
+        this.componentIndex = new HashMap<>();
+    }
+
+    /**
+     * Creates the set of the indexed {@link Entity}s matching a condition.
+     *
+     * @param condition The condition.
+     * @return The {@link Set} of {@link Entity}s.
+     */
+    private Set<Entity> matching(final Predicate<Entity> condition) {
+        final Set<Entity> matching = new LinkedHashSet<>();
+        for (final Entity entity : this.entities) {
+            if (condition.test(entity)) {
+                matching.add(entity);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final Entity entity) {
+        if (!this.entities.add(entity)) {
+            return;
+        }
+        this.typeIndex.forEach((type, indexed) -> {
+            if (type.isInstance(entity)) {
+                indexed.add(entity);
+            }
+        });
+        this.componentIndex.forEach((componentInterface, indexed) -> {
+            if (entity.hasComponent(componentInterface)) {
+                indexed.add(entity);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <E extends Entity> List<E> getEntities(final Class<E> entityType) {
+        final Set<Entity> indexed = this.typeIndex.computeIfAbsent(entityType, t -> this.matching(t::isInstance));
+        final List<E> result = new ArrayList<>(indexed.size());
+        for (final Entity entity : indexed) {
+            result.add(entityType.cast(entity));
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Entity> getEntitiesWithComponent(final Class<?> componentInterface) {
+        return new ArrayList<>(this.componentIndex.computeIfAbsent(componentInterface,
+                c -> this.matching(e -> e.hasComponent(c))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(final Entity entity) {
+        if (this.entities.remove(entity)) {
+            this.typeIndex.values().forEach(indexed -> indexed.remove(entity));
+            this.componentIndex.values().forEach(indexed -> indexed.remove(entity));
+        }
+    }
+}
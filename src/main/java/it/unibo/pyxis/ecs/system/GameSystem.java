@@ -0,0 +1,42 @@
+package it.unibo.pyxis.ecs.system;
+
+import java.util.Set;
+
+/**
+ * A unit of the update of a tick, working on all the entities with some
+ * data. It declares the types of the data it reads and writes, component
+ * or entity interfaces, so that a {@link SystemScheduler} can run it
+ * concurrently with the systems it doesn't conflict with.
+ */
+public interface GameSystem {
+
+    /**
+     * Checks if this {@link GameSystem} can't run concurrently with another
+     * one, because one of them writes a type that the other reads or writes.
+     *
+     * @param other The other {@link GameSystem}.
+     * @return True if the two {@link GameSystem}s conflict, false otherwise.
+     */
+    boolean conflictsWith(GameSystem other);
+
+    /**
+     * Returns the types of the data read, but not written, by this {@link GameSystem}.
+     *
+     * @return The {@link Set} of read types.
+     */
+    Set<Class<?>> getReads();
+
+    /**
+     * Returns the types of the data written by this {@link GameSystem}.
+     *
+     * @return The {@link Set} of written types.
+     */
+    Set<Class<?>> getWrites();
+
+    /**
+     * Runs this {@link GameSystem} for a tick.
+     *
+     * @param elapsed The time elapsed since the last tick.
+     */
+    void update(double elapsed);
+}
@@ -0,0 +1,34 @@
+package it.unibo.pyxis.ecs.system;
+
+import java.util.List;
+
+/**
+ * Runs a set of {@link GameSystem}s every tick. The {@link GameSystem}s are
+ * grouped in stages run one after the other: a {@link GameSystem} always runs
+ * after the ones added before it that it conflicts with, while the
+ * {@link GameSystem}s of the same stage run concurrently.
+ */
+public interface SystemScheduler {
+
+    /**
+     * Adds a {@link GameSystem}, placing it in the first stage after all the
+     * {@link GameSystem}s it conflicts with.
+     *
+     * @param system The {@link GameSystem} to add.
+     */
+    void addSystem(GameSystem system);
+
+    /**
+     * Returns the stages of the {@link GameSystem}s, in execution order.
+     *
+     * @return The {@link List} of stages.
+     */
+    List<List<GameSystem>> getStages();
+
+    /**
+     * Runs all the {@link GameSystem}s for a tick, returning when all of them have finished.
+     *
+     * @param elapsed The time elapsed since the last tick.
+     */
+    void update(double elapsed);
+}
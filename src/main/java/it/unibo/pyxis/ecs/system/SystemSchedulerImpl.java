@@ -0,0 +1,87 @@
+package it.unibo.pyxis.ecs.system;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+public final class SystemSchedulerImpl implements SystemScheduler {
+
+    private final List<List<GameSystem>> stages;
+    private final List<ForkJoinTask<?>> forkedTasks;
+    private final ForkJoinPool pool;
+
+    public SystemSchedulerImpl(final ForkJoinPool inputPool) {
+        this.stages = new ArrayList<>();
+        this.forkedTasks = new ArrayList<>();
+        this.pool = inputPool;
+    }
+
+    public SystemSchedulerImpl() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs the {@link GameSystem}s of a stage, all but the first one on the worker pool.
+     *
+     * @param stage The stage to run.
+     * @param elapsed The time elapsed since the last tick.
+     */
+    private void runStage(final List<GameSystem> stage, final double elapsed) {
+        for (int i = 1; i < stage.size(); i++) {
+            final GameSystem system = stage.get(i);
+            this.forkedTasks.add(this.pool.submit(() -> system.update(elapsed)));
+        }
+        try {
+            stage.get(0).update(elapsed);
+        } finally {
+            for (final ForkJoinTask<?> task : this.forkedTasks) {
+                task.join();
+            }
+            this.forkedTasks.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addSystem(final GameSystem system) {
+        int stageIndex = 0;
+        for (int i = 0; i < this.stages.size(); i++) {
+            for (final GameSystem scheduled : this.stages.get(i)) {
+                if (scheduled.conflictsWith(system)) {
+                    stageIndex = i + 1;
+                }
+            }
+        }
+        if (stageIndex == this.stages.size()) {
+            this.stages.add(new ArrayList<>());
+        }
+        this.stages.get(stageIndex).add(system);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<List<GameSystem>> getStages() {
+        final List<List<GameSystem>> copy = new ArrayList<>();
+        this.stages.forEach(stage -> copy.add(List.copyOf(stage)));
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double elapsed) {
+        for (final List<GameSystem> stage : this.stages) {
+            if (stage.size() == 1) {
+                stage.get(0).update(elapsed);
+            } else {
+                this.runStage(stage, elapsed);
+            }
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package it.unibo.pyxis.model.arena;
 
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
+import it.unibo.pyxis.controller.command.Command;
 import it.unibo.pyxis.ecs.Entity;
+import it.unibo.pyxis.ecs.system.EntityIndex;
+import it.unibo.pyxis.model.arena.snapshot.RenderSnapshot;
+import it.unibo.pyxis.model.event.EventDispatcher;
 import it.unibo.pyxis.model.powerup.handler.PowerupHandler;
 import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
@@ -11,7 +17,11 @@ import it.unibo.pyxis.model.element.brick.Brick;
 import it.unibo.pyxis.model.element.pad.Pad;
 import it.unibo.pyxis.model.element.powerup.Powerup;
 
-
+/**
+ * The {@link Arena} has a single writer: it must only be changed by the thread
+ * updating it. The other threads change it submitting a {@link Command}, executed
+ * by that thread at the beginning of the next update.
+ */
 public interface Arena extends Entity {
 
     /**
@@ -37,29 +47,35 @@ public interface Arena extends Entity {
 
     /**
      * Procedure of cleanup of the {@link Arena}.
-     * Unregisters all the elements from the {@link org.greenrobot.eventbus.EventBus}
+     * Unregisters all the elements from the {@link it.unibo.pyxis.model.event.EventDispatcher}
      * and shutdown the {@link it.unibo.pyxis.model.powerup.handler.PowerupHandler}.
      */
     void cleanUp();
 
     /**
      * Removes all the {@link Ball}s in the {@link Arena} unsubscribing them
-     * from the {@link org.greenrobot.eventbus.EventBus}.
+     * from the {@link it.unibo.pyxis.model.event.EventDispatcher}.
      */
     void clearBalls();
 
     /**
      * Removes all the {@link Brick}s in the {@link Arena} unsubscribing them
-     * from the {@link org.greenrobot.eventbus.EventBus}.
+     * from the {@link it.unibo.pyxis.model.event.EventDispatcher}.
      */
     void clearBricks();
 
     /**
      * Removes all the {@link Powerup}s in the {@link Arena} unsubscribing them
-     * from the {@link org.greenrobot.eventbus.EventBus}.
+     * from the {@link it.unibo.pyxis.model.event.EventDispatcher}.
      */
     void clearPowerups();
 
+    /**
+     * Executes, in submission order, the {@link Command}s submitted so far.
+     * It must be called by the thread updating the {@link Arena}.
+     */
+    void executePendingCommands();
+
     /**
      * Returns a {@link java.util.Set} of {@link Ball} that are currently present in
      * the {@link Arena}.
@@ -68,6 +84,15 @@ public interface Arena extends Entity {
      */
     Set<Ball> getBalls();
 
+    /**
+     * Returns the {@link Ball}s that are currently present in the {@link Arena},
+     * in the order they are stored. The order only depends on the sequence of
+     * insertions and removals.
+     *
+     * @return A {@link java.util.List} of {@link Ball}.
+     */
+    List<Ball> getBallList();
+
     /**
      * Returns a {@link java.util.Set} of {@link Brick} that are currently present in
      * the {@link Arena}.
@@ -76,6 +101,37 @@ public interface Arena extends Entity {
      */
     Set<Brick> getBricks();
 
+    /**
+     * Returns the {@link Brick}s that may overlap the input area, looking
+     * them up in the spatial index of the {@link Arena}. It doesn't lock the
+     * {@link Arena}, so it can be called by many threads at once as long as no
+     * {@link Brick} is added or removed meanwhile.
+     *
+     * @param minX The minimum x value of the area.
+     * @param minY The minimum y value of the area.
+     * @param maxX The maximum x value of the area.
+     * @param maxY The maximum y value of the area.
+     * @return A {@link java.util.List} of candidate {@link Brick}s.
+     */
+    List<Brick> getBricksInArea(double minX, double minY, double maxX, double maxY);
+
+    /**
+     * Returns the {@link EntityIndex} of the elements in the {@link Arena}, kept
+     * up to date as they are added and removed.
+     *
+     * @return The {@link EntityIndex}.
+     */
+    EntityIndex getEntityIndex();
+
+    /**
+     * Returns the {@link EventDispatcher} of the {@link Arena}, carrying the
+     * {@link it.unibo.pyxis.model.event.Event}s of its elements and of its
+     * {@link it.unibo.pyxis.model.level.Level}, and of nobody else.
+     *
+     * @return The {@link EventDispatcher}.
+     */
+    EventDispatcher getEventDispatcher();
+
     /**
      * Returns the dimensions of the {@link Arena}.
      *
@@ -98,6 +154,13 @@ public interface Arena extends Entity {
      */
     Pad getPad();
 
+    /**
+     * Returns the seed of the {@link Random} generator of the {@link Arena}.
+     *
+     * @return The seed.
+     */
+    long getSeed();
+
     /**
      * Returns the {@link PowerupHandler} of the {@link Arena}.
      *
@@ -105,14 +168,40 @@ public interface Arena extends Entity {
      */
     PowerupHandler getPowerupHandler();
 
+    /**
+     * Returns the {@link Powerup}s that are currently present in the {@link Arena},
+     * in the order they have been added. The model must iterate them in this
+     * order, so that a replay handles them the same way.
+     *
+     * @return A {@link java.util.List} of {@link Powerup}.
+     */
+    List<Powerup> getPowerupList();
+
     /**
      * Returns a {@link java.util.Set} of {@link Powerup} that are currently present in
-     * the {@link Arena}.
+     * the {@link Arena}. Its iteration order is unspecified.
      *
      * @return A {@link java.util.Set} of {@link Powerup}.
      */
     Set<Powerup> getPowerups();
 
+    /**
+     * Returns the last {@link RenderSnapshot} published. It can be called by any
+     * thread without locking the {@link Arena}.
+     *
+     * @return The last {@link RenderSnapshot} published.
+     */
+    RenderSnapshot getRenderSnapshot();
+
+    /**
+     * Returns the {@link Random} generator of the {@link Arena}. Every random choice
+     * of the game played in the {@link Arena} draws from it, so that the game can
+     * be replayed starting from the same seed.
+     *
+     * @return The {@link Random} generator.
+     */
+    Random getRandom();
+
     /**
      * Returns a random {@link Ball} registered in this {@link Arena}.
      *
@@ -146,6 +235,15 @@ public interface Arena extends Entity {
      */
     void movePadRight();
 
+    /**
+     * Takes a {@link RenderSnapshot} of the current {@link Arena}'s elements,
+     * with the moving ones in their interpolated position, and publishes it
+     * for the render thread.
+     *
+     * @param interpolationFactor The interpolation factor, in the range [0, 1].
+     */
+    void publishRenderSnapshot(double interpolationFactor);
+
     /**
      * Removes a {@link Ball} from the {@link Arena}.
      *
@@ -154,7 +252,8 @@ public interface Arena extends Entity {
     void removeBall(Ball ball);
 
     /**
-     * Removes a {@link Brick} in the {@link Arena}.
+     * Removes a {@link Brick} in the {@link Arena}. Nothing happens if there
+     * isn't any {@link Brick} in the input {@link Coord}.
      *
      * @param brickCoord The {@link Coord} of the {@link Brick} to remove.
      */
@@ -184,10 +283,39 @@ public interface Arena extends Entity {
      */
     void setPad(Pad pad);
 
+    /**
+     * Sets the direction the {@link Pad} moves towards at every update,
+     * until it's changed again.
+     *
+     * @param direction A negative value to move it to the left, a positive
+     *                  value to move it to the right, zero to stop it.
+     */
+    void steerPad(int direction);
+
+    /**
+     * Submits a {@link Command} changing the {@link Arena}, to be executed by
+     * the thread updating it. It can be called by any thread. The {@link Arena}
+     * of a {@link it.unibo.pyxis.model.level.Level} replaced in the
+     * {@link it.unibo.pyxis.model.state.GameState} is not updated anymore, so
+     * it's cleaned up by {@link it.unibo.pyxis.model.state.GameState#cleanUpRetiredLevels()}
+     * on the same thread instead.
+     *
+     * @param command The {@link Command} to execute.
+     */
+    void submit(Command<Arena> command);
+
     /**
      * Updates the elements of the {@link Arena}.
      *
      * @param delta The elapsed time.
      */
     void update(double delta);
+
+    /**
+     * Moves the {@link Pad} towards its steering direction, of a displacement
+     * proportional to the elapsed time.
+     *
+     * @param elapsed The elapsed time.
+     */
+    void updatePad(double elapsed);
 }
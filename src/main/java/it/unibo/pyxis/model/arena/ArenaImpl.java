@@ -1,70 +1,157 @@
 package it.unibo.pyxis.model.arena;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import it.unibo.pyxis.controller.command.Command;
 import it.unibo.pyxis.model.arena.component.ArenaEventComponent;
 import it.unibo.pyxis.model.arena.component.ArenaUpdateComponent;
+import it.unibo.pyxis.model.arena.grid.Grid;
+import it.unibo.pyxis.model.arena.grid.GridImpl;
+import it.unibo.pyxis.model.arena.snapshot.ElementKind;
+import it.unibo.pyxis.model.arena.snapshot.RenderSnapshot;
+import it.unibo.pyxis.model.arena.snapshot.RenderSnapshotImpl;
 import it.unibo.pyxis.ecs.component.event.EventComponent;
 import it.unibo.pyxis.ecs.component.physics.UpdateComponent;
 import it.unibo.pyxis.ecs.EntityImpl;
+import it.unibo.pyxis.ecs.system.EntityIndex;
+import it.unibo.pyxis.ecs.system.EntityIndexImpl;
 import it.unibo.pyxis.model.element.ball.Ball;
 import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.element.ball.store.BallStore;
+import it.unibo.pyxis.model.element.ball.component.BallEventComponent;
+import it.unibo.pyxis.model.element.ball.store.BallStoreImpl;
 import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.element.brick.component.BrickEventComponent;
 import it.unibo.pyxis.model.element.factory.ElementFactory;
 import it.unibo.pyxis.model.element.factory.ElementFactoryImpl;
 import it.unibo.pyxis.model.element.pad.Pad;
 import it.unibo.pyxis.model.element.powerup.Powerup;
+import it.unibo.pyxis.model.event.Event;
+import it.unibo.pyxis.model.event.EventBusAdapter;
+import it.unibo.pyxis.model.event.EventDispatcher;
+import it.unibo.pyxis.model.event.EventDispatcherImpl;
+import it.unibo.pyxis.model.event.collision.BallCollisionWithBorderEvent;
+import it.unibo.pyxis.model.event.collision.BallCollisionWithBrickEvent;
+import it.unibo.pyxis.model.event.collision.BallCollisionWithPadEvent;
+import it.unibo.pyxis.model.event.notify.DecreaseLifeEvent;
+import it.unibo.pyxis.model.event.notify.PowerupActivationEvent;
 import it.unibo.pyxis.model.powerup.handler.PowerupHandler;
 import it.unibo.pyxis.model.powerup.handler.PowerupHandlerImpl;
 import it.unibo.pyxis.model.util.Coord;
-import it.unibo.pyxis.model.util.CoordImpl;
 import it.unibo.pyxis.model.util.Dimension;
+import it.unibo.pyxis.model.util.ImmutableCoord;
+import it.unibo.pyxis.model.util.ImmutableDimension;
 import org.greenrobot.eventbus.EventBus;
 
 public final class ArenaImpl extends EntityImpl implements Arena {
 
     private static final double PAD_X_MOVEMENT = 10;
+    private static final double PAD_SPEED = 0.4;
     private static final double MAX_PAD_X_DIMENSION = 200;
     private static final double MIN_PAD_X_DIMENSION = 10;
-    private final Set<Ball> ballSet;
+    private static final double GRID_CELL_WIDTH = 42;
+    private static final double GRID_CELL_HEIGHT = 18;
+    private static final String PAD_TYPE_NAME = "";
+    private static final Set<Class<? extends Event>> VIEW_EVENT_TYPES = Set.of(BallCollisionWithBrickEvent.class,
+            BallCollisionWithBorderEvent.class, BallCollisionWithPadEvent.class, DecreaseLifeEvent.class,
+            PowerupActivationEvent.class);
+    private final BallStore ballStore;
     private final Map<Coord, Brick> brickMap;
+    private final Grid<Brick> brickGrid;
     private final Set<Powerup> powerupSet;
     private final PowerupHandler powerupHandler;
+    private final Queue<Command<Arena>> pendingCommands;
+    private final EntityIndex entityIndex;
+    private final EventDispatcher eventDispatcher;
+    private final EventBusAdapter viewAdapter;
     private final Dimension dimension;
+    private final RenderSnapshotImpl.Builder snapshotBuilder;
+    private final Random random;
+    private final long seed;
     private Pad pad;
     private Coord startingPadPosition;
     private Dimension startingPadDimension;
     private Coord startingBallPosition;
     private double startingBallModule;
+    private int destructibleBricks;
+    private int lastBallId;
+    private int padDirection;
+    private volatile RenderSnapshot renderSnapshot;
 
-    public ArenaImpl(final Dimension inputDimension) {
+    public ArenaImpl(final Dimension inputDimension, final long inputSeed) {
         this.brickMap = new HashMap<>();
-        this.ballSet = new HashSet<>();
-        this.powerupSet = new HashSet<>();
-        this.dimension = inputDimension;
+        this.ballStore = new BallStoreImpl();
+        this.powerupSet = new LinkedHashSet<>();
+        this.pendingCommands = new ConcurrentLinkedQueue<>();
+        this.entityIndex = new EntityIndexImpl();
+        this.dimension = inputDimension.copyOf();
+        this.brickGrid = new GridImpl<>(inputDimension, GRID_CELL_WIDTH, GRID_CELL_HEIGHT);
+        this.snapshotBuilder = new RenderSnapshotImpl.Builder();
+        this.renderSnapshot = this.snapshotBuilder.build();
+        this.seed = inputSeed;
+        this.random = new Random(inputSeed);
+        this.eventDispatcher = new EventDispatcherImpl();
+        this.viewAdapter = new EventBusAdapter(this.eventDispatcher, EventBus.getDefault(), VIEW_EVENT_TYPES);
+        this.viewAdapter.attach();
 
         this.powerupHandler = new PowerupHandlerImpl(this);
         this.registerComponent(new ArenaUpdateComponent(this));
         this.registerComponent(new ArenaEventComponent(this));
     }
 
+    public ArenaImpl(final Dimension inputDimension) {
+        this(inputDimension, new Random().nextLong());
+    }
+
+    /**
+     * Checks if any {@link Ball} is colliding with the {@link Pad}.
+     *
+     * @return True if a {@link Ball} is colliding with the {@link Pad}, false otherwise.
+     */
+    private boolean isAnyBallCollidingWithPad() {
+        for (int i = 0; i < this.ballStore.size(); i++) {
+            if (this.ballStore.getBall(i).getHitbox().isCollidingWithHB(this.pad.getHitbox())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Recomputes the highest id among the {@link Ball}s in the {@link Arena}.
+     * It only needs to run when the {@link Ball} holding that id leaves.
+     */
+    private void refreshLastBallId() {
+        this.lastBallId = 0;
+        for (int i = 0; i < this.ballStore.size(); i++) {
+            this.lastBallId = Math.max(this.lastBallId, this.ballStore.getBall(i).getId());
+        }
+    }
+
     /**
-     * Calculates new {@link Pad}'s {@link Coord}.
+     * Moves the {@link Pad} horizontally, keeping it inside the {@link Arena}.
+     * The movement is undone if the {@link Pad} ends up overlapping a {@link Ball}.
      *
-     * @param dx The value to add to the x value of the {@link Pad}'s {@link Coord}.
-     * @return The new position of the {@link Pad}.
+     * @param dx The displacement.
      */
-    private Coord calcPadNewXCoord(final double dx) {
-        final Coord updatedCoord = this.pad.getPosition();
-        updatedCoord.sumXValue(dx);
-        return updatedCoord;
+    private void movePad(final double dx) {
+        final double oldX = this.pad.getX();
+        final double halfWidth = this.pad.getWidth() / 2;
+        final double newX = Math.max(halfWidth, Math.min(oldX + dx, this.dimension.getWidth() - halfWidth));
+        this.pad.setPosition(newX, this.pad.getY());
+        if (this.isAnyBallCollidingWithPad()) {
+            this.pad.setPosition(oldX, this.pad.getY());
+        }
     }
 
     /**
@@ -74,9 +161,8 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      * @return true if I can proceed to modify the {@link Pad} dimension, false otherwise.
      */
     private boolean canModifyPadDimensions(final double amount) {
-        final Dimension padDimension = this.getPad().getDimension();
-        padDimension.increaseWidth(amount);
-        return padDimension.getWidth() < MAX_PAD_X_DIMENSION && padDimension.getWidth() > MIN_PAD_X_DIMENSION;
+        final double newWidth = this.pad.getWidth() + amount;
+        return newWidth < MAX_PAD_X_DIMENSION && newWidth > MIN_PAD_X_DIMENSION;
     }
 
     /**
@@ -86,16 +172,15 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      * @param resizeAmount The resize amount.
      */
     private void adjustPositionOnResize(final double resizeAmount) {
-        final double padWidth = this.pad.getDimension().getWidth();
-        final Coord padPosition = this.getPad().getPosition();
-        final double halfIncrement = (padWidth + resizeAmount) / 2;
+        final double padX = this.pad.getX();
+        final double halfIncrement = (this.pad.getWidth() + resizeAmount) / 2;
         double offset = 0;
-        if (padPosition.getX() + halfIncrement > this.getDimension().getWidth()) {
-            offset = this.getDimension().getWidth() - (padPosition.getX() + halfIncrement);
-        } else if (padPosition.getX() - halfIncrement < 0) {
-            offset = -(padPosition.getX() - halfIncrement);
+        if (padX + halfIncrement > this.dimension.getWidth()) {
+            offset = this.dimension.getWidth() - (padX + halfIncrement);
+        } else if (padX - halfIncrement < 0) {
+            offset = -(padX - halfIncrement);
         }
-        this.pad.setPosition(new CoordImpl(padPosition.getX() + offset, padPosition.getY()));
+        this.pad.setPosition(padX + offset, this.pad.getY());
     }
 
     /**
@@ -103,7 +188,7 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      *
      * @param amount The amount.
      */
-    private synchronized void modifyPadWidth(final double amount) {
+    private void modifyPadWidth(final double amount) {
         if (!this.canModifyPadDimensions(amount)) {
             return;
         }
@@ -115,31 +200,43 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      * {@inheritDoc}
      */
     @Override
-    public synchronized void addBall(final Ball ball) {
+    public void addBall(final Ball ball) {
         if (Objects.isNull(this.startingBallPosition)) {
-            this.startingBallPosition = ball.getPosition();
+            this.startingBallPosition = new ImmutableCoord(ball.getPosition());
             this.startingBallModule = ball.getPace().getModule();
         }
-        this.ballSet.add(ball);
+        if (!this.ballStore.contains(ball)) {
+            ball.bindTo(this.ballStore);
+            ball.registerComponent(new BallEventComponent(ball, this.eventDispatcher));
+            this.entityIndex.add(ball);
+            this.lastBallId = Math.max(this.lastBallId, ball.getId());
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void addBrick(final Brick brick) {
+    public void addBrick(final Brick brick) {
         if (this.brickMap.containsKey(brick.getPosition())) {
             throw new IllegalArgumentException("Can't insert the brick " + brick);
         }
         this.brickMap.put(brick.getPosition(), brick);
+        this.brickGrid.insert(brick);
+        brick.registerComponent(new BrickEventComponent(brick, this.eventDispatcher));
+        this.entityIndex.add(brick);
+        if (!brick.getBrickType().isIndestructible()) {
+            this.destructibleBricks++;
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void addPowerup(final Powerup powerup) {
+    public void addPowerup(final Powerup powerup) {
         this.powerupSet.add(powerup);
+        this.entityIndex.add(powerup);
     }
 
     /**
@@ -151,23 +248,23 @@ public final class ArenaImpl extends EntityImpl implements Arena {
         this.clearBricks();
         this.clearPowerups();
         this.powerupHandler.shutdown();
-        this.getPad().removeComponent(EventComponent.class);
         this.removeComponent(EventComponent.class);
+        this.viewAdapter.detach();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void clearBalls() {
-        this.getBalls().forEach(this::removeBall);
+    public void clearBalls() {
+        this.getBallList().forEach(this::removeBall);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void clearBricks() {
+    public void clearBricks() {
         this.getBricks().forEach(brick -> this.removeBrick(brick.getPosition()));
     }
 
@@ -175,18 +272,38 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      * {@inheritDoc}
      */
     @Override
-    public synchronized void clearPowerups() {
-        this.getPowerups().forEach(this::removePowerup);
+    public void clearPowerups() {
+        this.getPowerupList().forEach(this::removePowerup);
         this.powerupSet.clear();
         this.powerupHandler.stop();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void executePendingCommands() {
+        Command<Arena> command = this.pendingCommands.poll();
+        while (!Objects.isNull(command)) {
+            command.execute(this);
+            command = this.pendingCommands.poll();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Set<Ball> getBalls() {
-        return Set.copyOf(this.ballSet);
+        return Set.copyOf(this.ballStore.getBalls());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Ball> getBallList() {
+        return this.ballStore.getBalls();
     }
 
     /**
@@ -197,6 +314,15 @@ public final class ArenaImpl extends EntityImpl implements Arena {
         return new HashSet<>(this.brickMap.values());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Brick> getBricksInArea(final double minX, final double minY,
+                                       final double maxX, final double maxY) {
+        return this.brickGrid.query(minX, minY, maxX, maxY);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -209,21 +335,42 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      * {@inheritDoc}
      */
     @Override
-    public synchronized int getLastBallId() {
-        return this.ballSet.stream()
-                .mapToInt(Ball::getId)
-                .max()
-                .orElse(0);
+    public int getLastBallId() {
+        return this.lastBallId;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized Pad getPad() {
+    public Pad getPad() {
         return this.pad;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EntityIndex getEntityIndex() {
+        return this.entityIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EventDispatcher getEventDispatcher() {
+        return this.eventDispatcher;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -236,7 +383,15 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      * {@inheritDoc}
      */
     @Override
-    public synchronized Set<Powerup> getPowerups() {
+    public List<Powerup> getPowerupList() {
+        return new ArrayList<>(this.powerupSet);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Powerup> getPowerups() {
         return Set.copyOf(this.powerupSet);
     }
 
@@ -244,17 +399,31 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      * {@inheritDoc}
      */
     @Override
-    public synchronized Ball getRandomBall() {
-        final List<Ball> ballList = new ArrayList<>(this.ballSet);
-        Collections.shuffle(ballList);
-        return ballList.get(0);
+    public RenderSnapshot getRenderSnapshot() {
+        return this.renderSnapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Random getRandom() {
+        return this.random;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void increasePadWidth(final double amount) {
+    public Ball getRandomBall() {
+        return this.ballStore.getBall(this.random.nextInt(this.ballStore.size()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void increasePadWidth(final double amount) {
         this.modifyPadWidth(amount);
     }
 
@@ -263,7 +432,7 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      */
     @Override
     public boolean isCleared() {
-        return this.getBricks().stream().allMatch(b -> b.getBrickType().isIndestructible());
+        return this.destructibleBricks == 0;
     }
 
     /**
@@ -271,19 +440,7 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      */
     @Override
     public void movePadLeft() {
-        final Coord oldPosition = this.pad.getPosition();
-        Coord newPosition = this.calcPadNewXCoord(-PAD_X_MOVEMENT);
-        if (newPosition.getX() < this.pad.getDimension().getWidth() / 2) {
-            newPosition = new CoordImpl(
-                    this.pad.getDimension().getWidth() / 2,
-                    this.pad.getPosition().getY());
-        }
-        this.pad.setPosition(newPosition);
-        final boolean anyCollsion = this.getBalls().stream()
-                .anyMatch(b -> b.getHitbox().isCollidingWithHB(this.pad.getHitbox()));
-        if (anyCollsion) {
-            this.pad.setPosition(oldPosition);
-        }
+        this.movePad(-PAD_X_MOVEMENT);
     }
 
     /**
@@ -291,19 +448,36 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      */
     @Override
     public void movePadRight() {
-        final Coord oldPosition = this.pad.getPosition();
-        Coord newPosition = this.calcPadNewXCoord(PAD_X_MOVEMENT);
-        final double maxX = this.dimension.getWidth() - this.pad.getDimension().getWidth() / 2;
-        if (newPosition.getX() > maxX) {
-            final double yCoord = this.pad.getPosition().getY();
-            newPosition = new CoordImpl(maxX, yCoord);
+        this.movePad(PAD_X_MOVEMENT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishRenderSnapshot(final double interpolationFactor) {
+        this.snapshotBuilder.clear();
+        for (final Brick brick : this.brickMap.values()) {
+            this.snapshotBuilder.add(ElementKind.BRICK, brick.getBrickType().getTypeString(),
+                    brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight());
+        }
+        for (int i = 0; i < this.ballStore.size(); i++) {
+            final Ball ball = this.ballStore.getBall(i);
+            final Coord position = ball.getInterpolatedPosition(interpolationFactor);
+            this.snapshotBuilder.add(ElementKind.BALL, ball.getType().getType(),
+                    position.getX(), position.getY(), ball.getWidth(), ball.getHeight());
         }
-        this.pad.setPosition(newPosition);
-        final boolean anyCollsion = this.getBalls().stream()
-                .anyMatch(b -> b.getHitbox().isCollidingWithHB(this.pad.getHitbox()));
-        if (anyCollsion) {
-            this.pad.setPosition(oldPosition);
+        for (final Powerup powerup : this.powerupSet) {
+            final Coord position = powerup.getInterpolatedPosition(interpolationFactor);
+            this.snapshotBuilder.add(ElementKind.POWERUP, powerup.getType().toString(),
+                    position.getX(), position.getY(), powerup.getWidth(), powerup.getHeight());
         }
+        if (!Objects.isNull(this.pad)) {
+            final Coord position = this.pad.getInterpolatedPosition(interpolationFactor);
+            this.snapshotBuilder.add(ElementKind.PAD, PAD_TYPE_NAME,
+                    position.getX(), position.getY(), this.pad.getWidth(), this.pad.getHeight());
+        }
+        this.renderSnapshot = this.snapshotBuilder.build();
     }
 
     /**
@@ -311,7 +485,13 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      */
     @Override
     public void removeBall(final Ball ball) {
-        this.ballSet.remove(ball);
+        if (this.ballStore.contains(ball)) {
+            ball.detach();
+            this.entityIndex.remove(ball);
+            if (ball.getId() == this.lastBallId) {
+                this.refreshLastBallId();
+            }
+        }
         if (ball.hasComponent(EventComponent.class)) {
             ball.removeComponent(EventComponent.class);
         }
@@ -323,6 +503,11 @@ public final class ArenaImpl extends EntityImpl implements Arena {
     @Override
     public void removeBrick(final Coord brickCoord) {
         final Brick removedBrick = this.brickMap.remove(brickCoord);
+        this.brickGrid.remove(removedBrick);
+        this.entityIndex.remove(removedBrick);
+        if (!removedBrick.getBrickType().isIndestructible()) {
+            this.destructibleBricks--;
+        }
         if (removedBrick.hasComponent(EventComponent.class)) {
             removedBrick.removeComponent(EventComponent.class);
         }
@@ -334,29 +519,27 @@ public final class ArenaImpl extends EntityImpl implements Arena {
     @Override
     public void removePowerup(final Powerup powerup) {
         this.powerupSet.remove(powerup);
-        if (EventBus.getDefault().isRegistered(powerup)) {
-            EventBus.getDefault().unregister(powerup);
-        }
+        this.entityIndex.remove(powerup);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void resetStartingPosition() {
-        final ElementFactory factory = new ElementFactoryImpl();
-        this.getPad().setPosition(this.startingPadPosition.copyOf());
-        this.ballSet.clear();
-        this.ballSet.add(factory.createBallWithRandomAngle(1, BallType.NORMAL_BALL,
-                                    this.startingBallPosition.copyOf(), this.startingBallModule));
+    public void resetStartingPosition() {
+        final ElementFactory factory = new ElementFactoryImpl(this.random);
+        this.getPad().setPosition(this.startingPadPosition);
+        this.clearBalls();
+        this.addBall(factory.createBallWithRandomAngle(1, BallType.NORMAL_BALL,
+                                    this.startingBallPosition, this.startingBallModule));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void restorePadDimension() {
-        final double difference = this.startingPadDimension.getWidth() - this.getPad().getDimension().getWidth();
+    public void restorePadDimension() {
+        final double difference = this.startingPadDimension.getWidth() - this.pad.getWidth();
         this.pad.setWidth(this.startingPadDimension.getWidth());
         this.adjustPositionOnResize(difference);
     }
@@ -365,10 +548,30 @@ public final class ArenaImpl extends EntityImpl implements Arena {
      * {@inheritDoc}
      */
     @Override
-    public synchronized void setPad(final Pad inputPad) {
-        this.startingPadPosition = inputPad.getPosition();
-        this.startingPadDimension = inputPad.getDimension();
+    public void setPad(final Pad inputPad) {
+        this.startingPadPosition = new ImmutableCoord(inputPad.getPosition());
+        this.startingPadDimension = new ImmutableDimension(inputPad.getDimension());
+        if (!Objects.isNull(this.pad)) {
+            this.entityIndex.remove(this.pad);
+        }
         this.pad = inputPad;
+        this.entityIndex.add(inputPad);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void steerPad(final int direction) {
+        this.padDirection = Integer.signum(direction);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void submit(final Command<Arena> command) {
+        this.pendingCommands.add(Objects.requireNonNull(command));
     }
 
     /**
@@ -394,4 +597,14 @@ public final class ArenaImpl extends EntityImpl implements Arena {
     public void update(final double delta) {
         this.getComponent(UpdateComponent.class).update(delta);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updatePad(final double elapsed) {
+        if (this.padDirection != 0 && !Objects.isNull(this.pad)) {
+            this.movePad(this.padDirection * PAD_SPEED * elapsed);
+        }
+    }
 }
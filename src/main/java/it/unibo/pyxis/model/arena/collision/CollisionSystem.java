@@ -0,0 +1,40 @@
+package it.unibo.pyxis.model.arena.collision;
+
+import it.unibo.pyxis.model.element.ball.Ball;
+
+/**
+ * Collision stage of the {@link it.unibo.pyxis.model.arena.Arena}'s update.
+ * It checks all the dynamic elements ({@link Ball}s and
+ * {@link it.unibo.pyxis.model.element.powerup.Powerup}s) against the static and
+ * kinematic ones ({@link it.unibo.pyxis.model.element.brick.Brick}s,
+ * {@link it.unibo.pyxis.model.element.pad.Pad} and borders), sending an event
+ * for every collision found.
+ */
+public interface CollisionSystem {
+
+    /**
+     * Detects the collisions between the {@link it.unibo.pyxis.model.element.powerup.Powerup}s
+     * and the {@link it.unibo.pyxis.model.element.pad.Pad} in their current positions.
+     */
+    void detectPowerupCollisions();
+
+    /**
+     * Moves a {@link Ball} for the elapsed time, sweeping it along its pace.
+     * The movement stops at the earliest impact, the collision is notified and
+     * resolved, then the rest of the movement continues with the new pace.
+     *
+     * @param ball The {@link Ball} to move.
+     * @param elapsed The elapsed time.
+     */
+    void moveBall(Ball ball, double elapsed);
+
+    /**
+     * Moves all the {@link Ball}s of the {@link it.unibo.pyxis.model.arena.Arena}
+     * for the elapsed time, as {@link #moveBall(Ball, double)} does. The collision
+     * events are sent in the order of the {@link Ball}s in the
+     * {@link it.unibo.pyxis.model.arena.Arena}, whatever the number of threads used.
+     *
+     * @param elapsed The elapsed time.
+     */
+    void moveBalls(double elapsed);
+}
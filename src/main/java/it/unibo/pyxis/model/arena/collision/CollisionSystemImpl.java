@@ -0,0 +1,297 @@
+package it.unibo.pyxis.model.arena.collision;
+
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.element.Element;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.element.powerup.Powerup;
+import it.unibo.pyxis.model.event.EventDispatcher;
+import it.unibo.pyxis.model.event.Events;
+import it.unibo.pyxis.model.hitbox.BallHitbox;
+import it.unibo.pyxis.model.hitbox.Contact;
+import it.unibo.pyxis.model.hitbox.ContactImpl;
+import it.unibo.pyxis.model.util.Dimension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public final class CollisionSystemImpl implements CollisionSystem {
+
+    private static final int MAX_IMPACTS_PER_MOVEMENT = 4;
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 64;
+    private static final int BALLS_PER_TASK = 16;
+    private final Arena arena;
+    private final Sweep sweep;
+    private final int parallelThreshold;
+    private final ForkJoinPool pool;
+
+    public CollisionSystemImpl(final Arena inputArena, final int parallelThreshold, final ForkJoinPool pool) {
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("The parallel threshold must be positive");
+        }
+        this.arena = inputArena;
+        this.sweep = new Sweep();
+        this.parallelThreshold = parallelThreshold;
+        this.pool = pool;
+    }
+
+    public CollisionSystemImpl(final Arena inputArena, final int parallelThreshold) {
+        this(inputArena, parallelThreshold, ForkJoinPool.commonPool());
+    }
+
+    public CollisionSystemImpl(final Arena inputArena) {
+        this(inputArena, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Returns the time for which a {@link Ball} moves during the elapsed time,
+     * to be multiplied by its pace to obtain the displacement.
+     *
+     * @param ball The {@link Ball}.
+     * @param elapsed The elapsed time.
+     * @return The movement time.
+     */
+    private static double movementTimeOf(final Ball ball, final double elapsed) {
+        return ball.getType().getPaceMultiplier() * elapsed * ball.getUpdateTimeMultiplier();
+    }
+
+    /**
+     * Sends the collision event of an impact of a {@link Ball} with a target.
+     *
+     * @param ball The {@link Ball}.
+     * @param impact The {@link Contact} of the impact.
+     * @param target The {@link Element} hit, or null for the borders.
+     */
+    private void notifyImpact(final Ball ball, final Contact impact, final Element target) {
+        final EventDispatcher dispatcher = this.arena.getEventDispatcher();
+        if (target instanceof Brick) {
+            final Brick brick = (Brick) target;
+            dispatcher.post(Events.newBallCollisionWithBrickEvent(ball.getId(), ball.getType(),
+                    brick.getPosition(), brick.getBrickType().isIndestructible(), impact));
+        } else if (target instanceof Pad) {
+            final double hitPercentage = (target.getX() + target.getWidth() / 2 - ball.getX()) / target.getWidth();
+            dispatcher.post(Events.newBallCollisionWithPadEvent(ball.getId(), impact, hitPercentage));
+        } else {
+            dispatcher.post(Events.newBallCollisionWithBorderEvent(ball.getId(), impact));
+        }
+    }
+
+    /**
+     * Moves a {@link Ball} for the elapsed time, notifying and resolving
+     * every impact found along the way. Every {@link Element} is hit at most
+     * once per movement, so a {@link Ball} that doesn't bounce goes on through
+     * the {@link Brick}s it hits; those impacts don't count towards the limit
+     * of impacts per movement, as they can't repeat.
+     *
+     * @param ball The {@link Ball} to move.
+     * @param borderDimension The {@link Dimension} of the border.
+     * @param pad The {@link Pad} of the {@link Arena}.
+     * @param elapsed The elapsed time.
+     */
+    private void moveBall(final Ball ball, final Dimension borderDimension, final Pad pad, final double elapsed) {
+        double remaining = elapsed;
+        int impacts = 0;
+        this.sweep.hitTargets.clear();
+        while (impacts < MAX_IMPACTS_PER_MOVEMENT && remaining > 0) {
+            final double movementTime = movementTimeOf(ball, remaining);
+            this.sweep.findEarliestImpact(ball, borderDimension, pad,
+                    ball.getPaceX() * movementTime, ball.getPaceY() * movementTime);
+            if (!this.sweep.impactFound) {
+                break;
+            }
+            final Element target = this.sweep.earliestTarget;
+            final double impactTime = remaining * this.sweep.earliestImpact.getImpactTime();
+            ball.update(impactTime);
+            if (!(target instanceof Brick) || ball.getType().bounce()) {
+                impacts++;
+            }
+            if (!Objects.isNull(target)) {
+                this.sweep.hitTargets.add(target);
+            }
+            this.notifyImpact(ball, this.sweep.earliestImpact, target);
+            ball.update(0);
+            remaining -= impactTime;
+        }
+        ball.update(remaining);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void detectPowerupCollisions() {
+        final Pad pad = this.arena.getPad();
+        for (final Powerup powerup : this.arena.getPowerupList()) {
+            if (powerup.getHitbox().isCollidingWithHB(pad.getHitbox())) {
+                this.arena.getEventDispatcher().post(Events.newPowerupActivationEvent(powerup));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void moveBall(final Ball ball, final double elapsed) {
+        this.moveBall(ball, this.arena.getDimension(), this.arena.getPad(), elapsed);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void moveBalls(final double elapsed) {
+        final List<Ball> balls = this.arena.getBallList();
+        final Dimension borderDimension = this.arena.getDimension();
+        final Pad pad = this.arena.getPad();
+        if (balls.size() < this.parallelThreshold) {
+            for (final Ball ball : balls) {
+                this.moveBall(ball, borderDimension, pad, elapsed);
+            }
+            return;
+        }
+        final boolean[] deferred = new boolean[balls.size()];
+        this.pool.invoke(new FreeMovementTask(balls, deferred, borderDimension, pad, elapsed, 0, balls.size()));
+        for (int i = 0; i < deferred.length; i++) {
+            if (deferred[i]) {
+                this.moveBall(balls.get(i), borderDimension, pad, elapsed);
+            }
+        }
+    }
+
+    /**
+     * Scratch state of the search of the earliest impact of a {@link Ball}.
+     * Every thread sweeping {@link Ball}s needs its own instance.
+     */
+    private final class Sweep {
+
+        private final Contact candidate = new ContactImpl();
+        private final Contact earliestImpact = new ContactImpl();
+        private final List<Element> hitTargets = new ArrayList<>();
+        private Element earliestTarget;
+        private boolean impactFound;
+
+        /**
+         * Checks if an {@link Element} has already been hit during the current movement.
+         *
+         * @param target The {@link Element}, or null for the borders, that are never skipped.
+         * @return True if the {@link Element} has already been hit, false otherwise.
+         */
+        private boolean isAlreadyHit(final Element target) {
+            for (final Element hitTarget : this.hitTargets) {
+                if (hitTarget == target) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Keeps the candidate impact if it has been found, it happens before
+         * the earliest one found so far and its target hasn't already been hit
+         * during the current movement.
+         *
+         * @param found TRUE if the candidate has been filled by the last query.
+         * @param target The {@link Element} hit, or null for the borders.
+         */
+        private void keepEarliest(final boolean found, final Element target) {
+            if (found && !this.isAlreadyHit(target) && (!this.impactFound
+                    || this.candidate.getImpactTime() < this.earliestImpact.getImpactTime())) {
+                this.earliestImpact.set(this.candidate);
+                this.earliestTarget = target;
+                this.impactFound = true;
+            }
+        }
+
+        /**
+         * Searches the earliest impact of a {@link Ball} moving of a displacement with the
+         * borders, the {@link Pad} and the {@link Brick}s near the swept area.
+         *
+         * @param ball The {@link Ball}.
+         * @param borderDimension The {@link Dimension} of the border.
+         * @param pad The {@link Pad} of the {@link Arena}.
+         * @param dx The x value of the displacement of the {@link Ball}.
+         * @param dy The y value of the displacement of the {@link Ball}.
+         */
+        private void findEarliestImpact(final Ball ball, final Dimension borderDimension, final Pad pad,
+                                        final double dx, final double dy) {
+            this.impactFound = false;
+            this.earliestTarget = null;
+            final BallHitbox hitbox = (BallHitbox) ball.getHitbox();
+            this.keepEarliest(hitbox.impactWithBorder(borderDimension, dx, dy, this.candidate), null);
+            this.keepEarliest(hitbox.impactWithHB(pad.getHitbox(), dx, dy, this.candidate), pad);
+            final double halfWidth = ball.getWidth() / 2;
+            final double halfHeight = ball.getHeight() / 2;
+            final double startX = ball.getX();
+            final double startY = ball.getY();
+            final double endX = startX + dx;
+            final double endY = startY + dy;
+            for (final Brick brick : CollisionSystemImpl.this.arena.getBricksInArea(
+                    Math.min(startX, endX) - halfWidth,
+                    Math.min(startY, endY) - halfHeight,
+                    Math.max(startX, endX) + halfWidth,
+                    Math.max(startY, endY) + halfHeight)) {
+                this.keepEarliest(hitbox.impactWithHB(brick.getHitbox(), dx, dy, this.candidate), brick);
+            }
+        }
+    }
+
+    /**
+     * Moves in parallel the {@link Ball}s that don't hit anything during the
+     * elapsed time. Their movement doesn't send events nor touch shared state,
+     * so it doesn't depend on the thread running it. The {@link Ball}s that would
+     * hit something are only marked as deferred, to be moved afterwards on the
+     * calling thread in their original order.
+     */
+    private final class FreeMovementTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private final transient List<Ball> balls;
+        private final boolean[] deferred;
+        private final transient Dimension borderDimension;
+        private final transient Pad pad;
+        private final double elapsed;
+        private final int from;
+        private final int to;
+
+        FreeMovementTask(final List<Ball> balls, final boolean[] deferred, final Dimension borderDimension,
+                         final Pad pad, final double elapsed, final int from, final int to) {
+            super();
+            this.balls = balls;
+            this.deferred = deferred;
+            this.borderDimension = borderDimension;
+            this.pad = pad;
+            this.elapsed = elapsed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= BALLS_PER_TASK) {
+                final Sweep localSweep = new Sweep();
+                for (int i = this.from; i < this.to; i++) {
+                    final Ball ball = this.balls.get(i);
+                    final double movementTime = movementTimeOf(ball, this.elapsed);
+                    localSweep.findEarliestImpact(ball, this.borderDimension, this.pad,
+                            ball.getPaceX() * movementTime, ball.getPaceY() * movementTime);
+                    if (localSweep.impactFound) {
+                        this.deferred[i] = true;
+                    } else {
+                        ball.update(this.elapsed);
+                    }
+                }
+                return;
+            }
+            final int middle = (this.from + this.to) >>> 1;
+            invokeAll(new FreeMovementTask(this.balls, this.deferred, this.borderDimension,
+                            this.pad, this.elapsed, this.from, middle),
+                    new FreeMovementTask(this.balls, this.deferred, this.borderDimension,
+                            this.pad, this.elapsed, middle, this.to));
+        }
+    }
+}
@@ -8,7 +8,6 @@ import it.unibo.pyxis.model.element.powerup.PowerupType;
 import it.unibo.pyxis.model.event.notify.BrickDestructionEvent;
 import it.unibo.pyxis.model.event.notify.PowerupActivationEvent;
 import it.unibo.pyxis.model.util.Coord;
-import org.greenrobot.eventbus.Subscribe;
 
 import java.util.Random;
 
@@ -16,11 +15,10 @@ public final class ArenaEventComponent extends AbstractEventComponent<Arena> {
 
     private static final double POWERUP_SPAWN_PROBABILITY = 3.0 / 10;
 
-    private final Random randomNumberGenerator;
-
     public ArenaEventComponent(final Arena entity) {
-        super(entity);
-        this.randomNumberGenerator = new Random();
+        super(entity, entity.getEventDispatcher());
+        this.subscribeDeferred(BrickDestructionEvent.class, this::handleBrickDestruction);
+        this.subscribeDeferred(PowerupActivationEvent.class, this::handlePowerupActivation);
     }
 
     /**
@@ -38,10 +36,10 @@ public final class ArenaEventComponent extends AbstractEventComponent<Arena> {
      * and the specified value (exclusive).
      *
      * @return the pseudorandom {@link Integer} value between 0 (inclusive) and the
-     * specified value (exclusive) from the {@link Random} rng sequence.
+     * specified value (exclusive) from the {@link Random} rng sequence of the {@link Arena}.
      */
     private Integer rangeNextInt(final int upperBound) {
-        return randomNumberGenerator.nextInt(upperBound);
+        return this.getEntity().getRandom().nextInt(upperBound);
     }
 
     /**
@@ -61,7 +59,6 @@ public final class ArenaEventComponent extends AbstractEventComponent<Arena> {
      *
      * @param event The instance of {@link BrickDestructionEvent}.
      */
-    @Subscribe
     public void handleBrickDestruction(final BrickDestructionEvent event) {
         this.getEntity().removeBrick(event.getBrickCoord());
         if (this.calculateSpawnPowerup()) {
@@ -70,12 +67,15 @@ public final class ArenaEventComponent extends AbstractEventComponent<Arena> {
     }
 
     /**
-     * Handles a {@link PowerupActivationEvent}.
+     * Handles a {@link PowerupActivationEvent}, if the {@link Powerup} has been
+     * caught in the {@link Arena} of this component.
      *
      * @param event The instance of {@link PowerupActivationEvent}.
      */
-    @Subscribe
     public void handlePowerupActivation(final PowerupActivationEvent event) {
+        if (!this.getEntity().getPowerups().contains(event.getPowerup())) {
+            return;
+        }
         this.getEntity().getPowerupHandler().addPowerup(event.getPowerup().getType().getEffect());
         this.getEntity().removePowerup(event.getPowerup());
     }
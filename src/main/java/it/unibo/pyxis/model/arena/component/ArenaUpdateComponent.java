@@ -1,50 +1,39 @@
 package it.unibo.pyxis.model.arena.component;
 
-import it.unibo.pyxis.model.arena.Arena;
 import it.unibo.pyxis.ecs.component.physics.AbstractUpdateComponent;
-import it.unibo.pyxis.model.element.ball.Ball;
-import it.unibo.pyxis.model.event.Events;
-import it.unibo.pyxis.model.hitbox.CollisionInformation;
-import it.unibo.pyxis.model.hitbox.Hitbox;
-import it.unibo.pyxis.model.util.Dimension;
-import org.greenrobot.eventbus.EventBus;
-
-import java.util.Optional;
+import it.unibo.pyxis.ecs.system.SystemScheduler;
+import it.unibo.pyxis.ecs.system.SystemSchedulerImpl;
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.arena.collision.CollisionSystem;
+import it.unibo.pyxis.model.arena.collision.CollisionSystemImpl;
+import it.unibo.pyxis.model.arena.system.ArenaCommandSystem;
+import it.unibo.pyxis.model.arena.system.BallIntegrationSystem;
+import it.unibo.pyxis.model.arena.system.EventFlushSystem;
+import it.unibo.pyxis.model.arena.system.LostElementSystem;
+import it.unibo.pyxis.model.arena.system.PadMovementSystem;
+import it.unibo.pyxis.model.arena.system.PowerupCollisionSystem;
+import it.unibo.pyxis.model.arena.system.PowerupEffectSystem;
+import it.unibo.pyxis.model.arena.system.PowerupFallSystem;
+import it.unibo.pyxis.model.arena.system.PreviousPositionSystem;
 
 public class ArenaUpdateComponent extends AbstractUpdateComponent<Arena> {
 
+    private final SystemScheduler scheduler;
+
     public ArenaUpdateComponent(final Arena entity) {
         super(entity);
-    }
-
-    /**
-     * Checks if {@link Ball} or {@link it.unibo.pyxis.model.element.powerup.Powerup} is colliding with a border.
-     * Remove the {@link Ball} or {@link it.unibo.pyxis.model.element.powerup.Powerup} colliding with the bottom border,
-     * Otherwise send a {@link it.unibo.pyxis.model.event.collision.CollisionEvent}
-     * with the edge the {@link Ball} is colliding with.
-     */
-    private void checkBorderCollision() {
-        final Arena arena = this.getEntity();
-        for (final Ball ball: arena.getBalls()) {
-            final Hitbox ballHitbox = ball.getHitbox();
-            if (ballHitbox.isCollidingWithLowerBorder(arena.getDimension())) {
-                arena.removeBall(ball);
-                if (arena.getBalls().isEmpty()) {
-                    EventBus.getDefault().post(Events.newDecreaseLifeEvent());
-                    arena.clearPowerups();
-                    arena.restorePadDimension();
-                    arena.resetStartingPosition();
-                    return;
-                }
-            } else {
-                final Dimension arenaDimension = arena.getDimension();
-                final Optional<CollisionInformation> collInformation = ballHitbox.collidingInformationWithBorder(arenaDimension);
-                collInformation.ifPresent(cI -> EventBus.getDefault().post(Events.newBallCollisionWithBorderEvent(ball.getId(), cI)));
-            }
-        }
-        arena.getPowerups().stream()
-                .filter(p -> p.getHitbox().isCollidingWithLowerBorder(arena.getDimension()))
-                .forEach(arena::removePowerup);
+        final CollisionSystem collisionSystem = new CollisionSystemImpl(entity);
+        this.scheduler = new SystemSchedulerImpl();
+        this.scheduler.addSystem(new ArenaCommandSystem(entity));
+        this.scheduler.addSystem(new PreviousPositionSystem(entity));
+        this.scheduler.addSystem(new LostElementSystem(entity));
+        this.scheduler.addSystem(new PadMovementSystem(entity));
+        this.scheduler.addSystem(new BallIntegrationSystem(collisionSystem));
+        this.scheduler.addSystem(new PowerupFallSystem(entity));
+        this.scheduler.addSystem(new EventFlushSystem(entity.getEventDispatcher()));
+        this.scheduler.addSystem(new PowerupCollisionSystem(collisionSystem));
+        this.scheduler.addSystem(new EventFlushSystem(entity.getEventDispatcher()));
+        this.scheduler.addSystem(new PowerupEffectSystem(entity));
     }
 
     /**
@@ -52,8 +41,6 @@ public class ArenaUpdateComponent extends AbstractUpdateComponent<Arena> {
      */
     @Override
     public final void update(final double elapsed) {
-        this.checkBorderCollision();
-        this.getEntity().getBalls().forEach(b -> b.update(elapsed));
-        this.getEntity().getPowerups().forEach(p -> p.update(elapsed));
+        this.scheduler.update(elapsed);
     }
 }
@@ -0,0 +1,53 @@
+package it.unibo.pyxis.model.arena.grid;
+
+import java.util.List;
+
+import it.unibo.pyxis.model.element.Element;
+
+/**
+ * Uniform grid used as broadphase to index the {@link Element}s of an
+ * {@link it.unibo.pyxis.model.arena.Arena}. Each {@link Element} is stored
+ * in the cell containing its center.
+ *
+ * @param <E> The type of the indexed {@link Element}s.
+ */
+public interface Grid<E extends Element> {
+
+    /**
+     * Removes all the {@link Element}s from the {@link Grid}.
+     */
+    void clear();
+
+    /**
+     * Inserts an {@link Element} in the cell containing its center.
+     *
+     * @param element The {@link Element} to insert.
+     */
+    void insert(E element);
+
+    /**
+     * Returns the {@link Element}s whose bounds may overlap the input area.
+     * Every {@link Element} is returned at most once, ordered by cell.
+     *
+     * @param minX The minimum x value of the area.
+     * @param minY The minimum y value of the area.
+     * @param maxX The maximum x value of the area.
+     * @param maxY The maximum y value of the area.
+     * @return A {@link List} of candidate {@link Element}s.
+     */
+    List<E> query(double minX, double minY, double maxX, double maxY);
+
+    /**
+     * Removes an {@link Element} from the {@link Grid}.
+     *
+     * @param element The {@link Element} to remove.
+     */
+    void remove(E element);
+
+    /**
+     * Returns the number of {@link Element}s in the {@link Grid}.
+     *
+     * @return The number of indexed {@link Element}s.
+     */
+    int size();
+}
@@ -0,0 +1,124 @@
+package it.unibo.pyxis.model.arena.grid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import it.unibo.pyxis.model.element.Element;
+import it.unibo.pyxis.model.util.Dimension;
+
+public final class GridImpl<E extends Element> implements Grid<E> {
+
+    private final double cellWidth;
+    private final double cellHeight;
+    private final int columns;
+    private final int rows;
+    private final List<List<E>> cells;
+    private double maxHalfWidth;
+    private double maxHalfHeight;
+    private int size;
+
+    public GridImpl(final Dimension area, final double inputCellWidth, final double inputCellHeight) {
+        if (inputCellWidth <= 0 || inputCellHeight <= 0) {
+            throw new IllegalArgumentException("The cell dimensions must be positive");
+        }
+        this.cellWidth = inputCellWidth;
+        this.cellHeight = inputCellHeight;
+        this.columns = Math.max(1, (int) Math.ceil(area.getWidth() / inputCellWidth));
+        this.rows = Math.max(1, (int) Math.ceil(area.getHeight() / inputCellHeight));
+        this.cells = new ArrayList<>(this.columns * this.rows);
+        for (int i = 0; i < this.columns * this.rows; i++) {
+            this.cells.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Returns the column containing the input x value, clamped inside the {@link Grid}.
+     *
+     * @param x The x value.
+     * @return The index of the column.
+     */
+    private int columnOf(final double x) {
+        return Math.min(Math.max((int) Math.floor(x / this.cellWidth), 0), this.columns - 1);
+    }
+
+    /**
+     * Returns the row containing the input y value, clamped inside the {@link Grid}.
+     *
+     * @param y The y value.
+     * @return The index of the row.
+     */
+    private int rowOf(final double y) {
+        return Math.min(Math.max((int) Math.floor(y / this.cellHeight), 0), this.rows - 1);
+    }
+
+    /**
+     * Returns the cell containing the center of the input {@link Element}.
+     *
+     * @param element The {@link Element}.
+     * @return The {@link List} of {@link Element}s of the cell.
+     */
+    private List<E> cellOf(final E element) {
+        return this.cells.get(this.rowOf(element.getY()) * this.columns + this.columnOf(element.getX()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        this.cells.forEach(List::clear);
+        this.maxHalfWidth = 0;
+        this.maxHalfHeight = 0;
+        this.size = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void insert(final E element) {
+        this.maxHalfWidth = Math.max(this.maxHalfWidth, element.getWidth() / 2);
+        this.maxHalfHeight = Math.max(this.maxHalfHeight, element.getHeight() / 2);
+        this.cellOf(element).add(element);
+        this.size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<E> query(final double minX, final double minY, final double maxX, final double maxY) {
+        final List<E> result = new ArrayList<>();
+        if (this.size == 0) {
+            return result;
+        }
+        final int minColumn = this.columnOf(minX - this.maxHalfWidth);
+        final int maxColumn = this.columnOf(maxX + this.maxHalfWidth);
+        final int minRow = this.rowOf(minY - this.maxHalfHeight);
+        final int maxRow = this.rowOf(maxY + this.maxHalfHeight);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                result.addAll(this.cells.get(row * this.columns + column));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(final E element) {
+        if (this.cellOf(element).remove(element)) {
+            this.size--;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+}
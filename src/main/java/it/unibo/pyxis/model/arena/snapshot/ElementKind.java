@@ -0,0 +1,27 @@
+package it.unibo.pyxis.model.arena.snapshot;
+
+/**
+ * Enumerator for the kinds of {@link it.unibo.pyxis.model.element.Element}s
+ * stored in a {@link RenderSnapshot}.
+ */
+public enum ElementKind {
+    /**
+     * A {@link it.unibo.pyxis.model.element.ball.Ball}.
+     */
+    BALL,
+
+    /**
+     * A {@link it.unibo.pyxis.model.element.brick.Brick}.
+     */
+    BRICK,
+
+    /**
+     * The {@link it.unibo.pyxis.model.element.pad.Pad}.
+     */
+    PAD,
+
+    /**
+     * A {@link it.unibo.pyxis.model.element.powerup.Powerup}.
+     */
+    POWERUP
+}
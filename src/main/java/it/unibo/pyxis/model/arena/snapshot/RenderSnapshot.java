@@ -0,0 +1,62 @@
+package it.unibo.pyxis.model.arena.snapshot;
+
+/**
+ * Immutable picture of the {@link it.unibo.pyxis.model.element.Element}s of an
+ * {@link it.unibo.pyxis.model.arena.Arena}, published by the game loop and read
+ * by the render thread without locking the {@link it.unibo.pyxis.model.arena.Arena}.
+ * The elements are stored in drawing order and accessed by index.
+ */
+public interface RenderSnapshot {
+    /**
+     * Returns the height of the element at the input index.
+     *
+     * @param index The index of the element.
+     * @return The height.
+     */
+    double getHeight(int index);
+    /**
+     * Returns the {@link ElementKind} of the element at the input index.
+     *
+     * @param index The index of the element.
+     * @return The {@link ElementKind}.
+     */
+    ElementKind getKind(int index);
+    /**
+     * Returns the name of the type of the element at the input index,
+     * as the {@link it.unibo.pyxis.model.element.ball.BallType},
+     * {@link it.unibo.pyxis.model.element.brick.BrickType} or
+     * {@link it.unibo.pyxis.model.element.powerup.PowerupType} string.
+     * It's empty for the {@link it.unibo.pyxis.model.element.pad.Pad}.
+     *
+     * @param index The index of the element.
+     * @return The name of the type.
+     */
+    String getTypeName(int index);
+    /**
+     * Returns the width of the element at the input index.
+     *
+     * @param index The index of the element.
+     * @return The width.
+     */
+    double getWidth(int index);
+    /**
+     * Returns the X value of the center of the element at the input index.
+     *
+     * @param index The index of the element.
+     * @return The X value.
+     */
+    double getX(int index);
+    /**
+     * Returns the Y value of the center of the element at the input index.
+     *
+     * @param index The index of the element.
+     * @return The Y value.
+     */
+    double getY(int index);
+    /**
+     * Returns the number of elements in the {@link RenderSnapshot}.
+     *
+     * @return The number of elements.
+     */
+    int size();
+}
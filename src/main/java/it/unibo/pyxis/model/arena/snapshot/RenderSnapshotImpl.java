@@ -0,0 +1,164 @@
+package it.unibo.pyxis.model.arena.snapshot;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class RenderSnapshotImpl implements RenderSnapshot {
+
+    private final ElementKind[] kinds;
+    private final String[] typeNames;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] widths;
+    private final double[] heights;
+
+    private RenderSnapshotImpl(final Builder builder) {
+        this.kinds = Arrays.copyOf(builder.kinds, builder.size);
+        this.typeNames = Arrays.copyOf(builder.typeNames, builder.size);
+        this.xs = Arrays.copyOf(builder.xs, builder.size);
+        this.ys = Arrays.copyOf(builder.ys, builder.size);
+        this.widths = Arrays.copyOf(builder.widths, builder.size);
+        this.heights = Arrays.copyOf(builder.heights, builder.size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getHeight(final int index) {
+        return this.heights[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ElementKind getKind(final int index) {
+        return this.kinds[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getTypeName(final int index) {
+        return this.typeNames[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getWidth(final int index) {
+        return this.widths[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getX(final int index) {
+        return this.xs[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getY(final int index) {
+        return this.ys[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.kinds.length;
+    }
+
+    /**
+     * Mutable back buffer of a {@link RenderSnapshot}. The game loop fills it
+     * after every tick and builds an immutable {@link RenderSnapshot} to publish,
+     * then clears it and reuses its arrays for the next tick.
+     */
+    public static final class Builder {
+
+        private static final int DEFAULT_CAPACITY = 64;
+        private ElementKind[] kinds;
+        private String[] typeNames;
+        private double[] xs;
+        private double[] ys;
+        private double[] widths;
+        private double[] heights;
+        private int size;
+
+        public Builder() {
+            this.kinds = new ElementKind[DEFAULT_CAPACITY];
+            this.typeNames = new String[DEFAULT_CAPACITY];
+            this.xs = new double[DEFAULT_CAPACITY];
+            this.ys = new double[DEFAULT_CAPACITY];
+            this.widths = new double[DEFAULT_CAPACITY];
+            this.heights = new double[DEFAULT_CAPACITY];
+        }
+
+        /**
+         * Doubles the capacity of the {@link Builder}.
+         */
+        private void grow() {
+            final int capacity = this.kinds.length * 2;
+            this.kinds = Arrays.copyOf(this.kinds, capacity);
+            this.typeNames = Arrays.copyOf(this.typeNames, capacity);
+            this.xs = Arrays.copyOf(this.xs, capacity);
+            this.ys = Arrays.copyOf(this.ys, capacity);
+            this.widths = Arrays.copyOf(this.widths, capacity);
+            this.heights = Arrays.copyOf(this.heights, capacity);
+        }
+
+        /**
+         * Appends an element to the {@link Builder}.
+         *
+         * @param kind The {@link ElementKind} of the element.
+         * @param typeName The name of the type of the element.
+         * @param x The X value of the center of the element.
+         * @param y The Y value of the center of the element.
+         * @param width The width of the element.
+         * @param height The height of the element.
+         * @return The {@link Builder}.
+         */
+        public Builder add(final ElementKind kind, final String typeName, final double x, final double y,
+                           final double width, final double height) {
+            if (this.size == this.kinds.length) {
+                this.grow();
+            }
+            this.kinds[this.size] = Objects.requireNonNull(kind);
+            this.typeNames[this.size] = Objects.requireNonNull(typeName);
+            this.xs[this.size] = x;
+            this.ys[this.size] = y;
+            this.widths[this.size] = width;
+            this.heights[this.size] = height;
+            this.size++;
+            return this;
+        }
+
+        /**
+         * Builds an immutable {@link RenderSnapshot} with the elements added so far.
+         *
+         * @return The {@link RenderSnapshot}.
+         */
+        public RenderSnapshot build() {
+            return new RenderSnapshotImpl(this);
+        }
+
+        /**
+         * Removes all the elements from the {@link Builder}, keeping its capacity.
+         *
+         * @return The {@link Builder}.
+         */
+        public Builder clear() {
+            Arrays.fill(this.typeNames, 0, this.size, null);
+            this.size = 0;
+            return this;
+        }
+    }
+}
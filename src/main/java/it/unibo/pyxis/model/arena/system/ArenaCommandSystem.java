@@ -0,0 +1,33 @@
+package it.unibo.pyxis.model.arena.system;
+
+import it.unibo.pyxis.ecs.system.AbstractGameSystem;
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.element.powerup.Powerup;
+
+import java.util.Set;
+
+/**
+ * Executes the {@link it.unibo.pyxis.controller.command.Command}s submitted to the
+ * {@link Arena} by the other threads. Being the first system, the changes they
+ * make are seen by every system of the same update.
+ */
+public final class ArenaCommandSystem extends AbstractGameSystem {
+
+    private final Arena arena;
+
+    public ArenaCommandSystem(final Arena inputArena) {
+        super(Set.of(), Set.of(Ball.class, Brick.class, Pad.class, Powerup.class));
+        this.arena = inputArena;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double elapsed) {
+        this.arena.executePendingCommands();
+    }
+}
@@ -0,0 +1,33 @@
+package it.unibo.pyxis.model.arena.system;
+
+import it.unibo.pyxis.ecs.system.AbstractGameSystem;
+import it.unibo.pyxis.model.arena.collision.CollisionSystem;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.element.powerup.Powerup;
+
+import java.util.Set;
+
+/**
+ * Moves the {@link Ball}s resolving their collisions. It writes the
+ * {@link Brick}s because the collision events damage them; their removal
+ * and the spawn of the {@link Powerup}s are deferred to the next flush.
+ */
+public final class BallIntegrationSystem extends AbstractGameSystem {
+
+    private final CollisionSystem collisionSystem;
+
+    public BallIntegrationSystem(final CollisionSystem inputCollisionSystem) {
+        super(Set.of(Pad.class), Set.of(Ball.class, Brick.class));
+        this.collisionSystem = inputCollisionSystem;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double elapsed) {
+        this.collisionSystem.moveBalls(elapsed);
+    }
+}
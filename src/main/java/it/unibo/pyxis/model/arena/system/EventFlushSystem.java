@@ -0,0 +1,33 @@
+package it.unibo.pyxis.model.arena.system;
+
+import it.unibo.pyxis.ecs.system.AbstractGameSystem;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.element.powerup.Powerup;
+import it.unibo.pyxis.model.event.EventDispatcher;
+
+import java.util.Set;
+
+/**
+ * Delivers the deferred {@link it.unibo.pyxis.model.event.Event}s raised by
+ * the previous systems. Its handlers may change any element, so it separates
+ * the systems added before it from the ones added after it.
+ */
+public final class EventFlushSystem extends AbstractGameSystem {
+
+    private final EventDispatcher dispatcher;
+
+    public EventFlushSystem(final EventDispatcher inputDispatcher) {
+        super(Set.of(), Set.of(Ball.class, Brick.class, Pad.class, Powerup.class));
+        this.dispatcher = inputDispatcher;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double elapsed) {
+        this.dispatcher.flush();
+    }
+}
@@ -0,0 +1,51 @@
+package it.unibo.pyxis.model.arena.system;
+
+import it.unibo.pyxis.ecs.system.AbstractGameSystem;
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.element.powerup.Powerup;
+import it.unibo.pyxis.model.event.Events;
+import it.unibo.pyxis.model.util.Dimension;
+
+import java.util.Set;
+
+/**
+ * Removes the {@link Ball}s and the {@link Powerup}s colliding with the bottom
+ * border. If there aren't any {@link Ball}s left, sends a
+ * {@link it.unibo.pyxis.model.event.notify.DecreaseLifeEvent} and resets the {@link Arena}.
+ */
+public final class LostElementSystem extends AbstractGameSystem {
+
+    private final Arena arena;
+
+    public LostElementSystem(final Arena inputArena) {
+        super(Set.of(), Set.of(Ball.class, Pad.class, Powerup.class));
+        this.arena = inputArena;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double elapsed) {
+        final Dimension arenaDimension = this.arena.getDimension();
+        for (final Ball ball : this.arena.getEntityIndex().getEntities(Ball.class)) {
+            if (ball.getHitbox().isCollidingWithLowerBorder(arenaDimension)) {
+                this.arena.removeBall(ball);
+                if (this.arena.getBallList().isEmpty()) {
+                    this.arena.getEventDispatcher().post(Events.newDecreaseLifeEvent());
+                    this.arena.clearPowerups();
+                    this.arena.restorePadDimension();
+                    this.arena.resetStartingPosition();
+                    return;
+                }
+            }
+        }
+        for (final Powerup powerup : this.arena.getEntityIndex().getEntities(Powerup.class)) {
+            if (powerup.getHitbox().isCollidingWithLowerBorder(arenaDimension)) {
+                this.arena.removePowerup(powerup);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package it.unibo.pyxis.model.arena.system;
+
+import it.unibo.pyxis.ecs.system.AbstractGameSystem;
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.pad.Pad;
+
+import java.util.Set;
+
+/**
+ * Moves the {@link Pad} of the {@link Arena} towards its steering direction.
+ * It runs before the {@link Ball}s move, so they see its new position.
+ */
+public final class PadMovementSystem extends AbstractGameSystem {
+
+    private final Arena arena;
+
+    public PadMovementSystem(final Arena inputArena) {
+        super(Set.of(Ball.class), Set.of(Pad.class));
+        this.arena = inputArena;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double elapsed) {
+        this.arena.updatePad(elapsed);
+    }
+}
@@ -0,0 +1,29 @@
+package it.unibo.pyxis.model.arena.system;
+
+import it.unibo.pyxis.ecs.system.AbstractGameSystem;
+import it.unibo.pyxis.model.arena.collision.CollisionSystem;
+import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.element.powerup.Powerup;
+
+import java.util.Set;
+
+/**
+ * Activates the {@link Powerup}s caught by the {@link Pad}.
+ */
+public final class PowerupCollisionSystem extends AbstractGameSystem {
+
+    private final CollisionSystem collisionSystem;
+
+    public PowerupCollisionSystem(final CollisionSystem inputCollisionSystem) {
+        super(Set.of(Pad.class), Set.of(Powerup.class));
+        this.collisionSystem = inputCollisionSystem;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double elapsed) {
+        this.collisionSystem.detectPowerupCollisions();
+    }
+}
@@ -0,0 +1,31 @@
+package it.unibo.pyxis.model.arena.system;
+
+import it.unibo.pyxis.ecs.system.AbstractGameSystem;
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.powerup.handler.PowerupHandler;
+
+import java.util.Set;
+
+/**
+ * Advances the clock of the {@link PowerupHandler} of the {@link Arena},
+ * removing the effects whose time is over from the {@link Ball}s and the {@link Pad}.
+ */
+public final class PowerupEffectSystem extends AbstractGameSystem {
+
+    private final PowerupHandler powerupHandler;
+
+    public PowerupEffectSystem(final Arena arena) {
+        super(Set.of(), Set.of(Ball.class, Pad.class));
+        this.powerupHandler = arena.getPowerupHandler();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double elapsed) {
+        this.powerupHandler.update(elapsed);
+    }
+}
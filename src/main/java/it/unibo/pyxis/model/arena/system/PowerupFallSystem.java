@@ -0,0 +1,29 @@
+package it.unibo.pyxis.model.arena.system;
+
+import it.unibo.pyxis.ecs.system.AbstractGameSystem;
+import it.unibo.pyxis.ecs.system.EntityIndex;
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.element.powerup.Powerup;
+
+import java.util.Set;
+
+/**
+ * Moves the falling {@link Powerup}s.
+ */
+public final class PowerupFallSystem extends AbstractGameSystem {
+
+    private final EntityIndex entityIndex;
+
+    public PowerupFallSystem(final Arena arena) {
+        super(Set.of(), Set.of(Powerup.class));
+        this.entityIndex = arena.getEntityIndex();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double elapsed) {
+        this.entityIndex.getEntities(Powerup.class).forEach(p -> p.update(elapsed));
+    }
+}
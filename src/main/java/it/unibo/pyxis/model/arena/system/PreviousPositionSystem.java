@@ -0,0 +1,34 @@
+package it.unibo.pyxis.model.arena.system;
+
+import it.unibo.pyxis.ecs.system.AbstractGameSystem;
+import it.unibo.pyxis.ecs.system.EntityIndex;
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.pad.Pad;
+import it.unibo.pyxis.model.element.powerup.Powerup;
+
+import java.util.Set;
+
+/**
+ * Stores the current position of the moving elements of the {@link Arena},
+ * used to interpolate them while rendering.
+ */
+public final class PreviousPositionSystem extends AbstractGameSystem {
+
+    private final EntityIndex entityIndex;
+
+    public PreviousPositionSystem(final Arena arena) {
+        super(Set.of(), Set.of(Ball.class, Pad.class, Powerup.class));
+        this.entityIndex = arena.getEntityIndex();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final double elapsed) {
+        this.entityIndex.getEntities(Ball.class).forEach(Ball::storePreviousPosition);
+        this.entityIndex.getEntities(Powerup.class).forEach(Powerup::storePreviousPosition);
+        this.entityIndex.getEntities(Pad.class).forEach(Pad::storePreviousPosition);
+    }
+}
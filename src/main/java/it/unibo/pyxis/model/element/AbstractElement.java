@@ -3,21 +3,40 @@ package it.unibo.pyxis.model.element;
 import it.unibo.pyxis.ecs.component.physics.UpdateComponent;
 import it.unibo.pyxis.ecs.EntityImpl;
 import it.unibo.pyxis.model.hitbox.Hitbox;
-import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
+import it.unibo.pyxis.model.util.DimensionImpl;
+import it.unibo.pyxis.model.util.ImmutableDimension;
 
 import java.util.Objects;
 
 public abstract class AbstractElement extends EntityImpl implements Element {
 
     private static final double UPDATE_TIME_MULTIPLIER = 0.001;
-    private final Dimension dimension;
-    private final Coord position;
+    private Dimension dimension;
     private Hitbox hitbox;
 
-    public AbstractElement(final Dimension inputDimension, final Coord inputPosition) {
+    /**
+     * Creates an {@link AbstractElement}. Where the position is kept is up
+     * to the subclass, that implements all the accessors of the position.
+     *
+     * @param inputDimension The {@link Dimension} of the {@link Element}.
+     */
+    protected AbstractElement(final Dimension inputDimension) {
         this.dimension = inputDimension;
-        this.position = inputPosition;
+    }
+
+    /**
+     * Returns the {@link Dimension} of the {@link Element}, ready to be changed.
+     * An {@link ImmutableDimension} shared by many {@link Element}s is replaced
+     * by a private copy the first time the {@link Element} is resized.
+     *
+     * @return The mutable {@link Dimension}.
+     */
+    private Dimension mutableDimension() {
+        if (this.dimension instanceof ImmutableDimension) {
+            this.dimension = new DimensionImpl(this.dimension.getWidth(), this.dimension.getHeight());
+        }
+        return this.dimension;
     }
 
     /**
@@ -42,7 +61,7 @@ public abstract class AbstractElement extends EntityImpl implements Element {
      * {@inheritDoc}
      */
     @Override
-    public synchronized final Dimension getDimension() {
+    public final Dimension getDimension() {
         return this.dimension.copyOf();
     }
 
@@ -50,7 +69,15 @@ public abstract class AbstractElement extends EntityImpl implements Element {
      * {@inheritDoc}
      */
     @Override
-    public synchronized final Hitbox getHitbox() {
+    public final double getHeight() {
+        return this.dimension.getHeight();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Hitbox getHitbox() {
         return this.hitbox;
     }
 
@@ -58,8 +85,16 @@ public abstract class AbstractElement extends EntityImpl implements Element {
      * {@inheritDoc}
      */
     @Override
-    public synchronized final Coord getPosition() {
-        return this.position.copyOf();
+    public double getPaceX() {
+        return this.getPace().getX();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceY() {
+        return this.getPace().getY();
     }
 
     /**
@@ -74,63 +109,63 @@ public abstract class AbstractElement extends EntityImpl implements Element {
      * {@inheritDoc}
      */
     @Override
-    public int hashCode() {
-        return Objects.hash(this.getDimension(), this.getPosition(), this.getHitbox());
+    public final double getWidth() {
+        return this.dimension.getWidth();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized final void increaseHeight(final double increaseValue) {
-        this.dimension.increaseHeight(increaseValue);
+    public int hashCode() {
+        return Objects.hash(this.getDimension(), this.getPosition(), this.getHitbox());
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized final void increaseWidth(final double increaseValue) {
-        this.dimension.increaseWidth(increaseValue);
+    public final void increaseHeight(final double increaseValue) {
+        this.mutableDimension().increaseHeight(increaseValue);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized final void setHeight(final double inputHeight) {
-        this.dimension.setHeight(inputHeight);
+    public final void increaseWidth(final double increaseValue) {
+        this.mutableDimension().increaseWidth(increaseValue);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void setHitbox(final Hitbox hitbox) {
-        this.hitbox = hitbox;
+    public final void setHeight(final double inputHeight) {
+        this.mutableDimension().setHeight(inputHeight);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized final void setPosition(final Coord inputPosition) {
-        this.position.setXY(inputPosition.getX(), inputPosition.getY());
+    public void setHitbox(final Hitbox hitbox) {
+        this.hitbox = hitbox;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized final void setWidth(final double inputWidth) {
-        this.dimension.setWidth(inputWidth);
+    public final void setWidth(final double inputWidth) {
+        this.mutableDimension().setWidth(inputWidth);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void update(final double dt) {
+    public void update(final double dt) {
         this.getComponent(UpdateComponent.class).update(dt);
     }
 }
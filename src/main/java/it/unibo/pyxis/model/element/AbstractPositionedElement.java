@@ -0,0 +1,78 @@
+package it.unibo.pyxis.model.element;
+
+import it.unibo.pyxis.model.util.Coord;
+import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.util.Dimension;
+
+/**
+ * An {@link AbstractElement} keeping its current and previous position in two {@link Coord}s.
+ */
+public abstract class AbstractPositionedElement extends AbstractElement {
+
+    private final Coord position;
+    private final Coord previousPosition;
+
+    public AbstractPositionedElement(final Dimension inputDimension, final Coord inputPosition) {
+        super(inputDimension);
+        this.position = new CoordImpl(inputPosition.getX(), inputPosition.getY());
+        this.previousPosition = new CoordImpl(inputPosition.getX(), inputPosition.getY());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord getInterpolatedPosition(final double alpha) {
+        final double x = this.previousPosition.getX() + (this.position.getX() - this.previousPosition.getX()) * alpha;
+        final double y = this.previousPosition.getY() + (this.position.getY() - this.previousPosition.getY()) * alpha;
+        return new CoordImpl(x, y);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord getPosition() {
+        return this.position.copyOf();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getX() {
+        return this.position.getX();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getY() {
+        return this.position.getY();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPosition(final Coord inputPosition) {
+        this.position.setXY(inputPosition.getX(), inputPosition.getY());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPosition(final double xValue, final double yValue) {
+        this.position.setXY(xValue, yValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void storePreviousPosition() {
+        this.previousPosition.setXY(this.position.getX(), this.position.getY());
+    }
+}
@@ -15,6 +15,13 @@ public interface Element extends Entity {
      */
     Dimension getDimension();
 
+    /**
+     * Returns the {@link Element}'s height, without copying its {@link Dimension}.
+     *
+     * @return The height value.
+     */
+    double getHeight();
+
     /**
      * Returns the {@link Element}'s {@link Hitbox}.
      *
@@ -22,6 +29,15 @@ public interface Element extends Entity {
      */
     Hitbox getHitbox();
 
+    /**
+     * Returns the {@link Element}'s position interpolated between the
+     * one stored at the previous physics step and the current one.
+     *
+     * @param alpha The interpolation factor, in the range [0, 1].
+     * @return The interpolated {@link Coord}.
+     */
+    Coord getInterpolatedPosition(double alpha);
+
     /**
      * Returns the {@link Element}'s pace {@link Vector}.
      *
@@ -29,6 +45,20 @@ public interface Element extends Entity {
      */
     Vector getPace();
 
+    /**
+     * Returns the X component of the {@link Element}'s pace, without copying its {@link Vector}.
+     *
+     * @return The X component of the pace.
+     */
+    double getPaceX();
+
+    /**
+     * Returns the Y component of the {@link Element}'s pace, without copying its {@link Vector}.
+     *
+     * @return The Y component of the pace.
+     */
+    double getPaceY();
+
     /**
      * Returns the {@link Element}'s position {@link Coord}.
      *
@@ -43,6 +73,30 @@ public interface Element extends Entity {
      */
     double getUpdateTimeMultiplier();
 
+    /**
+     * Returns the {@link Element}'s width, without copying its {@link Dimension}.
+     *
+     * @return The width value.
+     */
+    double getWidth();
+
+    /**
+     * Returns the X value of the {@link Element}'s position, without copying its
+     * {@link Coord} nor locking the {@link Element}. The primitive getters are meant
+     * to be read by the thread updating the model.
+     *
+     * @return The X value of the position.
+     */
+    double getX();
+
+    /**
+     * Returns the Y value of the {@link Element}'s position, without copying its
+     * {@link Coord} nor locking the {@link Element}.
+     *
+     * @return The Y value of the position.
+     */
+    double getY();
+
     /**
      * Increases the {@link Element}'s height value.
      *
@@ -85,6 +139,14 @@ public interface Element extends Entity {
      */
     void setPosition(Coord position);
 
+    /**
+     * Sets the {@link Element}'s position from its values.
+     *
+     * @param xValue The X value of the position.
+     * @param yValue The Y value of the position.
+     */
+    void setPosition(double xValue, double yValue);
+
     /**
      * Sets the {@link Element}'s width value.
      *
@@ -92,6 +154,12 @@ public interface Element extends Entity {
      */
     void setWidth(double width);
 
+    /**
+     * Stores the current position of the {@link Element} as the one of the
+     * previous physics step.
+     */
+    void storePreviousPosition();
+
     /**
      * Executes an update on the {@link Element}.
      *
@@ -1,6 +1,7 @@
 package it.unibo.pyxis.model.element.ball;
 
 import it.unibo.pyxis.model.element.Element;
+import it.unibo.pyxis.model.element.ball.store.BallStore;
 import it.unibo.pyxis.model.hitbox.HitEdge;
 import it.unibo.pyxis.model.util.Dimension;
 import it.unibo.pyxis.model.util.Vector;
@@ -8,11 +9,25 @@ import it.unibo.pyxis.model.util.Vector;
 import java.util.Map;
 
 public interface Ball extends Element {
+    /**
+     * Moves the state of the {@link Ball} into a {@link BallStore}, that
+     * backs the {@link Ball} from now on.
+     *
+     * @param store The {@link BallStore} to bind to.
+     */
+    void bindTo(BallStore store);
+
     /**
      * Clears all the collision information of the {@link Ball}.
      */
     void clearCollisionInformation();
 
+    /**
+     * Moves the state of the {@link Ball} out of the {@link BallStore} it's
+     * bound to, into a {@link BallStore} owned by the {@link Ball} itself.
+     */
+    void detach();
+
     /**
      * Returns the collision information {@link Map} of the {@link Ball}.
      *
@@ -42,6 +57,15 @@ public interface Ball extends Element {
      */
     BallType getType();
 
+    /**
+     * Checks if the {@link Ball} is backed by a {@link BallStore}.
+     *
+     * @param store The {@link BallStore}.
+     * @return True if the {@link Ball} is bound to the {@link BallStore}.
+     *         False otherwise.
+     */
+    boolean isBoundTo(BallStore store);
+
     /**
      * Registers a new {@link Ball} collision.
      *
@@ -2,38 +2,40 @@ package it.unibo.pyxis.model.element.ball;
 
 import it.unibo.pyxis.ecs.component.physics.UpdateComponent;
 import it.unibo.pyxis.model.element.AbstractElement;
-import it.unibo.pyxis.model.element.ball.component.BallEventComponent;
 import it.unibo.pyxis.model.element.ball.component.BallUpdateComponent;
+import it.unibo.pyxis.model.element.ball.store.BallStore;
+import it.unibo.pyxis.model.element.ball.store.BallStoreImpl;
 import it.unibo.pyxis.model.hitbox.BallHitbox;
 import it.unibo.pyxis.model.hitbox.HitEdge;
 import it.unibo.pyxis.model.util.Coord;
+import it.unibo.pyxis.model.util.CoordImpl;
 import it.unibo.pyxis.model.util.Dimension;
 import it.unibo.pyxis.model.util.DimensionImpl;
+import it.unibo.pyxis.model.util.ImmutableDimension;
 import it.unibo.pyxis.model.util.Vector;
+import it.unibo.pyxis.model.util.VectorImpl;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 public final class BallImpl extends AbstractElement implements Ball {
 
-    private static final Dimension DIMENSION = new DimensionImpl(14, 14);
-    private BallType type;
-    private Vector pace;
-    private final Map<HitEdge, Dimension> collisionInformation;
-    private final int id;
+    private static final Dimension DIMENSION = new ImmutableDimension(14, 14);
+    private final BallStore detachedStore;
+    private BallStore store;
+    private int handle;
 
     private BallImpl(final Vector inputPace, final Coord position, final BallType type, final int inputId) {
-        super(DIMENSION, position);
+        super(DIMENSION);
+        this.detachedStore = new BallStoreImpl(1);
+        this.store = this.detachedStore;
+        this.handle = this.store.add(this, inputId, type, position.getX(), position.getY(),
+                inputPace.getX(), inputPace.getY());
         this.setHitbox(new BallHitbox(this));
-        this.type = type;
-        this.pace = inputPace;
-        this.collisionInformation = new HashMap<>();
-        this.id = inputId;
         this.registerComponent(new BallUpdateComponent(this));
-        this.registerComponent(new BallEventComponent(this));
     }
 
     /**
@@ -41,7 +43,42 @@ public final class BallImpl extends AbstractElement implements Ball {
      */
     @Override
     public Map<HitEdge, Dimension> getCollisionInformation() {
-        return Collections.unmodifiableMap(this.collisionInformation);
+        if (!this.store.hasCollisions(this.handle)) {
+            return Collections.emptyMap();
+        }
+        final Map<HitEdge, Dimension> collisionInformation = new EnumMap<>(HitEdge.class);
+        for (final HitEdge hitEdge : HitEdge.values()) {
+            if (this.store.hasCollision(this.handle, hitEdge)) {
+                collisionInformation.put(hitEdge, new DimensionImpl(
+                        this.store.getCollisionOffsetWidth(this.handle, hitEdge),
+                        this.store.getCollisionOffsetHeight(this.handle, hitEdge)));
+            }
+        }
+        return Collections.unmodifiableMap(collisionInformation);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(final BallStore target) {
+        if (target == this.store) {
+            return;
+        }
+        final int newHandle = target.add(this, this.store.getId(this.handle), this.store.getType(this.handle),
+                this.store.getX(this.handle), this.store.getY(this.handle),
+                this.store.getPaceX(this.handle), this.store.getPaceY(this.handle));
+        target.setPreviousPosition(newHandle, this.store.getPreviousX(this.handle), this.store.getPreviousY(this.handle));
+        for (final HitEdge hitEdge : HitEdge.values()) {
+            if (this.store.hasCollision(this.handle, hitEdge)) {
+                target.registerCollision(newHandle, hitEdge,
+                        this.store.getCollisionOffsetWidth(this.handle, hitEdge),
+                        this.store.getCollisionOffsetHeight(this.handle, hitEdge));
+            }
+        }
+        this.store.remove(this.handle);
+        this.store = target;
+        this.handle = newHandle;
     }
 
     /**
@@ -49,7 +86,23 @@ public final class BallImpl extends AbstractElement implements Ball {
      */
     @Override
     public void clearCollisionInformation() {
-        this.collisionInformation.clear();
+        this.store.clearCollisions(this.handle);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void detach() {
+        this.bindTo(this.detachedStore);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBoundTo(final BallStore target) {
+        return this.store == target;
     }
 
     /**
@@ -57,7 +110,7 @@ public final class BallImpl extends AbstractElement implements Ball {
      */
     @Override
     public void registerCollision(final HitEdge hitEdge, final Dimension offset) {
-        this.collisionInformation.put(hitEdge, offset);
+        this.store.registerCollision(this.handle, hitEdge, offset.getWidth(), offset.getHeight());
     }
 
     /**
@@ -65,7 +118,7 @@ public final class BallImpl extends AbstractElement implements Ball {
      */
     @Override
     public BallType getType() {
-        return this.type;
+        return this.store.getType(this.handle);
     }
 
     /**
@@ -73,7 +126,23 @@ public final class BallImpl extends AbstractElement implements Ball {
      */
     @Override
     public Vector getPace() {
-        return this.pace.copyOf();
+        return new VectorImpl(this.store.getPaceX(this.handle), this.store.getPaceY(this.handle));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceX() {
+        return this.store.getPaceX(this.handle);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceY() {
+        return this.store.getPaceY(this.handle);
     }
 
     /**
@@ -81,15 +150,15 @@ public final class BallImpl extends AbstractElement implements Ball {
      */
     @Override
     public void setPace(final Vector inputPace) {
-        this.pace = inputPace;
+        this.store.setPace(this.handle, inputPace.getX(), inputPace.getY());
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void setType(final BallType inputType) {
-        this.type = inputType;
+    public void setType(final BallType inputType) {
+        this.store.setType(this.handle, inputType);
     }
 
     /**
@@ -97,7 +166,66 @@ public final class BallImpl extends AbstractElement implements Ball {
      */
     @Override
     public int getId() {
-        return this.id;
+        return this.store.getId(this.handle);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord getInterpolatedPosition(final double alpha) {
+        final double previousX = this.store.getPreviousX(this.handle);
+        final double previousY = this.store.getPreviousY(this.handle);
+        return new CoordImpl(previousX + (this.store.getX(this.handle) - previousX) * alpha,
+                previousY + (this.store.getY(this.handle) - previousY) * alpha);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord getPosition() {
+        return new CoordImpl(this.store.getX(this.handle), this.store.getY(this.handle));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getX() {
+        return this.store.getX(this.handle);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getY() {
+        return this.store.getY(this.handle);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPosition(final Coord inputPosition) {
+        this.store.setPosition(this.handle, inputPosition.getX(), inputPosition.getY());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPosition(final double xValue, final double yValue) {
+        this.store.setPosition(this.handle, xValue, yValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void storePreviousPosition() {
+        this.store.setPreviousPosition(this.handle, this.store.getX(this.handle), this.store.getY(this.handle));
     }
 
     /**
@@ -141,7 +269,7 @@ public final class BallImpl extends AbstractElement implements Ball {
      */
     @Override
     public String toString() {
-        return "BallImpl{" + "type=" + type + ", pace=" + pace + ", id=" + id + "}";
+        return "BallImpl{" + "type=" + this.getType() + ", pace=" + this.getPace() + ", id=" + this.getId() + "}";
     }
 
     /**
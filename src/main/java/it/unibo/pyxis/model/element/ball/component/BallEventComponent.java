@@ -2,6 +2,8 @@ package it.unibo.pyxis.model.element.ball.component;
 
 import it.unibo.pyxis.ecs.component.event.AbstractEventComponent;
 import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.event.EventDispatcher;
+import it.unibo.pyxis.model.event.RoutingKeys;
 import it.unibo.pyxis.model.event.collision.BallCollisionWithBorderEvent;
 import it.unibo.pyxis.model.event.collision.BallCollisionWithBrickEvent;
 import it.unibo.pyxis.model.event.collision.BallCollisionWithPadEvent;
@@ -9,15 +11,18 @@ import it.unibo.pyxis.model.event.collision.CollisionEvent;
 import it.unibo.pyxis.model.hitbox.HitEdge;
 import it.unibo.pyxis.model.util.Dimension;
 import it.unibo.pyxis.model.util.Vector;
-import org.greenrobot.eventbus.Subscribe;
 
 public class BallEventComponent extends AbstractEventComponent<Ball> {
 
     private static final double ANGLE_MIN_PERCENTAGE_FLAT_CORNER = 0.1;
     private static final double ANGLE_MAX_PERCENTAGE_FLAT_CORNER = 0.9;
 
-    public BallEventComponent(final Ball entity) {
-        super(entity);
+    public BallEventComponent(final Ball entity, final EventDispatcher dispatcher) {
+        super(entity, dispatcher);
+        final long ballKey = entity.getId();
+        this.subscribe(BallCollisionWithBrickEvent.class, RoutingKeys.ballId(), ballKey, this::handleBrickCollision);
+        this.subscribe(BallCollisionWithBorderEvent.class, RoutingKeys.ballId(), ballKey, this::handleBorderCollision);
+        this.subscribe(BallCollisionWithPadEvent.class, RoutingKeys.ballId(), ballKey, this::handlePadCollision);
     }
 
     /**
@@ -55,9 +60,8 @@ public class BallEventComponent extends AbstractEventComponent<Ball> {
      *
      * @param collisionEvent The {@link BallCollisionWithBrickEvent} to handle.
      */
-    @Subscribe
     public void handleBrickCollision(final BallCollisionWithBrickEvent collisionEvent) {
-        if (this.getEntity().getId() == collisionEvent.getBallId() && this.getEntity().getType().bounce()) {
+        if (this.getEntity().getType().bounce()) {
             this.registerCollision(collisionEvent);
         }
     }
@@ -67,11 +71,8 @@ public class BallEventComponent extends AbstractEventComponent<Ball> {
      *
      * @param collisionEvent The {@link BallCollisionWithBorderEvent} to handle.
      */
-    @Subscribe
     public void handleBorderCollision(final BallCollisionWithBorderEvent collisionEvent) {
-        if (this.getEntity().getId() == collisionEvent.getBallId()) {
-            this.registerCollision(collisionEvent);
-        }
+        this.registerCollision(collisionEvent);
     }
 
     /**
@@ -80,13 +81,10 @@ public class BallEventComponent extends AbstractEventComponent<Ball> {
      *
      * @param collisionEvent The {@link BallCollisionWithPadEvent} to handle.
      */
-    @Subscribe
     public void handlePadCollision(final BallCollisionWithPadEvent collisionEvent) {
-        if (this.getEntity().getId() == collisionEvent.getBallId()) {
-            if (collisionEvent.getCollisionInformation().getHitEdge() == HitEdge.TOP) {
-                this.applyPaceChange(collisionEvent.getPadHitPercentage());
-            }
-            this.registerCollision(collisionEvent);
+        if (collisionEvent.getCollisionInformation().getHitEdge() == HitEdge.TOP) {
+            this.applyPaceChange(collisionEvent.getPadHitPercentage());
         }
+        this.registerCollision(collisionEvent);
     }
 }
@@ -3,13 +3,12 @@ package it.unibo.pyxis.model.element.ball.component;
 import it.unibo.pyxis.ecs.component.physics.AbstractUpdateComponent;
 import it.unibo.pyxis.model.element.ball.Ball;
 import it.unibo.pyxis.model.element.ball.BallType;
-import it.unibo.pyxis.model.event.Events;
 import it.unibo.pyxis.model.hitbox.HitEdge;
 import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
 import it.unibo.pyxis.model.util.DimensionImpl;
 import it.unibo.pyxis.model.util.Vector;
-import org.greenrobot.eventbus.EventBus;
+import it.unibo.pyxis.model.util.VectorImpl;
 
 import java.util.Map;
 
@@ -25,29 +24,26 @@ public class BallUpdateComponent extends AbstractUpdateComponent<Ball> {
      * @param dt The time gap used to calculate the new {@link Coord}.
      * */
     private void applicateMovement(final double dt) {
-        final Coord updatedCoord = this.getEntity().getPosition();
-        final BallType ballType = this.getEntity().getType();
-        final double movementTime = ballType.getPaceMultiplier() * dt * this.getEntity().getUpdateTimeMultiplier();
-        updatedCoord.sumVector(this.getEntity().getPace(), movementTime);
-        this.getEntity().setPosition(updatedCoord);
+        final Ball ball = this.getEntity();
+        final BallType ballType = ball.getType();
+        final double movementTime = ballType.getPaceMultiplier() * dt * ball.getUpdateTimeMultiplier();
+        ball.setPosition(ball.getX() + ball.getPaceX() * movementTime, ball.getY() + ball.getPaceY() * movementTime);
     }
 
     /**
      * Inverts the {@link Ball}'s X {@link Vector} pace component.
      */
     private void invertPaceX() {
-        final Vector newPace = this.getEntity().getPace();
-        newPace.setX(-this.getEntity().getPace().getX());
-        this.getEntity().setPace(newPace);
+        final Ball ball = this.getEntity();
+        ball.setPace(new VectorImpl(-ball.getPaceX(), ball.getPaceY()));
     }
 
     /**
      * Inverts the {@link Ball}'s Y {@link Vector} pace component.
      */
     private void invertPaceY() {
-        final Vector newPace = this.getEntity().getPace();
-        newPace.setY(-this.getEntity().getPace().getY());
-        this.getEntity().setPace(newPace);
+        final Ball ball = this.getEntity();
+        ball.setPace(new VectorImpl(ball.getPaceX(), -ball.getPaceY()));
     }
 
     /**
@@ -57,12 +53,10 @@ public class BallUpdateComponent extends AbstractUpdateComponent<Ball> {
      * @param borderOffset The input offset {@link Dimension}
      */
     private void applyOffset(final Dimension borderOffset) {
-        final Coord updatedCoord = this.getEntity().getPosition();
-        final double paceX = this.getEntity().getPace().getX();
-        final double paceY = this.getEntity().getPace().getY();
-        updatedCoord.sumXValue(paceX > 0 ? borderOffset.getWidth() : -borderOffset.getWidth());
-        updatedCoord.sumYValue(paceY > 0 ? borderOffset.getHeight() : -borderOffset.getHeight());
-        this.getEntity().setPosition(updatedCoord);
+        final Ball ball = this.getEntity();
+        final double offsetX = ball.getPaceX() > 0 ? borderOffset.getWidth() : -borderOffset.getWidth();
+        final double offsetY = ball.getPaceY() > 0 ? borderOffset.getHeight() : -borderOffset.getHeight();
+        ball.setPosition(ball.getX() + offsetX, ball.getY() + offsetY);
     }
 
     /**
@@ -97,6 +91,5 @@ public class BallUpdateComponent extends AbstractUpdateComponent<Ball> {
     public final void update(final double elapsed) {
         this.applicateCollisions();
         this.applicateMovement(elapsed);
-        EventBus.getDefault().post(Events.newBallMovementEvent(this.getEntity()));
     }
 }
@@ -0,0 +1,221 @@
+package it.unibo.pyxis.model.element.ball.store;
+
+import java.util.List;
+
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.hitbox.HitEdge;
+
+/**
+ * Structure-of-arrays storage of the state of many {@link Ball}s.
+ * Positions, paces, types, ids and pending collisions are kept in primitive
+ * arrays, while the {@link Ball}s act as views on their slot, identified by a
+ * handle that stays valid until the slot is removed.
+ */
+public interface BallStore {
+
+    /**
+     * Adds a new slot to the {@link BallStore}.
+     *
+     * @param view The {@link Ball} backed by the new slot.
+     * @param id The id of the {@link Ball}.
+     * @param type The {@link BallType} of the {@link Ball}.
+     * @param x The x value of the position.
+     * @param y The y value of the position.
+     * @param paceX The x value of the pace.
+     * @param paceY The y value of the pace.
+     * @return The handle of the new slot.
+     */
+    int add(Ball view, int id, BallType type, double x, double y, double paceX, double paceY);
+
+    /**
+     * Removes the pending collisions of a slot.
+     *
+     * @param handle The handle of the slot.
+     */
+    void clearCollisions(int handle);
+
+    /**
+     * Checks if a {@link Ball} is backed by this {@link BallStore}.
+     *
+     * @param ball The {@link Ball} to check.
+     * @return True if the {@link Ball} is backed by this {@link BallStore}.
+     *         False otherwise.
+     */
+    boolean contains(Ball ball);
+
+    /**
+     * Returns the {@link Ball} stored at a dense index.
+     *
+     * @param index The index, in the range [0, size()).
+     * @return The {@link Ball} at the index.
+     */
+    Ball getBall(int index);
+
+    /**
+     * Returns a {@link List} of the {@link Ball}s backed by this {@link BallStore}.
+     *
+     * @return A {@link List} of {@link Ball}s.
+     */
+    List<Ball> getBalls();
+
+    /**
+     * Returns the height of the offset of a pending collision.
+     *
+     * @param handle The handle of the slot.
+     * @param hitEdge The {@link HitEdge} of the collision.
+     * @return The height of the offset.
+     */
+    double getCollisionOffsetHeight(int handle, HitEdge hitEdge);
+
+    /**
+     * Returns the width of the offset of a pending collision.
+     *
+     * @param handle The handle of the slot.
+     * @param hitEdge The {@link HitEdge} of the collision.
+     * @return The width of the offset.
+     */
+    double getCollisionOffsetWidth(int handle, HitEdge hitEdge);
+
+    /**
+     * Returns the id of a slot.
+     *
+     * @param handle The handle of the slot.
+     * @return The id.
+     */
+    int getId(int handle);
+
+    /**
+     * Returns the x value of the pace of a slot.
+     *
+     * @param handle The handle of the slot.
+     * @return The x value of the pace.
+     */
+    double getPaceX(int handle);
+
+    /**
+     * Returns the y value of the pace of a slot.
+     *
+     * @param handle The handle of the slot.
+     * @return The y value of the pace.
+     */
+    double getPaceY(int handle);
+
+    /**
+     * Returns the x value of the position stored at the previous physics step.
+     *
+     * @param handle The handle of the slot.
+     * @return The x value of the previous position.
+     */
+    double getPreviousX(int handle);
+
+    /**
+     * Returns the y value of the position stored at the previous physics step.
+     *
+     * @param handle The handle of the slot.
+     * @return The y value of the previous position.
+     */
+    double getPreviousY(int handle);
+
+    /**
+     * Returns the {@link BallType} of a slot.
+     *
+     * @param handle The handle of the slot.
+     * @return The {@link BallType}.
+     */
+    BallType getType(int handle);
+
+    /**
+     * Returns the x value of the position of a slot.
+     *
+     * @param handle The handle of the slot.
+     * @return The x value of the position.
+     */
+    double getX(int handle);
+
+    /**
+     * Returns the y value of the position of a slot.
+     *
+     * @param handle The handle of the slot.
+     * @return The y value of the position.
+     */
+    double getY(int handle);
+
+    /**
+     * Checks if a slot has a pending collision on a {@link HitEdge}.
+     *
+     * @param handle The handle of the slot.
+     * @param hitEdge The {@link HitEdge}.
+     * @return True if the collision is pending.
+     *         False otherwise.
+     */
+    boolean hasCollision(int handle, HitEdge hitEdge);
+
+    /**
+     * Checks if a slot has any pending collision.
+     *
+     * @param handle The handle of the slot.
+     * @return True if at least a collision is pending.
+     *         False otherwise.
+     */
+    boolean hasCollisions(int handle);
+
+    /**
+     * Registers a pending collision in a slot, replacing the one on the same {@link HitEdge}.
+     *
+     * @param handle The handle of the slot.
+     * @param hitEdge The {@link HitEdge} of the collision.
+     * @param offsetWidth The width of the offset.
+     * @param offsetHeight The height of the offset.
+     */
+    void registerCollision(int handle, HitEdge hitEdge, double offsetWidth, double offsetHeight);
+
+    /**
+     * Removes a slot, invalidating its handle.
+     *
+     * @param handle The handle of the slot.
+     */
+    void remove(int handle);
+
+    /**
+     * Sets the pace of a slot.
+     *
+     * @param handle The handle of the slot.
+     * @param paceX The x value of the pace.
+     * @param paceY The y value of the pace.
+     */
+    void setPace(int handle, double paceX, double paceY);
+
+    /**
+     * Sets the position of a slot.
+     *
+     * @param handle The handle of the slot.
+     * @param x The x value of the position.
+     * @param y The y value of the position.
+     */
+    void setPosition(int handle, double x, double y);
+
+    /**
+     * Sets the position stored at the previous physics step of a slot.
+     *
+     * @param handle The handle of the slot.
+     * @param x The x value of the previous position.
+     * @param y The y value of the previous position.
+     */
+    void setPreviousPosition(int handle, double x, double y);
+
+    /**
+     * Sets the {@link BallType} of a slot.
+     *
+     * @param handle The handle of the slot.
+     * @param type The {@link BallType}.
+     */
+    void setType(int handle, BallType type);
+
+    /**
+     * Returns the number of slots in the {@link BallStore}.
+     *
+     * @return The number of slots.
+     */
+    int size();
+}
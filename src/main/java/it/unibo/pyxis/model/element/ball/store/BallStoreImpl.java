@@ -0,0 +1,366 @@
+package it.unibo.pyxis.model.element.ball.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.hitbox.HitEdge;
+
+public final class BallStoreImpl implements BallStore {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final BallType[] TYPES = BallType.values();
+    private static final int EDGES = HitEdge.values().length;
+    private static final int NO_INDEX = -1;
+    private double[] xs;
+    private double[] ys;
+    private double[] previousXs;
+    private double[] previousYs;
+    private double[] paceXs;
+    private double[] paceYs;
+    private byte[] types;
+    private int[] ids;
+    private int[] collisionFlags;
+    private double[] offsetWidths;
+    private double[] offsetHeights;
+    private Ball[] views;
+    private int[] indexHandles;
+    private int[] handleIndexes;
+    private int[] freeHandles;
+    private int freeHandlesCount;
+    private int handlesCount;
+    private int size;
+
+    public BallStoreImpl(final int initialCapacity) {
+        final int capacity = Math.max(1, initialCapacity);
+        this.xs = new double[capacity];
+        this.ys = new double[capacity];
+        this.previousXs = new double[capacity];
+        this.previousYs = new double[capacity];
+        this.paceXs = new double[capacity];
+        this.paceYs = new double[capacity];
+        this.types = new byte[capacity];
+        this.ids = new int[capacity];
+        this.collisionFlags = new int[capacity];
+        this.offsetWidths = new double[capacity * EDGES];
+        this.offsetHeights = new double[capacity * EDGES];
+        this.views = new Ball[capacity];
+        this.indexHandles = new int[capacity];
+        this.handleIndexes = new int[capacity];
+        this.freeHandles = new int[capacity];
+    }
+
+    public BallStoreImpl() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Doubles the capacity of the arrays of the slots.
+     */
+    private void grow() {
+        final int capacity = this.xs.length * 2;
+        this.xs = Arrays.copyOf(this.xs, capacity);
+        this.ys = Arrays.copyOf(this.ys, capacity);
+        this.previousXs = Arrays.copyOf(this.previousXs, capacity);
+        this.previousYs = Arrays.copyOf(this.previousYs, capacity);
+        this.paceXs = Arrays.copyOf(this.paceXs, capacity);
+        this.paceYs = Arrays.copyOf(this.paceYs, capacity);
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.ids = Arrays.copyOf(this.ids, capacity);
+        this.collisionFlags = Arrays.copyOf(this.collisionFlags, capacity);
+        this.offsetWidths = Arrays.copyOf(this.offsetWidths, capacity * EDGES);
+        this.offsetHeights = Arrays.copyOf(this.offsetHeights, capacity * EDGES);
+        this.views = Arrays.copyOf(this.views, capacity);
+        this.indexHandles = Arrays.copyOf(this.indexHandles, capacity);
+    }
+
+    /**
+     * Returns a free handle, reusing the ones of the removed slots.
+     *
+     * @return The handle.
+     */
+    private int nextHandle() {
+        if (this.freeHandlesCount > 0) {
+            this.freeHandlesCount--;
+            return this.freeHandles[this.freeHandlesCount];
+        }
+        if (this.handlesCount == this.handleIndexes.length) {
+            this.handleIndexes = Arrays.copyOf(this.handleIndexes, this.handlesCount * 2);
+            this.freeHandles = Arrays.copyOf(this.freeHandles, this.handlesCount * 2);
+        }
+        this.handlesCount++;
+        return this.handlesCount - 1;
+    }
+
+    /**
+     * Returns the dense index of the slot of a handle.
+     *
+     * @param handle The handle of the slot.
+     * @return The dense index.
+     */
+    private int indexOf(final int handle) {
+        final int index = handle >= 0 && handle < this.handlesCount ? this.handleIndexes[handle] : NO_INDEX;
+        if (index == NO_INDEX) {
+            throw new IllegalArgumentException("Invalid ball handle " + handle);
+        }
+        return index;
+    }
+
+    /**
+     * Copies the slot at an index into another index.
+     *
+     * @param from The index to copy.
+     * @param to The index to overwrite.
+     */
+    private void moveSlot(final int from, final int to) {
+        this.xs[to] = this.xs[from];
+        this.ys[to] = this.ys[from];
+        this.previousXs[to] = this.previousXs[from];
+        this.previousYs[to] = this.previousYs[from];
+        this.paceXs[to] = this.paceXs[from];
+        this.paceYs[to] = this.paceYs[from];
+        this.types[to] = this.types[from];
+        this.ids[to] = this.ids[from];
+        this.collisionFlags[to] = this.collisionFlags[from];
+        System.arraycopy(this.offsetWidths, from * EDGES, this.offsetWidths, to * EDGES, EDGES);
+        System.arraycopy(this.offsetHeights, from * EDGES, this.offsetHeights, to * EDGES, EDGES);
+        this.views[to] = this.views[from];
+        this.indexHandles[to] = this.indexHandles[from];
+        this.handleIndexes[this.indexHandles[to]] = to;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int add(final Ball view, final int id, final BallType type, final double x, final double y,
+                   final double paceX, final double paceY) {
+        if (this.size == this.xs.length) {
+            this.grow();
+        }
+        final int handle = this.nextHandle();
+        final int index = this.size;
+        this.xs[index] = x;
+        this.ys[index] = y;
+        this.previousXs[index] = x;
+        this.previousYs[index] = y;
+        this.paceXs[index] = paceX;
+        this.paceYs[index] = paceY;
+        this.types[index] = (byte) type.ordinal();
+        this.ids[index] = id;
+        this.collisionFlags[index] = 0;
+        this.views[index] = view;
+        this.indexHandles[index] = handle;
+        this.handleIndexes[handle] = index;
+        this.size++;
+        return handle;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearCollisions(final int handle) {
+        this.collisionFlags[this.indexOf(handle)] = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final Ball ball) {
+        return ball.isBoundTo(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Ball getBall(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size);
+        }
+        return this.views[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Ball> getBalls() {
+        return new ArrayList<>(Arrays.asList(this.views).subList(0, this.size));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getCollisionOffsetHeight(final int handle, final HitEdge hitEdge) {
+        return this.offsetHeights[this.indexOf(handle) * EDGES + hitEdge.ordinal()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getCollisionOffsetWidth(final int handle, final HitEdge hitEdge) {
+        return this.offsetWidths[this.indexOf(handle) * EDGES + hitEdge.ordinal()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getId(final int handle) {
+        return this.ids[this.indexOf(handle)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceX(final int handle) {
+        return this.paceXs[this.indexOf(handle)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPaceY(final int handle) {
+        return this.paceYs[this.indexOf(handle)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPreviousX(final int handle) {
+        return this.previousXs[this.indexOf(handle)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPreviousY(final int handle) {
+        return this.previousYs[this.indexOf(handle)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BallType getType(final int handle) {
+        return TYPES[this.types[this.indexOf(handle)]];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getX(final int handle) {
+        return this.xs[this.indexOf(handle)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getY(final int handle) {
+        return this.ys[this.indexOf(handle)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasCollision(final int handle, final HitEdge hitEdge) {
+        return (this.collisionFlags[this.indexOf(handle)] & (1 << hitEdge.ordinal())) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasCollisions(final int handle) {
+        return this.collisionFlags[this.indexOf(handle)] != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void registerCollision(final int handle, final HitEdge hitEdge,
+                                  final double offsetWidth, final double offsetHeight) {
+        final int index = this.indexOf(handle);
+        this.collisionFlags[index] |= 1 << hitEdge.ordinal();
+        this.offsetWidths[index * EDGES + hitEdge.ordinal()] = offsetWidth;
+        this.offsetHeights[index * EDGES + hitEdge.ordinal()] = offsetHeight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(final int handle) {
+        final int index = this.indexOf(handle);
+        final int last = this.size - 1;
+        if (index != last) {
+            this.moveSlot(last, index);
+        }
+        this.views[last] = null;
+        this.handleIndexes[handle] = NO_INDEX;
+        this.freeHandles[this.freeHandlesCount] = handle;
+        this.freeHandlesCount++;
+        this.size--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPace(final int handle, final double paceX, final double paceY) {
+        final int index = this.indexOf(handle);
+        this.paceXs[index] = paceX;
+        this.paceYs[index] = paceY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPosition(final int handle, final double x, final double y) {
+        final int index = this.indexOf(handle);
+        this.xs[index] = x;
+        this.ys[index] = y;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPreviousPosition(final int handle, final double x, final double y) {
+        final int index = this.indexOf(handle);
+        this.previousXs[index] = x;
+        this.previousYs[index] = y;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setType(final int handle, final BallType type) {
+        this.types[this.indexOf(handle)] = (byte) type.ordinal();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+}
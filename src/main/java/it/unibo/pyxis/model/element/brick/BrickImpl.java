@@ -1,18 +1,18 @@
 package it.unibo.pyxis.model.element.brick;
 
-import it.unibo.pyxis.model.element.AbstractElement;
-import it.unibo.pyxis.model.element.brick.component.BrickEventComponent;
+import it.unibo.pyxis.model.element.AbstractPositionedElement;
 import it.unibo.pyxis.model.hitbox.RectHitbox;
 import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
-import it.unibo.pyxis.model.util.DimensionImpl;
+import it.unibo.pyxis.model.util.ImmutableDimension;
+import it.unibo.pyxis.model.util.ImmutableVector;
 import it.unibo.pyxis.model.util.Vector;
-import it.unibo.pyxis.model.util.VectorImpl;
 
 
-public final class BrickImpl extends AbstractElement implements Brick {
+public final class BrickImpl extends AbstractPositionedElement implements Brick {
 
-    private static final Dimension DIMENSION = new DimensionImpl(42, 18);
+    private static final Dimension DIMENSION = new ImmutableDimension(42, 18);
+    private static final Vector PACE = new ImmutableVector(0, 0);
     private final BrickType brickType;
     private int durability;
 
@@ -21,7 +21,6 @@ public final class BrickImpl extends AbstractElement implements Brick {
         this.setHitbox(new RectHitbox(this));
         this.brickType = type;
         this.durability = type.getDurability();
-        this.registerComponent(new BrickEventComponent(this));
     }
 
     /**
@@ -29,7 +28,7 @@ public final class BrickImpl extends AbstractElement implements Brick {
      */
     @Override
     public Vector getPace() {
-        return new VectorImpl(0, 0);
+        return PACE;
     }
 
     /**
@@ -5,20 +5,18 @@ import it.unibo.pyxis.ecs.component.event.EventComponent;
 import it.unibo.pyxis.model.element.ball.Ball;
 import it.unibo.pyxis.model.element.ball.BallType;
 import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.event.EventDispatcher;
 import it.unibo.pyxis.model.event.Events;
-import it.unibo.pyxis.model.event.movement.BallMovementEvent;
-import it.unibo.pyxis.model.hitbox.CollisionInformation;
-import it.unibo.pyxis.model.hitbox.Hitbox;
+import it.unibo.pyxis.model.event.RoutingKeys;
+import it.unibo.pyxis.model.event.collision.BallCollisionWithBrickEvent;
 import it.unibo.pyxis.model.util.Coord;
-import org.greenrobot.eventbus.EventBus;
-import org.greenrobot.eventbus.Subscribe;
-
-import java.util.Optional;
 
 public class BrickEventComponent extends AbstractEventComponent<Brick> {
 
-    public BrickEventComponent(final Brick entity) {
-        super(entity);
+    public BrickEventComponent(final Brick entity, final EventDispatcher dispatcher) {
+        super(entity, dispatcher);
+        this.subscribe(BallCollisionWithBrickEvent.class, RoutingKeys.brickCoord(),
+                RoutingKeys.brickKey(entity.getPosition()), this::handleBallCollision);
     }
 
     /**
@@ -38,7 +36,7 @@ public class BrickEventComponent extends AbstractEventComponent<Brick> {
         if (this.getEntity().getDurability() == 0 && (!this.getEntity().getBrickType().isIndestructible() || ballType == BallType.ATOMIC_BALL)) {
             final Coord brickPosition = this.getEntity().getPosition();
             final int getPoints = this.getEntity().getBrickType().getPoints();
-            EventBus.getDefault().post(Events.newBrickDestructionEvent(brickPosition, getPoints));
+            this.post(Events.newBrickDestructionEvent(brickPosition, getPoints));
             if (this.getEntity().hasComponent(EventComponent.class)) {
                 this.getEntity().removeComponent(EventComponent.class);
             }
@@ -46,20 +44,14 @@ public class BrickEventComponent extends AbstractEventComponent<Brick> {
     }
 
     /**
-     * Handles the {@link Ball}'s movement event.
+     * Handles the {@link BallCollisionWithBrickEvent} applying the damage
+     * of the {@link Ball} if the collision involves this {@link Brick}.
      *
-     * @param movementEvent The movement event caused by the
-     *                      {@link it.unibo.pyxis.model.element.ball.Ball} needs
-     *                      to be handled.
+     * @param collisionEvent The {@link BallCollisionWithBrickEvent} to handle.
      */
-    @Subscribe
-    public void handleBallMovement(final BallMovementEvent movementEvent) {
-        final Hitbox hitbox = this.getEntity().getHitbox();
-        final Optional<CollisionInformation> collInfo = movementEvent.getElement().getHitbox().collidingInformationWithHB(hitbox);
-        collInfo.ifPresent(cI -> {
-            final Ball ball = movementEvent.getElement();
-            this.handleIncomingDamage(movementEvent.getElement().getType());
-            EventBus.getDefault().post(Events.newBallCollisionWithBrickEvent(ball.getId(), this.getEntity().getBrickType().isIndestructible(), cI));
-        });
+    public void handleBallCollision(final BallCollisionWithBrickEvent collisionEvent) {
+        if (this.getEntity().getPosition().equals(collisionEvent.getBrickCoord())) {
+            this.handleIncomingDamage(collisionEvent.getBallType());
+        }
     }
 }
@@ -20,6 +20,15 @@ public final class ElementFactoryImpl implements ElementFactory {
     private static final int MAX_ANGLE = 342;
     private static final int MIN_ANGLE = 198;
     private static final int FLAT_CORNER_ANGLE = 180;
+    private final Random random;
+
+    public ElementFactoryImpl(final Random inputRandom) {
+        this.random = inputRandom;
+    }
+
+    public ElementFactoryImpl() {
+        this(new Random());
+    }
 
     /**
      * Returns a random angle between the MAX_ANGLE
@@ -29,8 +38,7 @@ public final class ElementFactoryImpl implements ElementFactory {
      *                  and the MIN_ANGLE in radians.
      */
     private double randomAngle() {
-        final Random random = new Random();
-        return (random.nextInt(MAX_ANGLE - MIN_ANGLE) + MIN_ANGLE) * Math.PI / FLAT_CORNER_ANGLE;
+        return (this.random.nextInt(MAX_ANGLE - MIN_ANGLE) + MIN_ANGLE) * Math.PI / FLAT_CORNER_ANGLE;
     }
 
     /**
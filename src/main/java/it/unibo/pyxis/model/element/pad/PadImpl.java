@@ -1,27 +1,26 @@
 package it.unibo.pyxis.model.element.pad;
 
-import it.unibo.pyxis.model.element.AbstractElement;
-import it.unibo.pyxis.model.element.pad.component.PadEventComponent;
+import it.unibo.pyxis.model.element.AbstractPositionedElement;
 import it.unibo.pyxis.model.hitbox.RectHitbox;
 import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
 import it.unibo.pyxis.model.util.DimensionImpl;
+import it.unibo.pyxis.model.util.ImmutableVector;
 import it.unibo.pyxis.model.util.Vector;
-import it.unibo.pyxis.model.util.VectorImpl;
 
 import java.util.Objects;
 
-public final class PadImpl extends AbstractElement implements Pad {
+public final class PadImpl extends AbstractPositionedElement implements Pad {
 
     private static final String DEFAULT_TAG = "DEFAULT_PAD";
     private static final Dimension DIMENSION = new DimensionImpl(70, 12);
+    private static final Vector PACE = new ImmutableVector(0, 0);
     private final String tag;
 
     public PadImpl(final Dimension inputDimension, final Coord inputPosition, final String inputTag) {
         super(inputDimension, inputPosition);
         this.setHitbox(new RectHitbox(this));
         this.tag = inputTag;
-        this.registerComponent(new PadEventComponent(this));
     }
 
     public PadImpl(final Dimension inputDimension, final Coord inputPosition) {
@@ -55,7 +54,7 @@ public final class PadImpl extends AbstractElement implements Pad {
      */
     @Override
     public Vector getPace() {
-        return new VectorImpl(0, 0);
+        return PACE;
     }
 
     /**
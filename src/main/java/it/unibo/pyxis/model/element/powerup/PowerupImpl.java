@@ -1,21 +1,21 @@
 package it.unibo.pyxis.model.element.powerup;
 
-import it.unibo.pyxis.model.element.AbstractElement;
+import it.unibo.pyxis.model.element.AbstractPositionedElement;
 import it.unibo.pyxis.model.element.powerup.component.PowerupUpdateComponent;
 import it.unibo.pyxis.model.hitbox.RectHitbox;
 
 import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
-import it.unibo.pyxis.model.util.DimensionImpl;
+import it.unibo.pyxis.model.util.ImmutableDimension;
+import it.unibo.pyxis.model.util.ImmutableVector;
 import it.unibo.pyxis.model.util.Vector;
-import it.unibo.pyxis.model.util.VectorImpl;
 
 import java.util.Objects;
 
-public final class PowerupImpl extends AbstractElement implements Powerup {
+public final class PowerupImpl extends AbstractPositionedElement implements Powerup {
 
-    private static final Dimension DIMENSION = new DimensionImpl(20, 14);
-    private static final Vector PACE = new VectorImpl(0, 30);
+    private static final Dimension DIMENSION = new ImmutableDimension(20, 14);
+    private static final Vector PACE = new ImmutableVector(0, 30);
     private final PowerupType type;
 
     public PowerupImpl(final PowerupType inputType, final Coord inputCoord) {
@@ -52,7 +52,7 @@ public final class PowerupImpl extends AbstractElement implements Powerup {
      */
     @Override
     public Vector getPace() {
-        return PACE.copyOf();
+        return PACE;
     }
 
     /**
@@ -2,9 +2,7 @@ package it.unibo.pyxis.model.element.powerup.component;
 
 import it.unibo.pyxis.ecs.component.physics.AbstractUpdateComponent;
 import it.unibo.pyxis.model.element.powerup.Powerup;
-import it.unibo.pyxis.model.event.Events;
 import it.unibo.pyxis.model.util.Coord;
-import org.greenrobot.eventbus.EventBus;
 
 public final class PowerupUpdateComponent extends AbstractUpdateComponent<Powerup> {
 
@@ -18,9 +16,10 @@ public final class PowerupUpdateComponent extends AbstractUpdateComponent<Poweru
      * @param dt The elapsed time between two updates.
      */
     private void calculateNewCoord(final double dt) {
-        final Coord updatedCoord = this.getEntity().getPosition();
-        updatedCoord.sumVector(this.getEntity().getPace(), dt * this.getEntity().getUpdateTimeMultiplier());
-        this.getEntity().setPosition(updatedCoord);
+        final Powerup powerup = this.getEntity();
+        final double movementTime = dt * powerup.getUpdateTimeMultiplier();
+        powerup.setPosition(powerup.getX() + powerup.getPaceX() * movementTime,
+                powerup.getY() + powerup.getPaceY() * movementTime);
     }
 
     /**
@@ -29,6 +28,5 @@ public final class PowerupUpdateComponent extends AbstractUpdateComponent<Poweru
     @Override
     public void update(final double elapsed) {
         this.calculateNewCoord(elapsed);
-        EventBus.getDefault().post(Events.newPowerupMovementEvent(this.getEntity()));
     }
 }
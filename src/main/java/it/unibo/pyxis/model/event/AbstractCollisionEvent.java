@@ -0,0 +1,87 @@
+package it.unibo.pyxis.model.event;
+
+import it.unibo.pyxis.model.event.collision.CollisionEvent;
+import it.unibo.pyxis.model.hitbox.CollisionInformation;
+import it.unibo.pyxis.model.hitbox.HitEdge;
+import it.unibo.pyxis.model.util.Dimension;
+import it.unibo.pyxis.model.util.DimensionImpl;
+
+/**
+ * A pooled {@link CollisionEvent} acting as its own {@link CollisionInformation},
+ * so that it doesn't allocate anything when it is reused.
+ */
+abstract class AbstractCollisionEvent extends PooledEvent implements CollisionEvent, CollisionInformation {
+
+    private final DimensionImpl collisionOffset;
+    private int ballId;
+    private HitEdge hitEdge;
+
+    AbstractCollisionEvent() {
+        super();
+        this.collisionOffset = new DimensionImpl(0, 0);
+    }
+
+    /**
+     * Sets the data of the collision.
+     *
+     * @param inputBallId The id of the {@link it.unibo.pyxis.model.element.ball.Ball}.
+     * @param inputHitEdge The {@link HitEdge}.
+     * @param offsetWidth The width of the collision offset.
+     * @param offsetHeight The height of the collision offset.
+     */
+    final void setCollision(final int inputBallId, final HitEdge inputHitEdge,
+                            final double offsetWidth, final double offsetHeight) {
+        this.ballId = inputBallId;
+        this.hitEdge = inputHitEdge;
+        this.collisionOffset.setWidth(offsetWidth);
+        this.collisionOffset.setHeight(offsetHeight);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final int getBallId() {
+        return this.ballId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final CollisionInformation getCollisionInformation() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Dimension getCollisionOffset() {
+        return this.collisionOffset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final HitEdge getHitEdge() {
+        return this.hitEdge;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void setHitEdge(final HitEdge inputHitEdge) {
+        this.hitEdge = inputHitEdge;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void clear() {
+        this.hitEdge = null;
+    }
+}
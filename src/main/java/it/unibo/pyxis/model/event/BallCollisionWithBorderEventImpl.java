@@ -0,0 +1,34 @@
+package it.unibo.pyxis.model.event;
+
+import it.unibo.pyxis.model.event.collision.BallCollisionWithBorderEvent;
+import it.unibo.pyxis.model.hitbox.HitEdge;
+
+final class BallCollisionWithBorderEventImpl extends AbstractCollisionEvent implements BallCollisionWithBorderEvent {
+
+    private static final EventPool<BallCollisionWithBorderEventImpl> POOL =
+            new EventPool<>(BallCollisionWithBorderEventImpl::new);
+
+    /**
+     * Hands out a {@link BallCollisionWithBorderEventImpl} from the pool.
+     *
+     * @param ballId The id of the {@link it.unibo.pyxis.model.element.ball.Ball}.
+     * @param hitEdge The {@link HitEdge}.
+     * @param offsetWidth The width of the collision offset.
+     * @param offsetHeight The height of the collision offset.
+     * @return The {@link BallCollisionWithBorderEventImpl}.
+     */
+    static BallCollisionWithBorderEventImpl acquire(final int ballId, final HitEdge hitEdge,
+                                                    final double offsetWidth, final double offsetHeight) {
+        final BallCollisionWithBorderEventImpl event = POOL.acquire();
+        event.setCollision(ballId, hitEdge, offsetWidth, offsetHeight);
+        return event;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void release() {
+        POOL.release(this);
+    }
+}
@@ -0,0 +1,83 @@
+package it.unibo.pyxis.model.event;
+
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.event.collision.BallCollisionWithBrickEvent;
+import it.unibo.pyxis.model.hitbox.HitEdge;
+import it.unibo.pyxis.model.util.Coord;
+
+final class BallCollisionWithBrickEventImpl extends AbstractCollisionEvent implements BallCollisionWithBrickEvent {
+
+    private static final EventPool<BallCollisionWithBrickEventImpl> POOL =
+            new EventPool<>(BallCollisionWithBrickEventImpl::new);
+
+    private BallType ballType;
+    private Coord brickCoord;
+    private boolean brickIndestructible;
+
+    /**
+     * Hands out a {@link BallCollisionWithBrickEventImpl} from the pool.
+     *
+     * @param ballId The id of the {@link it.unibo.pyxis.model.element.ball.Ball}.
+     * @param inputBallType The {@link BallType} of the {@link it.unibo.pyxis.model.element.ball.Ball}.
+     * @param inputBrickCoord The {@link Coord} of the hit {@link it.unibo.pyxis.model.element.brick.Brick}.
+     * @param inputBrickIndestructible True if the hit {@link it.unibo.pyxis.model.element.brick.Brick}
+     *                                 is indestructible.
+     * @param hitEdge The {@link HitEdge}.
+     * @param offsetWidth The width of the collision offset.
+     * @param offsetHeight The height of the collision offset.
+     * @return The {@link BallCollisionWithBrickEventImpl}.
+     */
+    static BallCollisionWithBrickEventImpl acquire(final int ballId, final BallType inputBallType,
+                                                   final Coord inputBrickCoord, final boolean inputBrickIndestructible,
+                                                   final HitEdge hitEdge, final double offsetWidth,
+                                                   final double offsetHeight) {
+        final BallCollisionWithBrickEventImpl event = POOL.acquire();
+        event.setCollision(ballId, hitEdge, offsetWidth, offsetHeight);
+        event.ballType = inputBallType;
+        event.brickCoord = inputBrickCoord;
+        event.brickIndestructible = inputBrickIndestructible;
+        return event;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BallType getBallType() {
+        return this.ballType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord getBrickCoord() {
+        return this.brickCoord;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBrickIndestructible() {
+        return this.brickIndestructible;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void clear() {
+        super.clear();
+        this.ballType = null;
+        this.brickCoord = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void release() {
+        POOL.release(this);
+    }
+}
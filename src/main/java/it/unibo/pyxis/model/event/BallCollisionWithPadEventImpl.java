@@ -0,0 +1,47 @@
+package it.unibo.pyxis.model.event;
+
+import it.unibo.pyxis.model.event.collision.BallCollisionWithPadEvent;
+import it.unibo.pyxis.model.hitbox.HitEdge;
+
+final class BallCollisionWithPadEventImpl extends AbstractCollisionEvent implements BallCollisionWithPadEvent {
+
+    private static final EventPool<BallCollisionWithPadEventImpl> POOL =
+            new EventPool<>(BallCollisionWithPadEventImpl::new);
+
+    private double padHitPercentage;
+
+    /**
+     * Hands out a {@link BallCollisionWithPadEventImpl} from the pool.
+     *
+     * @param ballId The id of the {@link it.unibo.pyxis.model.element.ball.Ball}.
+     * @param hitEdge The {@link HitEdge}.
+     * @param offsetWidth The width of the collision offset.
+     * @param offsetHeight The height of the collision offset.
+     * @param inputPadHitPercentage The position of the hit along the
+     *                              {@link it.unibo.pyxis.model.element.pad.Pad}.
+     * @return The {@link BallCollisionWithPadEventImpl}.
+     */
+    static BallCollisionWithPadEventImpl acquire(final int ballId, final HitEdge hitEdge, final double offsetWidth,
+                                                 final double offsetHeight, final double inputPadHitPercentage) {
+        final BallCollisionWithPadEventImpl event = POOL.acquire();
+        event.setCollision(ballId, hitEdge, offsetWidth, offsetHeight);
+        event.padHitPercentage = inputPadHitPercentage;
+        return event;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPadHitPercentage() {
+        return this.padHitPercentage;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void release() {
+        POOL.release(this);
+    }
+}
@@ -0,0 +1,21 @@
+package it.unibo.pyxis.model.event;
+
+import java.util.List;
+
+/**
+ * A callback receiving at once all the deferred {@link Event}s of a type
+ * flushed by an {@link EventDispatcher}.
+ *
+ * @param <E> The type of the {@link Event}s received.
+ */
+@FunctionalInterface
+public interface BatchListener<E extends Event> {
+
+    /**
+     * Handles the {@link Event}s of a flush. The {@link List} is only valid
+     * during the call.
+     *
+     * @param events The {@link Event}s, in posting order.
+     */
+    void onEvents(List<E> events);
+}
@@ -0,0 +1,59 @@
+package it.unibo.pyxis.model.event;
+
+import it.unibo.pyxis.model.event.notify.BrickDestructionEvent;
+import it.unibo.pyxis.model.util.Coord;
+
+final class BrickDestructionEventImpl extends PooledEvent implements BrickDestructionEvent {
+
+    private static final EventPool<BrickDestructionEventImpl> POOL = new EventPool<>(BrickDestructionEventImpl::new);
+
+    private Coord brickCoord;
+    private int points;
+
+    /**
+     * Hands out a {@link BrickDestructionEventImpl} from the pool.
+     *
+     * @param inputBrickCoord The {@link Coord} of the destroyed
+     *                        {@link it.unibo.pyxis.model.element.brick.Brick}.
+     * @param inputPoints The amount of points to be registered.
+     * @return The {@link BrickDestructionEventImpl}.
+     */
+    static BrickDestructionEventImpl acquire(final Coord inputBrickCoord, final int inputPoints) {
+        final BrickDestructionEventImpl event = POOL.acquire();
+        event.brickCoord = inputBrickCoord;
+        event.points = inputPoints;
+        return event;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Coord getBrickCoord() {
+        return this.brickCoord;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPoints() {
+        return this.points;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void clear() {
+        this.brickCoord = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void release() {
+        POOL.release(this);
+    }
+}
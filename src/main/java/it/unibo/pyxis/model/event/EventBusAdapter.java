@@ -0,0 +1,47 @@
+package it.unibo.pyxis.model.event;
+
+import org.greenrobot.eventbus.EventBus;
+
+import java.util.Set;
+
+/**
+ * Forwards some types of {@link Event}s from an {@link EventDispatcher} to an
+ * {@link EventBus}, for the listeners outside the model, such as the view,
+ * that receive them through {@link org.greenrobot.eventbus.Subscribe} methods.
+ * The {@link Event}s are forwarded when the {@link EventDispatcher} is flushed.
+ */
+public final class EventBusAdapter implements EventListener<Event> {
+
+    private final EventDispatcher dispatcher;
+    private final EventBus eventBus;
+    private final Set<Class<? extends Event>> eventTypes;
+
+    public EventBusAdapter(final EventDispatcher inputDispatcher, final EventBus inputEventBus,
+                           final Set<Class<? extends Event>> inputEventTypes) {
+        this.dispatcher = inputDispatcher;
+        this.eventBus = inputEventBus;
+        this.eventTypes = Set.copyOf(inputEventTypes);
+    }
+
+    /**
+     * Starts forwarding the {@link Event}s.
+     */
+    public void attach() {
+        this.eventTypes.forEach(eventType -> this.dispatcher.subscribeDeferred(eventType, this));
+    }
+
+    /**
+     * Stops forwarding the {@link Event}s.
+     */
+    public void detach() {
+        this.eventTypes.forEach(eventType -> this.dispatcher.unsubscribeDeferred(eventType, this));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onEvent(final Event event) {
+        this.eventBus.post(event);
+    }
+}
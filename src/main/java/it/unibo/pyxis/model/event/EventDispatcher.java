@@ -0,0 +1,116 @@
+package it.unibo.pyxis.model.event;
+
+/**
+ * Delivers the {@link Event}s of the model to the {@link EventListener}s
+ * subscribed to their type, calling them directly. An {@link Event} posted
+ * while another one is being delivered is queued and delivered right after it.
+ * An {@link EventListener} can also subscribe with a {@link RoutingKey} and a
+ * key, to receive only the {@link Event}s with that key.
+ * The deferred {@link EventListener}s and the {@link BatchListener}s don't
+ * receive the {@link Event}s when they are posted: the {@link Event}s are
+ * queued and delivered to them, in posting order, when the dispatcher is flushed.
+ * The pooled {@link Event}s made by {@link Events} are recycled as soon as
+ * they have been delivered to all their listeners.
+ */
+public interface EventDispatcher {
+
+    /**
+     * Delivers an {@link Event} to all the {@link EventListener}s subscribed to
+     * one of its types, then to the ones subscribed to its keys, and queues it
+     * for the deferred ones. The {@link EventListener}s of each type receive it
+     * in subscription order, including the ones unsubscribed during the delivery.
+     *
+     * @param event The {@link Event} to post.
+     */
+    void post(Event event);
+
+    /**
+     * Subscribes an {@link EventListener} to the {@link Event}s of a type,
+     * including the ones of its subtypes.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param listener The {@link EventListener} to subscribe.
+     * @param <E> The type of the {@link Event}s.
+     */
+    <E extends Event> void subscribe(Class<E> eventType, EventListener<? super E> listener);
+
+    /**
+     * Unsubscribes an {@link EventListener} from the {@link Event}s of a type.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param listener The {@link EventListener} to unsubscribe.
+     * @param <E> The type of the {@link Event}s.
+     */
+    <E extends Event> void unsubscribe(Class<E> eventType, EventListener<? super E> listener);
+
+    /**
+     * Subscribes an {@link EventListener} to the {@link Event}s of a type,
+     * including the ones of its subtypes, whose {@link RoutingKey} gives the input key.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param routingKey The {@link RoutingKey} of the {@link Event}s.
+     * @param key The key of the {@link Event}s to receive.
+     * @param listener The {@link EventListener} to subscribe.
+     * @param <E> The type of the {@link Event}s.
+     */
+    <E extends Event> void subscribe(Class<E> eventType, RoutingKey<? super E> routingKey, long key,
+                                     EventListener<? super E> listener);
+
+    /**
+     * Unsubscribes an {@link EventListener} from the {@link Event}s of a type with a key.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param routingKey The {@link RoutingKey} of the {@link Event}s.
+     * @param key The key of the {@link Event}s.
+     * @param listener The {@link EventListener} to unsubscribe.
+     * @param <E> The type of the {@link Event}s.
+     */
+    <E extends Event> void unsubscribe(Class<E> eventType, RoutingKey<? super E> routingKey, long key,
+                                       EventListener<? super E> listener);
+
+    /**
+     * Subscribes a deferred {@link EventListener} to the {@link Event}s of a type,
+     * including the ones of its subtypes.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param listener The {@link EventListener} to subscribe.
+     * @param <E> The type of the {@link Event}s.
+     */
+    <E extends Event> void subscribeDeferred(Class<E> eventType, EventListener<? super E> listener);
+
+    /**
+     * Unsubscribes a deferred {@link EventListener} from the {@link Event}s of a type.
+     * It doesn't receive the {@link Event}s already queued either.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param listener The {@link EventListener} to unsubscribe.
+     * @param <E> The type of the {@link Event}s.
+     */
+    <E extends Event> void unsubscribeDeferred(Class<E> eventType, EventListener<? super E> listener);
+
+    /**
+     * Subscribes a {@link BatchListener} to the {@link Event}s of a type,
+     * including the ones of its subtypes.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param listener The {@link BatchListener} to subscribe.
+     * @param <E> The type of the {@link Event}s.
+     */
+    <E extends Event> void subscribeBatch(Class<E> eventType, BatchListener<? super E> listener);
+
+    /**
+     * Unsubscribes a {@link BatchListener} from the {@link Event}s of a type.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param listener The {@link BatchListener} to unsubscribe.
+     * @param <E> The type of the {@link Event}s.
+     */
+    <E extends Event> void unsubscribeBatch(Class<E> eventType, BatchListener<? super E> listener);
+
+    /**
+     * Delivers the queued {@link Event}s to the deferred {@link EventListener}s,
+     * then the {@link Event}s of each type to its {@link BatchListener}s.
+     * The {@link Event}s posted meanwhile are delivered by the same flush.
+     */
+    void flush();
+}
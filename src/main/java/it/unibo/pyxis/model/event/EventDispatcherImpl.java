@@ -0,0 +1,414 @@
+package it.unibo.pyxis.model.event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public final class EventDispatcherImpl implements EventDispatcher {
+
+    private static final int QUEUE_CAPACITY = 256;
+    private static final EventListener<?>[] NO_LISTENERS = new EventListener<?>[0];
+    private static final Route[] NO_ROUTES = new Route[0];
+    private static final Batch[] NO_BATCHES = new Batch[0];
+
+    private final Map<Class<?>, List<EventListener<?>>> subscriptions;
+    private final Map<Class<?>, List<EventListener<?>>> deferredSubscriptions;
+    private final List<Route> routes;
+    private final List<Batch> batches;
+    private final Map<Class<?>, Dispatch> dispatchTable;
+    private final Deque<Event> pendingEvents;
+    private final EventRing queuedEvents;
+    private final List<Batch> pendingBatches;
+    private final List<Event> flushedEvents;
+    private boolean dispatching;
+    private boolean flushing;
+
+    public EventDispatcherImpl() {
+        this.subscriptions = new LinkedHashMap<>();
+        this.deferredSubscriptions = new LinkedHashMap<>();
+        this.routes = new ArrayList<>();
+        this.batches = new ArrayList<>();
+        this.dispatchTable = new HashMap<>();
+        this.pendingEvents = new ArrayDeque<>();
+        this.queuedEvents = new EventRing(QUEUE_CAPACITY);
+        this.pendingBatches = new ArrayList<>();
+        this.flushedEvents = new ArrayList<>();
+    }
+
+    /**
+     * Collects the {@link EventListener}s subscribed to the types of a concrete
+     * {@link Event} class, in subscription order.
+     *
+     * @param typeSubscriptions The {@link EventListener}s by {@link Event} type.
+     * @param eventClass The concrete class of the {@link Event}s.
+     * @return The array of {@link EventListener}s.
+     */
+    private static EventListener<?>[] collect(final Map<Class<?>, List<EventListener<?>>> typeSubscriptions,
+                                              final Class<?> eventClass) {
+        final List<EventListener<?>> listeners = new ArrayList<>();
+        typeSubscriptions.forEach((eventType, subscribed) -> {
+            if (eventType.isAssignableFrom(eventClass)) {
+                listeners.addAll(subscribed);
+            }
+        });
+        return listeners.isEmpty() ? NO_LISTENERS : listeners.toArray(NO_LISTENERS);
+    }
+
+    /**
+     * Resolves everything receiving the {@link Event}s of a concrete class.
+     *
+     * @param eventClass The concrete class of the {@link Event}s.
+     * @return The {@link Dispatch}.
+     */
+    private Dispatch resolve(final Class<?> eventClass) {
+        final Route[] classRoutes = this.routes.stream()
+                .filter(route -> route.eventType.isAssignableFrom(eventClass))
+                .toArray(Route[]::new);
+        final Batch[] classBatches = this.batches.stream()
+                .filter(batch -> batch.eventType.isAssignableFrom(eventClass))
+                .toArray(Batch[]::new);
+        return new Dispatch(collect(this.subscriptions, eventClass),
+                classRoutes.length == 0 ? NO_ROUTES : classRoutes,
+                collect(this.deferredSubscriptions, eventClass),
+                classBatches.length == 0 ? NO_BATCHES : classBatches);
+    }
+
+    /**
+     * Rebuilds the dispatch table entries affected by a change of the
+     * subscriptions to an {@link Event} type.
+     *
+     * @param eventType The {@link Event} type whose subscriptions changed.
+     */
+    private void refreshDispatchTable(final Class<?> eventType) {
+        this.dispatchTable.replaceAll((eventClass, dispatch) ->
+                eventType.isAssignableFrom(eventClass) ? this.resolve(eventClass) : dispatch);
+    }
+
+    /**
+     * Returns the {@link Dispatch} of a concrete {@link Event} class, resolving
+     * it the first time the class is posted.
+     *
+     * @param eventClass The concrete class of the {@link Event}.
+     * @return The {@link Dispatch}.
+     */
+    private Dispatch dispatchOf(final Class<?> eventClass) {
+        return this.dispatchTable.computeIfAbsent(eventClass, this::resolve);
+    }
+
+    /**
+     * Returns the {@link Route} of an {@link Event} type and a {@link RoutingKey}.
+     *
+     * @param eventType The type of the {@link Event}s.
+     * @param routingKey The {@link RoutingKey}.
+     * @return The {@link Route}, null if nobody ever subscribed to it.
+     */
+    private Route routeOf(final Class<?> eventType, final RoutingKey<?> routingKey) {
+        for (final Route route : this.routes) {
+            if (route.eventType == eventType && route.routingKey == routingKey) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Calls the input {@link EventListener}s with an {@link Event}.
+     *
+     * @param listeners The {@link EventListener}s.
+     * @param event The {@link Event}.
+     */
+    @SuppressWarnings("unchecked")
+    private static void callListeners(final EventListener<?>[] listeners, final Event event) {
+        for (final EventListener<?> listener : listeners) {
+            ((EventListener<Event>) listener).onEvent(event);
+        }
+    }
+
+    /**
+     * Recycles an {@link Event} delivered to all its listeners, if it is pooled.
+     *
+     * @param event The {@link Event}.
+     */
+    private static void recycle(final Event event) {
+        if (event instanceof PooledEvent) {
+            ((PooledEvent) event).recycle();
+        }
+    }
+
+    /**
+     * Delivers an {@link Event} to its {@link EventListener}s, queueing it
+     * if it has deferred ones and recycling it otherwise.
+     *
+     * @param event The {@link Event} to deliver.
+     */
+    @SuppressWarnings("unchecked")
+    private void deliver(final Event event) {
+        final Dispatch dispatch = this.dispatchOf(event.getClass());
+        callListeners(dispatch.listeners, event);
+        for (final Route route : dispatch.routes) {
+            final EventListener<?>[] keyListeners = route.listeners
+                    .get(((RoutingKey<Event>) route.routingKey).keyOf(event));
+            if (!Objects.isNull(keyListeners)) {
+                callListeners(keyListeners, event);
+            }
+        }
+        if (dispatch.deferredListeners.length > 0 || dispatch.batches.length > 0) {
+            this.queuedEvents.add(event);
+        } else {
+            recycle(event);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void post(final Event event) {
+        if (this.dispatching) {
+            this.pendingEvents.add(event);
+            return;
+        }
+        this.dispatching = true;
+        try {
+            this.deliver(event);
+            while (!this.pendingEvents.isEmpty()) {
+                this.deliver(this.pendingEvents.poll());
+            }
+        } finally {
+            this.pendingEvents.clear();
+            this.dispatching = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized void flush() {
+        if (this.flushing) {
+            return;
+        }
+        this.flushing = true;
+        try {
+            while (!this.queuedEvents.isEmpty()) {
+                while (!this.queuedEvents.isEmpty()) {
+                    final Event event = this.queuedEvents.poll();
+                    final Dispatch dispatch = this.dispatchOf(event.getClass());
+                    callListeners(dispatch.deferredListeners, event);
+                    this.flushedEvents.add(event);
+                    for (final Batch batch : dispatch.batches) {
+                        if (batch.events.isEmpty()) {
+                            this.pendingBatches.add(batch);
+                        }
+                        batch.events.add(event);
+                    }
+                }
+                for (int i = 0; i < this.pendingBatches.size(); i++) {
+                    final Batch batch = this.pendingBatches.get(i);
+                    if (!batch.events.isEmpty()) {
+                        ((BatchListener<Event>) batch.listener).onEvents(batch.view);
+                        batch.events.clear();
+                    }
+                }
+                this.pendingBatches.clear();
+                this.flushedEvents.forEach(EventDispatcherImpl::recycle);
+                this.flushedEvents.clear();
+            }
+        } finally {
+            this.flushedEvents.clear();
+            this.pendingBatches.forEach(batch -> batch.events.clear());
+            this.pendingBatches.clear();
+            this.flushing = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized <E extends Event> void subscribe(final Class<E> eventType,
+                                                         final EventListener<? super E> listener) {
+        this.subscriptions.computeIfAbsent(eventType, t -> new ArrayList<>()).add(listener);
+        this.refreshDispatchTable(eventType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized <E extends Event> void unsubscribe(final Class<E> eventType,
+                                                           final EventListener<? super E> listener) {
+        final List<EventListener<?>> subscribed = this.subscriptions.get(eventType);
+        if (!Objects.isNull(subscribed) && subscribed.remove(listener)) {
+            this.refreshDispatchTable(eventType);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized <E extends Event> void subscribe(final Class<E> eventType,
+                                                         final RoutingKey<? super E> routingKey, final long key,
+                                                         final EventListener<? super E> listener) {
+        Route route = this.routeOf(eventType, routingKey);
+        if (Objects.isNull(route)) {
+            route = new Route(eventType, routingKey);
+            this.routes.add(route);
+            this.refreshDispatchTable(eventType);
+        }
+        route.add(key, listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized <E extends Event> void unsubscribe(final Class<E> eventType,
+                                                           final RoutingKey<? super E> routingKey, final long key,
+                                                           final EventListener<? super E> listener) {
+        final Route route = this.routeOf(eventType, routingKey);
+        if (!Objects.isNull(route)) {
+            route.remove(key, listener);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized <E extends Event> void subscribeDeferred(final Class<E> eventType,
+                                                                 final EventListener<? super E> listener) {
+        this.deferredSubscriptions.computeIfAbsent(eventType, t -> new ArrayList<>()).add(listener);
+        this.refreshDispatchTable(eventType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized <E extends Event> void unsubscribeDeferred(final Class<E> eventType,
+                                                                   final EventListener<? super E> listener) {
+        final List<EventListener<?>> subscribed = this.deferredSubscriptions.get(eventType);
+        if (!Objects.isNull(subscribed) && subscribed.remove(listener)) {
+            this.refreshDispatchTable(eventType);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized <E extends Event> void subscribeBatch(final Class<E> eventType,
+                                                              final BatchListener<? super E> listener) {
+        this.batches.add(new Batch(eventType, listener));
+        this.refreshDispatchTable(eventType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized <E extends Event> void unsubscribeBatch(final Class<E> eventType,
+                                                                final BatchListener<? super E> listener) {
+        for (int i = 0; i < this.batches.size(); i++) {
+            final Batch batch = this.batches.get(i);
+            if (batch.eventType == eventType && batch.listener.equals(listener)) {
+                this.batches.remove(i);
+                batch.events.clear();
+                this.refreshDispatchTable(eventType);
+                return;
+            }
+        }
+    }
+
+    /**
+     * The {@link EventListener}s of an {@link Event} type subscribed by key.
+     * Their arrays are replaced on every change, so that a delivery in progress
+     * is not affected.
+     */
+    private static final class Route {
+
+        private final Class<?> eventType;
+        private final RoutingKey<?> routingKey;
+        private final LongKeyMap<EventListener<?>[]> listeners;
+
+        Route(final Class<?> inputEventType, final RoutingKey<?> inputRoutingKey) {
+            this.eventType = inputEventType;
+            this.routingKey = inputRoutingKey;
+            this.listeners = new LongKeyMap<>();
+        }
+
+        void add(final long key, final EventListener<?> listener) {
+            final EventListener<?>[] keyListeners = this.listeners.get(key);
+            if (Objects.isNull(keyListeners)) {
+                this.listeners.put(key, new EventListener<?>[] {listener});
+            } else {
+                final EventListener<?>[] added = Arrays.copyOf(keyListeners, keyListeners.length + 1);
+                added[keyListeners.length] = listener;
+                this.listeners.put(key, added);
+            }
+        }
+
+        void remove(final long key, final EventListener<?> listener) {
+            final EventListener<?>[] keyListeners = this.listeners.get(key);
+            if (Objects.isNull(keyListeners)) {
+                return;
+            }
+            final List<EventListener<?>> remaining = new ArrayList<>(Arrays.asList(keyListeners));
+            if (remaining.remove(listener)) {
+                if (remaining.isEmpty()) {
+                    this.listeners.remove(key);
+                } else {
+                    this.listeners.put(key, remaining.toArray(NO_LISTENERS));
+                }
+            }
+        }
+    }
+
+    /**
+     * A {@link BatchListener} with the {@link Event}s collected for it by the
+     * current flush.
+     */
+    private static final class Batch {
+
+        private final Class<?> eventType;
+        private final BatchListener<?> listener;
+        private final List<Event> events;
+        private final List<Event> view;
+
+        Batch(final Class<?> inputEventType, final BatchListener<?> inputListener) {
+            this.eventType = inputEventType;
+            this.listener = inputListener;
+            this.events = new ArrayList<>();
+            this.view = Collections.unmodifiableList(this.events);
+        }
+    }
+
+    /**
+     * Everything receiving the {@link Event}s of a concrete class.
+     */
+    private static final class Dispatch {
+
+        private final EventListener<?>[] listeners;
+        private final Route[] routes;
+        private final EventListener<?>[] deferredListeners;
+        private final Batch[] batches;
+
+        Dispatch(final EventListener<?>[] inputListeners, final Route[] inputRoutes,
+                 final EventListener<?>[] inputDeferredListeners, final Batch[] inputBatches) {
+            this.listeners = inputListeners;
+            this.routes = inputRoutes;
+            this.deferredListeners = inputDeferredListeners;
+            this.batches = inputBatches;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package it.unibo.pyxis.model.event;
+
+/**
+ * A callback receiving the {@link Event}s of a type from an {@link EventDispatcher}.
+ *
+ * @param <E> The type of the {@link Event}s received.
+ */
+@FunctionalInterface
+public interface EventListener<E extends Event> {
+
+    /**
+     * Handles an {@link Event}.
+     *
+     * @param event The {@link Event} to handle.
+     */
+    void onEvent(E event);
+}
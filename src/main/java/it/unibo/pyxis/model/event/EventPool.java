@@ -0,0 +1,63 @@
+package it.unibo.pyxis.model.event;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A pool of {@link PooledEvent}s with a free list for each thread, so that it
+ * doesn't need any synchronization. A {@link PooledEvent} is returned to the
+ * pool of the thread recycling it, which may not be the one that acquired it.
+ *
+ * @param <T> The type of the {@link PooledEvent}s.
+ */
+final class EventPool<T extends PooledEvent> {
+
+    private static final int MAX_FREE_EVENTS = 64;
+
+    private final Supplier<T> factory;
+    private final ThreadLocal<Deque<T>> freeEvents;
+
+    EventPool(final Supplier<T> inputFactory) {
+        this.factory = inputFactory;
+        this.freeEvents = ThreadLocal.withInitial(ArrayDeque::new);
+    }
+
+    /**
+     * Hands out a {@link PooledEvent}, creating it if the free list of the
+     * current thread is empty.
+     *
+     * @return The {@link PooledEvent}.
+     */
+    T acquire() {
+        T event = this.freeEvents.get().pollFirst();
+        if (Objects.isNull(event)) {
+            event = this.factory.get();
+        }
+        event.acquire();
+        return event;
+    }
+
+    /**
+     * Puts a {@link PooledEvent} in the free list of the current thread,
+     * unless the list is already full.
+     *
+     * @param event The {@link PooledEvent}.
+     */
+    void release(final T event) {
+        final Deque<T> free = this.freeEvents.get();
+        if (free.size() < MAX_FREE_EVENTS) {
+            free.addFirst(event);
+        }
+    }
+
+    /**
+     * Returns the number of free {@link PooledEvent}s of the current thread.
+     *
+     * @return The number of free {@link PooledEvent}s.
+     */
+    int freeCount() {
+        return this.freeEvents.get().size();
+    }
+}
@@ -0,0 +1,86 @@
+package it.unibo.pyxis.model.event;
+
+import java.util.Objects;
+
+/**
+ * A first in first out ring buffer of {@link Event}s, preallocated and
+ * doubled only when it is full, so that queueing an {@link Event} usually
+ * doesn't allocate.
+ */
+final class EventRing {
+
+    private Event[] events;
+    private int head;
+    private int size;
+
+    /**
+     * Creates an empty {@link EventRing}.
+     *
+     * @param capacity The initial capacity, a power of two.
+     */
+    EventRing(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two");
+        }
+        this.events = new Event[capacity];
+    }
+
+    /**
+     * Doubles the capacity, moving the {@link Event}s to the start of the new array.
+     */
+    private void grow() {
+        final Event[] grown = new Event[this.events.length * 2];
+        final int firstPart = this.events.length - this.head;
+        System.arraycopy(this.events, this.head, grown, 0, firstPart);
+        System.arraycopy(this.events, 0, grown, firstPart, this.head);
+        this.events = grown;
+        this.head = 0;
+    }
+
+    /**
+     * Appends an {@link Event}.
+     *
+     * @param event The {@link Event} to append.
+     */
+    void add(final Event event) {
+        if (this.size == this.events.length) {
+            this.grow();
+        }
+        this.events[this.head + this.size & this.events.length - 1] = Objects.requireNonNull(event);
+        this.size++;
+    }
+
+    /**
+     * Removes and returns the oldest {@link Event}.
+     *
+     * @return The oldest {@link Event}, null if the {@link EventRing} is empty.
+     */
+    Event poll() {
+        if (this.size == 0) {
+            return null;
+        }
+        final Event event = this.events[this.head];
+        this.events[this.head] = null;
+        this.head = this.head + 1 & this.events.length - 1;
+        this.size--;
+        return event;
+    }
+
+    /**
+     * Returns TRUE if the {@link EventRing} is empty.
+     *
+     * @return TRUE if there aren't {@link Event}s, FALSE otherwise.
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the number of {@link Event}s queued.
+     *
+     * @return The size.
+     */
+    int size() {
+        return this.size;
+    }
+}
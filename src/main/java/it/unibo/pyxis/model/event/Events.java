@@ -1,18 +1,24 @@
 package it.unibo.pyxis.model.event;
 
 import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.ball.BallType;
 import it.unibo.pyxis.model.element.powerup.Powerup;
 import it.unibo.pyxis.model.event.collision.BallCollisionWithBorderEvent;
 import it.unibo.pyxis.model.event.collision.BallCollisionWithBrickEvent;
 import it.unibo.pyxis.model.event.collision.BallCollisionWithPadEvent;
-import it.unibo.pyxis.model.event.movement.BallMovementEvent;
-import it.unibo.pyxis.model.event.movement.PowerupMovementEvent;
 import it.unibo.pyxis.model.event.notify.DecreaseLifeEvent;
 import it.unibo.pyxis.model.event.notify.BrickDestructionEvent;
 import it.unibo.pyxis.model.event.notify.PowerupActivationEvent;
 import it.unibo.pyxis.model.hitbox.CollisionInformation;
+import it.unibo.pyxis.model.hitbox.Contact;
 import it.unibo.pyxis.model.util.Coord;
 
+/**
+ * The factory of the model {@link Event}s. The collision events and the
+ * {@link BrickDestructionEvent}s come from per-thread pools: they are only
+ * valid until the {@link EventDispatcher} has delivered them to all their
+ * listeners, deferred ones included, and must not be kept or posted twice.
+ */
 public final class Events {
 
     private Events() {
@@ -29,43 +35,28 @@ public final class Events {
      * @return The {@link BrickDestructionEvent} instance.
      */
     public static BrickDestructionEvent newBrickDestructionEvent(final Coord coords, final int points) {
-        return new BrickDestructionEvent() {
-            @Override
-            public Coord getBrickCoord() {
-                return coords;
-            }
-
-            @Override
-            public int getPoints() {
-                return points;
-            }
-        };
+        return BrickDestructionEventImpl.acquire(coords, points);
     }
     /**
      * Creates a new {@link BallCollisionWithBrickEvent} instance.
      *
      * @param id The {@link Ball} id.
+     * @param ballType The {@link BallType} of the {@link Ball}.
+     * @param brickCoord The {@link Coord} of the hit
+     *                   {@link it.unibo.pyxis.model.element.brick.Brick}.
+     * @param isIndestructible True if the hit
+     *                         {@link it.unibo.pyxis.model.element.brick.Brick}
+     *                         is indestructible.
      * @param collisionInformation The {@link CollisionInformationImpl} instance.
      * @return The {@link BallCollisionWithBrickEvent} instance.
      */
-    public static BallCollisionWithBrickEvent newBallCollisionWithBrickEvent(final int id, final boolean isIndestructible,
+    public static BallCollisionWithBrickEvent newBallCollisionWithBrickEvent(final int id, final BallType ballType,
+                                                                             final Coord brickCoord,
+                                                                             final boolean isIndestructible,
                                                                              final CollisionInformation collisionInformation) {
-        return new BallCollisionWithBrickEvent() {
-            @Override
-            public int getBallId() {
-                return id;
-            }
-
-            @Override
-            public boolean isBrickIndestructible() {
-                return isIndestructible;
-            }
-
-            @Override
-            public CollisionInformation getCollisionInformation() {
-                return collisionInformation;
-            }
-        };
+        return BallCollisionWithBrickEventImpl.acquire(id, ballType, brickCoord, isIndestructible,
+                collisionInformation.getHitEdge(), collisionInformation.getCollisionOffset().getWidth(),
+                collisionInformation.getCollisionOffset().getHeight());
     }
     /**
      * Creates a new {@link BallCollisionWithBorderEvent} instance.
@@ -75,17 +66,9 @@ public final class Events {
      * @return The {@link BallCollisionWithBorderEvent} instance.
      */
     public static BallCollisionWithBorderEvent newBallCollisionWithBorderEvent(final int id, final CollisionInformation collisionInformation) {
-        return new BallCollisionWithBorderEvent() {
-            @Override
-            public int getBallId() {
-                return id;
-            }
-
-            @Override
-            public CollisionInformation getCollisionInformation() {
-                return collisionInformation;
-            }
-        };
+        return BallCollisionWithBorderEventImpl.acquire(id, collisionInformation.getHitEdge(),
+                collisionInformation.getCollisionOffset().getWidth(),
+                collisionInformation.getCollisionOffset().getHeight());
     }
     /**
      * Creates a new {@link BallCollisionWithPadEvent} instance.
@@ -98,55 +81,63 @@ public final class Events {
      */
     public static BallCollisionWithPadEvent newBallCollisionWithPadEvent(final int id, final CollisionInformation collisionInformation,
                                                                          final double padWidth) {
-        return new BallCollisionWithPadEvent() {
-            @Override
-            public int getBallId() {
-                return id;
-            }
-
-            @Override
-            public double getPadHitPercentage() {
-                return padWidth;
-            }
-
-            @Override
-            public CollisionInformation getCollisionInformation() {
-                return collisionInformation;
-            }
-        };
+        return BallCollisionWithPadEventImpl.acquire(id, collisionInformation.getHitEdge(),
+                collisionInformation.getCollisionOffset().getWidth(),
+                collisionInformation.getCollisionOffset().getHeight(), padWidth);
     }
     /**
-     * Creates a new {@link PowerupActivationEvent} instance passing a {@link Powerup}.
+     * Creates a new {@link BallCollisionWithBrickEvent} instance from a {@link Contact},
+     * without allocating any {@link CollisionInformation}.
      *
-     * @param powerup The {@link Powerup} that called the event.
-     * @return The {@link PowerupActivationEvent} instance.
+     * @param id The {@link Ball} id.
+     * @param ballType The {@link BallType} of the {@link Ball}.
+     * @param brickCoord The {@link Coord} of the hit
+     *                   {@link it.unibo.pyxis.model.element.brick.Brick}.
+     * @param isIndestructible True if the hit
+     *                         {@link it.unibo.pyxis.model.element.brick.Brick}
+     *                         is indestructible.
+     * @param contact The {@link Contact} of the collision.
+     * @return The {@link BallCollisionWithBrickEvent} instance.
      */
-    public static PowerupActivationEvent newPowerupActivationEvent(final Powerup powerup) {
-        return () -> powerup;
+    public static BallCollisionWithBrickEvent newBallCollisionWithBrickEvent(final int id, final BallType ballType,
+                                                                             final Coord brickCoord,
+                                                                             final boolean isIndestructible,
+                                                                             final Contact contact) {
+        return BallCollisionWithBrickEventImpl.acquire(id, ballType, brickCoord, isIndestructible,
+                contact.getHitEdge(), contact.getOffsetWidth(), contact.getOffsetHeight());
+    }
+    /**
+     * Creates a new {@link BallCollisionWithBorderEvent} instance from a {@link Contact}.
+     *
+     * @param id The {@link Ball} id.
+     * @param contact The {@link Contact} of the collision.
+     * @return The {@link BallCollisionWithBorderEvent} instance.
+     */
+    public static BallCollisionWithBorderEvent newBallCollisionWithBorderEvent(final int id, final Contact contact) {
+        return BallCollisionWithBorderEventImpl.acquire(id, contact.getHitEdge(),
+                contact.getOffsetWidth(), contact.getOffsetHeight());
     }
     /**
-     * Creates a new {@link BallMovementEvent} instance passing a {@link Coord}
-     * representing the current position of the
-     * {@link it.unibo.pyxis.model.element.ball.Ball} inside the
-     * {@link it.unibo.pyxis.model.arena.Arena}.
+     * Creates a new {@link BallCollisionWithPadEvent} instance from a {@link Contact}.
      *
-     * @param ball The {@link Ball} moving.
-     * @return The {@link BallMovementEvent} instance.
+     * @param id The {@link Ball} id.
+     * @param contact The {@link Contact} of the collision.
+     * @param padWidth The width property of the
+     *                 {@link it.unibo.pyxis.model.element.pad.Pad}.
+     * @return The {@link BallCollisionWithPadEvent} instance.
      */
-    public static BallMovementEvent newBallMovementEvent(final Ball ball) {
-        return () -> ball;
+    public static BallCollisionWithPadEvent newBallCollisionWithPadEvent(final int id, final Contact contact,
+                                                                         final double padWidth) {
+        return BallCollisionWithPadEventImpl.acquire(id, contact.getHitEdge(),
+                contact.getOffsetWidth(), contact.getOffsetHeight(), padWidth);
     }
     /**
-     * Creates a new {@link PowerupMovementEvent} instance passing a {@link Coord}
-     * representing the current position of the
-     * {@link it.unibo.pyxis.model.element.powerup.Powerup} inside the
-     * {@link it.unibo.pyxis.model.arena.Arena}.
+     * Creates a new {@link PowerupActivationEvent} instance passing a {@link Powerup}.
      *
-     * @param powerup The {@link it.unibo.pyxis.model.element.powerup.Powerup}'s
-     *                {@link Coord} position.
-     * @return The {@link PowerupMovementEvent} instance.
+     * @param powerup The {@link Powerup} that called the event.
+     * @return The {@link PowerupActivationEvent} instance.
      */
-    public static PowerupMovementEvent newPowerupMovementEvent(final Powerup powerup) {
+    public static PowerupActivationEvent newPowerupActivationEvent(final Powerup powerup) {
         return () -> powerup;
     }
     /**
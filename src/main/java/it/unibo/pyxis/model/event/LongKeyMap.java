@@ -0,0 +1,133 @@
+package it.unibo.pyxis.model.event;
+
+import java.util.Objects;
+
+/**
+ * A map from primitive long keys to non null values, using open addressing
+ * with linear probing so that the lookups don't box the key.
+ *
+ * @param <V> The type of the values.
+ */
+final class LongKeyMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    LongKeyMap() {
+        this.keys = new long[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the first slot to probe for a key.
+     *
+     * @param key The key.
+     * @param mask The capacity of the table minus one.
+     * @return The index of the slot.
+     */
+    private static int slotOf(final long key, final int mask) {
+        final long hash = key * HASH_MULTIPLIER;
+        return (int) (hash ^ hash >>> Integer.SIZE) & mask;
+    }
+
+    /**
+     * Returns the slot holding a key, or the empty slot where it would be inserted.
+     *
+     * @param key The key.
+     * @return The index of the slot.
+     */
+    private int find(final long key) {
+        final int mask = this.keys.length - 1;
+        int slot = slotOf(key, mask);
+        while (!Objects.isNull(this.values[slot]) && this.keys[slot] != key) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Doubles the capacity of the table.
+     */
+    private void grow() {
+        final long[] oldKeys = this.keys;
+        final Object[] oldValues = this.values;
+        this.keys = new long[oldKeys.length * 2];
+        this.values = new Object[oldValues.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (!Objects.isNull(oldValues[i])) {
+                final int slot = this.find(oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key The key.
+     * @return The value, null if the key is not in the map.
+     */
+    @SuppressWarnings("unchecked")
+    V get(final long key) {
+        return (V) this.values[this.find(key)];
+    }
+
+    /**
+     * Associates a value to a key, replacing the previous one.
+     *
+     * @param key The key.
+     * @param value The non null value.
+     */
+    void put(final long key, final V value) {
+        int slot = this.find(key);
+        if (Objects.isNull(this.values[slot])) {
+            if ((this.size + 1) * 2 > this.keys.length) {
+                this.grow();
+                slot = this.find(key);
+            }
+            this.keys[slot] = key;
+            this.size++;
+        }
+        this.values[slot] = Objects.requireNonNull(value);
+    }
+
+    /**
+     * Removes a key, shifting back the following keys of its probe sequence.
+     *
+     * @param key The key.
+     */
+    void remove(final long key) {
+        final int mask = this.keys.length - 1;
+        int hole = this.find(key);
+        if (Objects.isNull(this.values[hole])) {
+            return;
+        }
+        this.values[hole] = null;
+        this.size--;
+        int slot = hole + 1 & mask;
+        while (!Objects.isNull(this.values[slot])) {
+            final int home = slotOf(this.keys[slot], mask);
+            if ((slot - home & mask) >= (slot - hole & mask)) {
+                this.keys[hole] = this.keys[slot];
+                this.values[hole] = this.values[slot];
+                this.values[slot] = null;
+                hole = slot;
+            }
+            slot = slot + 1 & mask;
+        }
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return The size.
+     */
+    int size() {
+        return this.size;
+    }
+}
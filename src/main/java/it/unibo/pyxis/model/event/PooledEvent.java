@@ -0,0 +1,40 @@
+package it.unibo.pyxis.model.event;
+
+/**
+ * An {@link Event} handed out by {@link Events} from an {@link EventPool}.
+ * It is only valid until the {@link EventDispatcher} has delivered it to all
+ * its listeners, then it is recycled: a listener needing its data later must copy it.
+ */
+abstract class PooledEvent implements Event {
+
+    private boolean inUse;
+
+    /**
+     * Marks the {@link PooledEvent} as handed out.
+     */
+    final void acquire() {
+        this.inUse = true;
+    }
+
+    /**
+     * Returns the {@link PooledEvent} to its {@link EventPool}, unless it
+     * has already been recycled.
+     */
+    final void recycle() {
+        if (this.inUse) {
+            this.inUse = false;
+            this.clear();
+            this.release();
+        }
+    }
+
+    /**
+     * Drops the references held by the {@link PooledEvent}.
+     */
+    protected abstract void clear();
+
+    /**
+     * Puts the {@link PooledEvent} back in its {@link EventPool}.
+     */
+    protected abstract void release();
+}
@@ -0,0 +1,20 @@
+package it.unibo.pyxis.model.event;
+
+/**
+ * Extracts from an {@link Event} the key of the only subscribers that must
+ * receive it, such as the id of a {@link it.unibo.pyxis.model.element.ball.Ball}.
+ * The same instance must be used to subscribe and to unsubscribe.
+ *
+ * @param <E> The type of the {@link Event}s.
+ */
+@FunctionalInterface
+public interface RoutingKey<E extends Event> {
+
+    /**
+     * Returns the key of an {@link Event}.
+     *
+     * @param event The {@link Event}.
+     * @return The key.
+     */
+    long keyOf(E event);
+}
@@ -0,0 +1,53 @@
+package it.unibo.pyxis.model.event;
+
+import it.unibo.pyxis.model.event.collision.BallCollisionWithBrickEvent;
+import it.unibo.pyxis.model.event.collision.CollisionEvent;
+import it.unibo.pyxis.model.util.Coord;
+
+/**
+ * The {@link RoutingKey}s of the model {@link Event}s. The keys identify an element
+ * only inside its {@link it.unibo.pyxis.model.arena.Arena}, so they are used on the
+ * {@link EventDispatcher} of the {@link it.unibo.pyxis.model.arena.Arena} alone.
+ */
+public final class RoutingKeys {
+
+    private static final RoutingKey<CollisionEvent> BALL_ID = CollisionEvent::getBallId;
+    private static final RoutingKey<BallCollisionWithBrickEvent> BRICK_COORD =
+            event -> RoutingKeys.brickKey(event.getBrickCoord());
+
+    private RoutingKeys() {
+    }
+
+    /**
+     * Returns the {@link RoutingKey} of the {@link CollisionEvent}s by the id of
+     * the {@link it.unibo.pyxis.model.element.ball.Ball} involved.
+     *
+     * @return The {@link RoutingKey}.
+     */
+    public static RoutingKey<CollisionEvent> ballId() {
+        return BALL_ID;
+    }
+
+    /**
+     * Returns the {@link RoutingKey} of the {@link BallCollisionWithBrickEvent}s by
+     * the {@link Coord} of the {@link it.unibo.pyxis.model.element.brick.Brick} hit.
+     * Different {@link Coord}s may share the same key, so the subscribers still
+     * have to compare the {@link Coord}.
+     *
+     * @return The {@link RoutingKey}.
+     */
+    public static RoutingKey<BallCollisionWithBrickEvent> brickCoord() {
+        return BRICK_COORD;
+    }
+
+    /**
+     * Returns the key of a {@link it.unibo.pyxis.model.element.brick.Brick} in
+     * the {@link #brickCoord()} routing.
+     *
+     * @param coord The {@link Coord} of the {@link it.unibo.pyxis.model.element.brick.Brick}.
+     * @return The key.
+     */
+    public static long brickKey(final Coord coord) {
+        return coord.hashCode();
+    }
+}
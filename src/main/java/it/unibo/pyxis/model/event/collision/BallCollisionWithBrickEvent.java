@@ -1,10 +1,29 @@
 package it.unibo.pyxis.model.event.collision;
 
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.util.Coord;
+
 /**
  * Event fired when a {@link it.unibo.pyxis.model.element.ball.Ball}
  * collides with a {@link it.unibo.pyxis.model.element.brick.Brick}.
  */
 public interface BallCollisionWithBrickEvent extends CollisionEvent {
+    /**
+     * Returns the {@link BallType} of the {@link it.unibo.pyxis.model.element.ball.Ball}
+     * that collided in the event.
+     *
+     * @return The {@link BallType} of the colliding
+     *         {@link it.unibo.pyxis.model.element.ball.Ball}.
+     */
+    BallType getBallType();
+    /**
+     * Returns the {@link Coord} of the {@link it.unibo.pyxis.model.element.brick.Brick}
+     * that collided in the event.
+     *
+     * @return The {@link Coord} of the colliding
+     *         {@link it.unibo.pyxis.model.element.brick.Brick}.
+     */
+    Coord getBrickCoord();
     /**
      * Indicates if the {@link it.unibo.pyxis.model.element.brick.Brick}
      * that collided in the event is indestructible.
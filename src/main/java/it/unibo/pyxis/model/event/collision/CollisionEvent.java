@@ -1,11 +1,12 @@
 package it.unibo.pyxis.model.event.collision;
 
+import it.unibo.pyxis.model.event.Event;
 import it.unibo.pyxis.model.hitbox.CollisionInformation;
 
 /**
  * Generic collision event interface.
  */
-public interface CollisionEvent {
+public interface CollisionEvent extends Event {
     /**
      * Returns the edge of the {@link it.unibo.pyxis.model.element.Element}
      * that has collided with a {@link it.unibo.pyxis.model.element.ball.Ball}.
@@ -6,7 +6,6 @@ import java.util.Optional;
 import it.unibo.pyxis.model.element.Element;
 import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
-import it.unibo.pyxis.model.util.DimensionImpl;
 
 public abstract class AbstractHitbox implements Hitbox {
 
@@ -30,29 +29,33 @@ public abstract class AbstractHitbox implements Hitbox {
         return distanceFromBorder <= collisionDistance;
     }
     /**
-     * Checks for a collision with the different type {@link Hitbox}.
+     * Checks for a collision with the different type {@link Hitbox}, writing
+     * the result into the input {@link Contact}.
      * @param hitbox The different type {@link Hitbox}.
+     * @param contact The {@link Contact} to fill.
      * 
-     * @return An {@link Optional} with the specified {@link CollidingInformation},
-     *                  an EMPTY {@link Optional} if they are the same or not colliding.
+     * @return TRUE if the two {@link Hitbox} are different and colliding, FALSE otherwise.
+     *                  The {@link Contact} is left untouched when FALSE.
      */
-    protected abstract Optional<CollisionInformation> collidingEdgeWithOtherHB(Hitbox hitbox);
+    protected abstract boolean collidingEdgeWithOtherHB(Hitbox hitbox, Contact contact);
     /**
-     * Checks for a collision with the same type {@link Hitbox}.
+     * Checks for a collision with the same type {@link Hitbox}, writing
+     * the result into the input {@link Contact}.
      * @param hitbox The same type {@link Hitbox}.
+     * @param contact The {@link Contact} to fill.
      * 
-     * @return An {@link Optional} with the specified {@link CollidingInformation},
-     *                  an EMPTY {@link Optional} if they are different or not colliding.
+     * @return TRUE if the two {@link Hitbox} are the same and colliding, FALSE otherwise.
+     *                  The {@link Contact} is left untouched when FALSE.
      */
-    protected abstract Optional<CollisionInformation> collidingEdgeWithSameHB(Hitbox hitbox);
+    protected abstract boolean collidingEdgeWithSameHB(Hitbox hitbox, Contact contact);
     /**
      * Return the offset to apply to the {@link Element} after the collision.
      * @param distanceFromCenter The distance from the center.
      * 
      * @return The offset to apply to the {@link Element} after the collision.
      */
-    protected final Double heightOffsetCalculation(final Double distanceFromCenter) {
-        return this.getDimension().getHeight() / 2 - distanceFromCenter;
+    protected final double heightOffsetCalculation(final double distanceFromCenter) {
+        return this.element.getHeight() / 2 - distanceFromCenter;
     }
     /**
      * Checks for a collision with the different type {@link Hitbox}.
@@ -61,7 +64,7 @@ public abstract class AbstractHitbox implements Hitbox {
      * @return TRUE if the two {@link Hitbox} are different and colliding, otherwise FALSE.
      */
     protected final boolean isCollidingWithOtherHB(final Hitbox hitbox) {
-        return collidingEdgeWithOtherHB(hitbox).isPresent();
+        return this.collidingEdgeWithOtherHB(hitbox, new ContactImpl());
     }
     /**
      * Checks for a collision with the same type {@link Hitbox}.
@@ -70,7 +73,7 @@ public abstract class AbstractHitbox implements Hitbox {
      * @return TRUE if the two {@link Hitbox} are the same and colliding, otherwise FALSE.
      */
     protected final boolean isCollidingWithSameHB(final Hitbox hitbox) {
-        return collidingEdgeWithSameHB(hitbox).isPresent();
+        return this.collidingEdgeWithSameHB(hitbox, new ContactImpl());
     }
     /**
      * Returns the offset to apply to the {@link Element} after the collision.
@@ -78,39 +81,62 @@ public abstract class AbstractHitbox implements Hitbox {
      * 
      * @return The offset to apply to the {@link Element} after the collision.
      */
-    protected final Double widthOffsetCalculation(final Double distanceFromCenter) {
-        return this.getDimension().getWidth() / 2 - distanceFromCenter;
+    protected final double widthOffsetCalculation(final double distanceFromCenter) {
+        return this.element.getWidth() / 2 - distanceFromCenter;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public final Optional<CollisionInformation> collidingInformationWithBorder(final Dimension borderDimension) {
+        final Contact contact = new ContactImpl();
+        return this.collidingInformationWithBorder(borderDimension, contact)
+                ? Optional.of(contact.toCollisionInformation())
+                : Optional.empty();
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean collidingInformationWithBorder(final Dimension borderDimension, final Contact contact) {
 
-        final double cHBCenterX = getPosition().getX();
-        final double cHBCenterY = getPosition().getY();
-        final double cHBHalvedHeight = getDimension().getHeight() / 2;
-        final double cHBHalvedWidth = getDimension().getWidth() / 2;
+        final double cHBCenterX = this.element.getX();
+        final double cHBCenterY = this.element.getY();
+        final double cHBHalvedHeight = this.element.getHeight() / 2;
+        final double cHBHalvedWidth = this.element.getWidth() / 2;
         final double bHBWidth = borderDimension.getWidth();
 
         HitEdge hitEdge = null;
-        final Dimension borderOffset = new DimensionImpl();
+        double offsetWidth = 0;
+        double offsetHeight = 0;
 
         if (checkBorderCollision(cHBCenterX, cHBHalvedWidth)) {
-            borderOffset.setWidth(widthOffsetCalculation(cHBCenterX));
+            offsetWidth = cHBHalvedWidth - cHBCenterX;
             hitEdge = HitEdge.VERTICAL;
         } else if (checkBorderCollision(bHBWidth - cHBCenterX, cHBHalvedWidth)) {
-            borderOffset.setWidth(widthOffsetCalculation(bHBWidth - cHBCenterX));
+            offsetWidth = cHBHalvedWidth - (bHBWidth - cHBCenterX);
             hitEdge = HitEdge.VERTICAL;
         }
         if (checkBorderCollision(cHBCenterY, cHBHalvedHeight)) {
-            borderOffset.setHeight(heightOffsetCalculation(cHBCenterY));
+            offsetHeight = cHBHalvedHeight - cHBCenterY;
             hitEdge = Objects.isNull(hitEdge)
                     ? HitEdge.HORIZONTAL
                     : HitEdge.CORNER;
         }
-        return !Objects.isNull(hitEdge)
-                ? Optional.of(new CollisionInformationImpl(hitEdge, borderOffset))
+        if (Objects.isNull(hitEdge)) {
+            return false;
+        }
+        contact.set(hitEdge, offsetWidth, offsetHeight, 0);
+        return true;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final Optional<CollisionInformation> collidingInformationWithHB(final Hitbox hitbox) {
+        final Contact contact = new ContactImpl();
+        return this.collidingInformationWithHB(hitbox, contact)
+                ? Optional.of(contact.toCollisionInformation())
                 : Optional.empty();
     }
     /**
@@ -139,6 +165,6 @@ public abstract class AbstractHitbox implements Hitbox {
      */
     @Override
     public final boolean isCollidingWithLowerBorder(final Dimension borderDimension) {
-        return checkBorderCollision(borderDimension.getHeight() - this.getPosition().getY(), this.getDimension().getHeight() / 2);
+        return checkBorderCollision(borderDimension.getHeight() - this.element.getY(), this.element.getHeight() / 2);
     }
 }
@@ -6,7 +6,6 @@ import java.util.Optional;
 import it.unibo.pyxis.model.element.Element;
 import it.unibo.pyxis.model.util.Coord;
 import it.unibo.pyxis.model.util.Dimension;
-import it.unibo.pyxis.model.util.DimensionImpl;
 import it.unibo.pyxis.model.util.Vector;
 
 public class BallHitbox extends AbstractHitbox {
@@ -33,6 +32,7 @@ public class BallHitbox extends AbstractHitbox {
     /**
      * Returns the component of the offset to apply
      * to the {@link it.unibo.pyxis.model.element.Element} after the collision.
+     * @param radius The radius of the {@link BallHitbox}.
      * @param distanceFromClosestPoint The distance from
      *                  the closest point of the {@link RectHitbox}
      *                  to the center of the {@link BallHitbox}.
@@ -42,93 +42,108 @@ public class BallHitbox extends AbstractHitbox {
      * 
      * @return The offset to apply to the {@link it.unibo.pyxis.model.element.Element} after the collision.
      */
-    private double cornerOffsetCalculation(final double distanceFromClosestPoint, final double distanceComponent) {
-        return (this.getRadius() - distanceFromClosestPoint) * distanceComponent / this.getRadius();
+    private double cornerOffsetCalculation(final double radius, final double distanceFromClosestPoint,
+                                           final double distanceComponent) {
+        return (radius - distanceFromClosestPoint) * distanceComponent / radius;
     }
     /**
      * Returns the radius of the {@link BallHitbox}.
      *
      * @return The radius of the {@link BallHitbox}.
      */
-    private Double getRadius() {
-        return getDimension().getHeight() / 2;
+    private double getRadius() {
+        return this.getElement().getHeight() / 2;
     }
     /**
      * {@inheritDoc}
      */
     @Override
-    protected Optional<CollisionInformation> collidingEdgeWithOtherHB(final Hitbox hitbox) {
+    protected boolean collidingEdgeWithOtherHB(final Hitbox hitbox, final Contact contact) {
 
-        double closestPointX;
-        double closestPointY;
+        final double closestPointX;
+        final double closestPointY;
 
         HitEdge hitEdge = null;
-        final Dimension borderOffset = new DimensionImpl();
+        double offsetWidth = 0;
+        double offsetHeight = 0;
 
-        final double bHBCenterX = this.getPosition().getX();
-        final double bHBCenterY = this.getPosition().getY();
-        final double rHBCenterX = hitbox.getPosition().getX();
-        final double rHBCenterY = hitbox.getPosition().getY();
-        final double rHBWidth = hitbox.getDimension().getWidth();
-        final double rHBHeight = hitbox.getDimension().getHeight();
+        final Element element = this.getElement();
+        final Element other = hitbox.getElement();
+        final double radius = this.getRadius();
+        final double bHBCenterX = element.getX();
+        final double bHBCenterY = element.getY();
+        final double rHBCenterX = other.getX();
+        final double rHBCenterY = other.getY();
+        final double rHBWidth = other.getWidth();
+        final double rHBHeight = other.getHeight();
 
         closestPointX = closestPointComponentCalculation(bHBCenterX, rHBCenterX, rHBWidth);
         closestPointY = closestPointComponentCalculation(bHBCenterY, rHBCenterY, rHBHeight);
 
+        final double distanceX = bHBCenterX - closestPointX;
+        final double distanceY = bHBCenterY - closestPointY;
+        final double squaredDistance = distanceX * distanceX + distanceY * distanceY;
+        if (squaredDistance > radius * radius) {
+            return false;
+        }
         if (closestPointX != bHBCenterX && closestPointY != bHBCenterY) {
-            borderOffset.setWidth(cornerOffsetCalculation(this.getPosition().distance(closestPointX, closestPointY),
-                    Math.abs(bHBCenterX - closestPointX)));
-            borderOffset.setHeight(cornerOffsetCalculation(this.getPosition().distance(closestPointX, closestPointY),
-                    Math.abs(bHBCenterY - closestPointY)));
-            if (bHBCenterX <= rHBCenterX && this.getPace().getX() > 0
-                    || bHBCenterX > rHBCenterX && this.getPace().getX() < 0) {
+            final double paceX = element.getPaceX();
+            final double paceY = element.getPaceY();
+            final double distance = Math.sqrt(squaredDistance);
+            offsetWidth = cornerOffsetCalculation(radius, distance, Math.abs(distanceX));
+            offsetHeight = cornerOffsetCalculation(radius, distance, Math.abs(distanceY));
+            if (bHBCenterX <= rHBCenterX && paceX > 0
+                    || bHBCenterX > rHBCenterX && paceX < 0) {
                 hitEdge = HitEdge.VERTICAL;
             }
-            if (bHBCenterY <= rHBCenterY && this.getPace().getY() > 0
-                    || bHBCenterY > rHBCenterY && this.getPace().getY() < 0) {
+            if (bHBCenterY <= rHBCenterY && paceY > 0
+                    || bHBCenterY > rHBCenterY && paceY < 0) {
                 hitEdge = Objects.isNull(hitEdge)
                         ? HitEdge.HORIZONTAL
                         : HitEdge.CORNER;
             }
         } else if (closestPointX != bHBCenterX && closestPointY == bHBCenterY) {
-            borderOffset.setWidth(widthOffsetCalculation(Math.abs(bHBCenterX - closestPointX)));
+            offsetWidth = widthOffsetCalculation(Math.abs(distanceX));
             hitEdge = HitEdge.VERTICAL;
         } else if (closestPointX == bHBCenterX && closestPointY != bHBCenterY) {
-            borderOffset.setHeight(heightOffsetCalculation(Math.abs(bHBCenterY - closestPointY)));
+            offsetHeight = heightOffsetCalculation(Math.abs(distanceY));
             hitEdge = bHBCenterY > rHBCenterY
                     ? HitEdge.HORIZONTAL
                     : HitEdge.TOP;
         } else {
             if (Math.min(bHBCenterX, rHBWidth - bHBCenterX) <= Math.min(bHBCenterY, rHBHeight - bHBCenterY)) {
-                borderOffset.setWidth(widthOffsetCalculation(Math.min(bHBCenterX, rHBWidth - bHBCenterX)));
+                offsetWidth = widthOffsetCalculation(Math.min(bHBCenterX, rHBWidth - bHBCenterX));
                 hitEdge = HitEdge.VERTICAL;
             } else {
-                borderOffset.setHeight(heightOffsetCalculation(Math.min(bHBCenterY, rHBHeight - bHBCenterY)));
+                offsetHeight = heightOffsetCalculation(Math.min(bHBCenterY, rHBHeight - bHBCenterY));
                 hitEdge = HitEdge.HORIZONTAL;
             }
         }
-
-        return this.isCollidingWithPoint(closestPointX, closestPointY)
-                ? Optional.of(new CollisionInformationImpl(hitEdge, borderOffset))
-                : Optional.empty();
+        contact.set(hitEdge, offsetWidth, offsetHeight, 0);
+        return true;
     }
     /**
      * {@inheritDoc}
      */
     @Override
-    protected Optional<CollisionInformation> collidingEdgeWithSameHB(final Hitbox hitbox) {
-        return this.getPosition().distance(hitbox.getPosition()) <= this.getRadius() + ((BallHitbox) hitbox).getRadius()
-                ? Optional.of(new CollisionInformationImpl(HitEdge.CIRCLE, new DimensionImpl()))
-                : Optional.empty();
+    protected boolean collidingEdgeWithSameHB(final Hitbox hitbox, final Contact contact) {
+        final double distanceX = this.getElement().getX() - hitbox.getElement().getX();
+        final double distanceY = this.getElement().getY() - hitbox.getElement().getY();
+        final double radiusSum = this.getRadius() + ((BallHitbox) hitbox).getRadius();
+        if (distanceX * distanceX + distanceY * distanceY > radiusSum * radiusSum) {
+            return false;
+        }
+        contact.set(HitEdge.CIRCLE, 0, 0, 0);
+        return true;
     }
     /**
      * {@inheritDoc}
      */
     @Override
-    public Optional<CollisionInformation> collidingInformationWithHB(final Hitbox hitbox) {
+    public boolean collidingInformationWithHB(final Hitbox hitbox, final Contact contact) {
         return hitbox instanceof BallHitbox
-                ? this.collidingEdgeWithSameHB(hitbox)
-                : this.collidingEdgeWithOtherHB(hitbox);
+                ? this.collidingEdgeWithSameHB(hitbox, contact)
+                : this.collidingEdgeWithOtherHB(hitbox, contact);
     }
     /**
      * {@inheritDoc}
@@ -144,22 +159,214 @@ public class BallHitbox extends AbstractHitbox {
      */
     @Override
     public boolean isCollidingWithPoint(final Coord position) {
-        return this.getPosition().distance(position) <= this.getRadius();
+        return this.isCollidingWithPoint(position.getX(), position.getY());
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean isCollidingWithPoint(final double px, final double py) {
-        return this.getPosition().distance(px, py) <= this.getRadius();
+        final double distanceX = px - this.getElement().getX();
+        final double distanceY = py - this.getElement().getY();
+        final double radius = this.getRadius();
+        return distanceX * distanceX + distanceY * distanceY <= radius * radius;
+    }
+    /**
+     * Returns the entry time of a segment in a slab centered in the origin.
+     *
+     * @param position The starting value of the segment.
+     * @param displacement The length of the segment.
+     * @param halfExtent The half extent of the slab.
+     * @return The entry time, positive infinity if the segment never enters the slab.
+     */
+    private double slabEntryTime(final double position, final double displacement, final double halfExtent) {
+        if (displacement == 0) {
+            return Math.abs(position) > halfExtent
+                    ? Double.POSITIVE_INFINITY
+                    : Double.NEGATIVE_INFINITY;
+        }
+        return Math.min((-halfExtent - position) / displacement, (halfExtent - position) / displacement);
+    }
+    /**
+     * Returns the exit time of a segment from a slab centered in the origin.
+     *
+     * @param position The starting value of the segment.
+     * @param displacement The length of the segment.
+     * @param halfExtent The half extent of the slab.
+     * @return The exit time, negative infinity if the segment never enters the slab.
+     */
+    private double slabExitTime(final double position, final double displacement, final double halfExtent) {
+        if (displacement == 0) {
+            return Math.abs(position) > halfExtent
+                    ? Double.NEGATIVE_INFINITY
+                    : Double.POSITIVE_INFINITY;
+        }
+        return Math.max((-halfExtent - position) / displacement, (halfExtent - position) / displacement);
+    }
+    /**
+     * Returns the first time in which a moving circle with the input radius touches a fixed point.
+     *
+     * @param radius The radius of the circle.
+     * @param relX The x value of the center relative to the point.
+     * @param relY The y value of the center relative to the point.
+     * @param dx The x value of the displacement.
+     * @param dy The y value of the displacement.
+     * @return The time of impact, or a negative value if the point is never touched.
+     */
+    private double pointImpactTime(final double radius, final double relX, final double relY,
+                                   final double dx, final double dy) {
+        final double a = dx * dx + dy * dy;
+        final double b = relX * dx + relY * dy;
+        final double c = relX * relX + relY * relY - radius * radius;
+        final double discriminant = b * b - a * c;
+        if (a == 0 || discriminant < 0) {
+            return -1;
+        }
+        return (-b - Math.sqrt(discriminant)) / a;
+    }
+    /**
+     * Returns the first impact of the {@link BallHitbox} moving of a displacement
+     * with a {@link RectHitbox}, computed sweeping the circle of the {@link BallHitbox}
+     * along the displacement. If the {@link BallHitbox} is already overlapping the
+     * {@link RectHitbox} while moving towards it, the impact happens at time 0 with
+     * the information of the overlap.
+     *
+     * @param hitbox The {@link RectHitbox} to check.
+     * @param displacement The displacement of the {@link BallHitbox}.
+     * @return An {@link Optional} containing the {@link ImpactInformation} if the
+     *         {@link BallHitbox} hits the {@link RectHitbox} during the displacement.
+     */
+    public Optional<ImpactInformation> impactWithHB(final Hitbox hitbox, final Vector displacement) {
+        final Contact contact = new ContactImpl();
+        return this.impactWithHB(hitbox, displacement.getX(), displacement.getY(), contact)
+                ? Optional.of(contact.toImpactInformation())
+                : Optional.empty();
     }
     /**
-     * Returns the pace of the {@link it.unibo.pyxis.model.element.Element}
-     * of the {@link BallHitbox}.
-     * @return The pace of the {@link it.unibo.pyxis.model.element.Element}
-     *                  of the {@link BallHitbox}.
+     * Allocation-free version of {@link #impactWithHB(Hitbox, Vector)}, which writes
+     * the impact into the input {@link Contact}.
+     *
+     * @param hitbox The {@link RectHitbox} to check.
+     * @param dx The x value of the displacement of the {@link BallHitbox}.
+     * @param dy The y value of the displacement of the {@link BallHitbox}.
+     * @param contact The {@link Contact} to fill.
+     * @return True if the {@link BallHitbox} hits the {@link RectHitbox} during the
+     *         displacement, false otherwise. The {@link Contact} is left untouched when false.
      */
-    private Vector getPace() {
-        return this.getElement().getPace();
+    public boolean impactWithHB(final Hitbox hitbox, final double dx, final double dy, final Contact contact) {
+        final Element rect = hitbox.getElement();
+        final double radius = this.getRadius();
+        final double halfWidth = rect.getWidth() / 2;
+        final double halfHeight = rect.getHeight() / 2;
+        final double relX = this.getElement().getX() - rect.getX();
+        final double relY = this.getElement().getY() - rect.getY();
+        final double entryX = this.slabEntryTime(relX, dx, halfWidth + radius);
+        final double entryY = this.slabEntryTime(relY, dy, halfHeight + radius);
+        final double entryTime = Math.max(entryX, entryY);
+        final double exitTime = Math.min(this.slabExitTime(relX, dx, halfWidth + radius),
+                this.slabExitTime(relY, dy, halfHeight + radius));
+        if (entryTime > exitTime || exitTime <= 0 || entryTime > 1) {
+            return false;
+        }
+        if (entryTime < 0) {
+            final boolean approaching = -relX * dx - relY * dy > 0;
+            return approaching && this.collidingEdgeWithOtherHB(hitbox, contact);
+        }
+        final double contactX = relX + dx * entryTime;
+        final double contactY = relY + dy * entryTime;
+        if (Math.abs(contactX) > halfWidth && Math.abs(contactY) > halfHeight) {
+            final double cornerX = Math.signum(contactX) * halfWidth;
+            final double cornerY = Math.signum(contactY) * halfHeight;
+            final double cornerTime = this.pointImpactTime(radius, relX - cornerX, relY - cornerY, dx, dy);
+            if (cornerTime < 0 || cornerTime > 1) {
+                return false;
+            }
+            final double hitX = relX + dx * cornerTime;
+            final double hitY = relY + dy * cornerTime;
+            final boolean vertical = hitX <= 0 && dx > 0 || hitX > 0 && dx < 0;
+            final boolean horizontal = hitY <= 0 && dy > 0 || hitY > 0 && dy < 0;
+            final HitEdge hitEdge = vertical && !horizontal
+                    ? HitEdge.VERTICAL
+                    : horizontal && !vertical ? HitEdge.HORIZONTAL : HitEdge.CORNER;
+            contact.set(hitEdge, 0, 0, cornerTime);
+            return true;
+        }
+        final HitEdge hitEdge;
+        if (entryX > entryY) {
+            hitEdge = HitEdge.VERTICAL;
+        } else {
+            hitEdge = relY > 0 ? HitEdge.HORIZONTAL : HitEdge.TOP;
+        }
+        contact.set(hitEdge, 0, 0, entryTime);
+        return true;
+    }
+    /**
+     * Returns the first impact of the {@link BallHitbox} moving of a displacement
+     * with the left, right or upper border. If the {@link BallHitbox} is already
+     * beyond a border while moving towards it, the impact happens at time 0 and the
+     * offset contains the penetration.
+     *
+     * @param borderDimension The {@link Dimension} of the border.
+     * @param displacement The displacement of the {@link BallHitbox}.
+     * @return An {@link Optional} containing the {@link ImpactInformation} if the
+     *         {@link BallHitbox} hits a border during the displacement.
+     */
+    public Optional<ImpactInformation> impactWithBorder(final Dimension borderDimension, final Vector displacement) {
+        final Contact contact = new ContactImpl();
+        return this.impactWithBorder(borderDimension, displacement.getX(), displacement.getY(), contact)
+                ? Optional.of(contact.toImpactInformation())
+                : Optional.empty();
+    }
+    /**
+     * Allocation-free version of {@link #impactWithBorder(Dimension, Vector)}, which
+     * writes the impact into the input {@link Contact}.
+     *
+     * @param borderDimension The {@link Dimension} of the border.
+     * @param dx The x value of the displacement of the {@link BallHitbox}.
+     * @param dy The y value of the displacement of the {@link BallHitbox}.
+     * @param contact The {@link Contact} to fill.
+     * @return True if the {@link BallHitbox} hits a border during the displacement,
+     *         false otherwise. The {@link Contact} is left untouched when false.
+     */
+    public boolean impactWithBorder(final Dimension borderDimension, final double dx, final double dy,
+                                    final Contact contact) {
+        final double radius = this.getRadius();
+        final double centerX = this.getElement().getX();
+        final double centerY = this.getElement().getY();
+        final double borderWidth = borderDimension.getWidth();
+        double timeX = Double.POSITIVE_INFINITY;
+        double penetrationX = 0;
+        if (dx < 0) {
+            timeX = (centerX - radius) / -dx;
+            penetrationX = radius - centerX;
+        } else if (dx > 0) {
+            timeX = (borderWidth - radius - centerX) / dx;
+            penetrationX = centerX + radius - borderWidth;
+        }
+        double timeY = Double.POSITIVE_INFINITY;
+        double penetrationY = 0;
+        if (dy < 0) {
+            timeY = (centerY - radius) / -dy;
+            penetrationY = radius - centerY;
+        }
+        final double impactTime = Math.max(Math.min(timeX, timeY), 0);
+        if (impactTime > 1) {
+            return false;
+        }
+        double offsetWidth = 0;
+        double offsetHeight = 0;
+        HitEdge hitEdge = null;
+        if (Math.max(timeX, 0) == impactTime) {
+            offsetWidth = Math.max(penetrationX, 0);
+            hitEdge = HitEdge.VERTICAL;
+        }
+        if (Math.max(timeY, 0) == impactTime) {
+            offsetHeight = Math.max(penetrationY, 0);
+            hitEdge = Objects.isNull(hitEdge)
+                    ? HitEdge.HORIZONTAL
+                    : HitEdge.CORNER;
+        }
+        contact.set(hitEdge, offsetWidth, offsetHeight, impactTime);
+        return true;
     }
 }
@@ -0,0 +1,60 @@
+package it.unibo.pyxis.model.hitbox;
+
+/**
+ * Mutable record filled by the allocation-free collision queries of a {@link Hitbox}.
+ * The same instance can be reused by the caller for every query.
+ */
+public interface Contact {
+    /**
+     * Returns the {@link HitEdge} of the last contact found.
+     *
+     * @return The {@link HitEdge}.
+     */
+    HitEdge getHitEdge();
+    /**
+     * Returns the time of impact of the last contact found, as a fraction
+     * of the swept movement. It's 0 for the contacts found without sweeping.
+     *
+     * @return The time of impact.
+     */
+    double getImpactTime();
+    /**
+     * Returns the height of the offset of the last contact found.
+     *
+     * @return The height of the offset.
+     */
+    double getOffsetHeight();
+    /**
+     * Returns the width of the offset of the last contact found.
+     *
+     * @return The width of the offset.
+     */
+    double getOffsetWidth();
+    /**
+     * Overwrites the data of the {@link Contact}.
+     *
+     * @param hitEdge The {@link HitEdge}.
+     * @param offsetWidth The width of the offset.
+     * @param offsetHeight The height of the offset.
+     * @param impactTime The time of impact.
+     */
+    void set(HitEdge hitEdge, double offsetWidth, double offsetHeight, double impactTime);
+    /**
+     * Copies the data of another {@link Contact}.
+     *
+     * @param contact The {@link Contact} to copy.
+     */
+    void set(Contact contact);
+    /**
+     * Returns a new {@link CollisionInformation} with the data of the {@link Contact}.
+     *
+     * @return The {@link CollisionInformation}.
+     */
+    CollisionInformation toCollisionInformation();
+    /**
+     * Returns a new {@link ImpactInformation} with the data of the {@link Contact}.
+     *
+     * @return The {@link ImpactInformation}.
+     */
+    ImpactInformation toImpactInformation();
+}
@@ -0,0 +1,73 @@
+package it.unibo.pyxis.model.hitbox;
+
+import it.unibo.pyxis.model.util.DimensionImpl;
+
+public class ContactImpl implements Contact {
+
+    private HitEdge hitEdge;
+    private double offsetWidth;
+    private double offsetHeight;
+    private double impactTime;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final HitEdge getHitEdge() {
+        return this.hitEdge;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getImpactTime() {
+        return this.impactTime;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getOffsetHeight() {
+        return this.offsetHeight;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getOffsetWidth() {
+        return this.offsetWidth;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void set(final HitEdge inputHitEdge, final double inputOffsetWidth,
+                          final double inputOffsetHeight, final double inputImpactTime) {
+        this.hitEdge = inputHitEdge;
+        this.offsetWidth = inputOffsetWidth;
+        this.offsetHeight = inputOffsetHeight;
+        this.impactTime = inputImpactTime;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void set(final Contact contact) {
+        this.set(contact.getHitEdge(), contact.getOffsetWidth(), contact.getOffsetHeight(), contact.getImpactTime());
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final CollisionInformation toCollisionInformation() {
+        return new CollisionInformationImpl(this.hitEdge, new DimensionImpl(this.offsetWidth, this.offsetHeight));
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final ImpactInformation toImpactInformation() {
+        return new ImpactInformationImpl(this.hitEdge, new DimensionImpl(this.offsetWidth, this.offsetHeight),
+                this.impactTime);
+    }
+}
@@ -16,6 +16,15 @@ public interface Hitbox {
      * an empty {@link Optional} if they are not colliding.
      */
     Optional<CollisionInformation> collidingInformationWithBorder(Dimension borderDimension);
+    /**
+     * Checks for a collision with the right, left and upper edge of a border with the parameter {@link Dimension},
+     * writing the result into the input {@link Contact} instead of allocating a new {@link CollisionInformation}.
+     *
+     * @param borderDimension
+     * @param contact The {@link Contact} to fill.
+     * @return True if there is a collision, false otherwise. The {@link Contact} is left untouched when false.
+     */
+    boolean collidingInformationWithBorder(Dimension borderDimension, Contact contact);
     /**
      * Checks for a collision with a {@link Hitbox}.
      *
@@ -24,6 +33,16 @@ public interface Hitbox {
      * an empty {@link Optional} if they are not colliding.
      */
     Optional<CollisionInformation> collidingInformationWithHB(Hitbox hitbox);
+    /**
+     * Checks for a collision with a {@link Hitbox}, writing the result into the input
+     * {@link Contact} instead of allocating a new {@link CollisionInformation}.
+     *
+     * @param hitbox
+     * @param contact The {@link Contact} to fill.
+     * @return True if the two {@link Hitbox} are colliding, false otherwise.
+     * The {@link Contact} is left untouched when false.
+     */
+    boolean collidingInformationWithHB(Hitbox hitbox, Contact contact);
     /**
      * Returns the dimension of the {@link Hitbox}.
      *
@@ -0,0 +1,11 @@
+package it.unibo.pyxis.model.hitbox;
+
+public interface ImpactInformation extends CollisionInformation {
+    /**
+     * Returns the time of impact as a fraction of the swept movement,
+     * in the range [0, 1].
+     *
+     * @return The time of impact.
+     */
+    double getImpactTime();
+}
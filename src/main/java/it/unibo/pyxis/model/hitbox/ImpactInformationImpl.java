@@ -0,0 +1,20 @@
+package it.unibo.pyxis.model.hitbox;
+
+import it.unibo.pyxis.model.util.Dimension;
+
+public class ImpactInformationImpl extends CollisionInformationImpl implements ImpactInformation {
+
+    private final double impactTime;
+
+    public ImpactInformationImpl(final HitEdge hitEdge, final Dimension borderOffset, final double impactTime) {
+        super(hitEdge, borderOffset);
+        this.impactTime = impactTime;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final double getImpactTime() {
+        return this.impactTime;
+    }
+}
@@ -1,11 +1,7 @@
 package it.unibo.pyxis.model.hitbox;
 
-import java.util.Optional;
-
 import it.unibo.pyxis.model.element.Element;
 import it.unibo.pyxis.model.util.Coord;
-import it.unibo.pyxis.model.util.Dimension;
-import it.unibo.pyxis.model.util.DimensionImpl;
 
 public class RectHitbox extends AbstractHitbox {
 
@@ -33,65 +29,66 @@ public class RectHitbox extends AbstractHitbox {
      * {@inheritDoc}
      */
     @Override
-    protected Optional<CollisionInformation> collidingEdgeWithOtherHB(final Hitbox hitbox) {
-        return !(hitbox instanceof RectHitbox)
-                ? hitbox.collidingInformationWithHB(this)
-                : Optional.empty();
+    protected boolean collidingEdgeWithOtherHB(final Hitbox hitbox, final Contact contact) {
+        return !(hitbox instanceof RectHitbox) && hitbox.collidingInformationWithHB(this, contact);
     }
     /**
      * {@inheritDoc}
      */
     @Override
-    protected Optional<CollisionInformation> collidingEdgeWithSameHB(final Hitbox hitbox) {
+    protected boolean collidingEdgeWithSameHB(final Hitbox hitbox, final Contact contact) {
 
-        double closestPointX;
-        double closestPointY;
+        final double closestPointX;
+        final double closestPointY;
 
-        HitEdge hitEdge;
-        final Dimension edgeOffset = new DimensionImpl();
+        final HitEdge hitEdge;
+        double offsetWidth = 0;
+        double offsetHeight = 0;
 
-        final double bHBCenterX = getPosition().getX();
-        final double bHBCenterY = getPosition().getY();
-        final double rHBCenterX = hitbox.getPosition().getX();
-        final double rHBCenterY = hitbox.getPosition().getY();
-        final double rHBWidth = hitbox.getDimension().getWidth();
-        final double rHBHeight = hitbox.getDimension().getHeight();
+        final Element other = hitbox.getElement();
+        final double bHBCenterX = this.getElement().getX();
+        final double bHBCenterY = this.getElement().getY();
+        final double rHBCenterX = other.getX();
+        final double rHBCenterY = other.getY();
+        final double rHBWidth = other.getWidth();
+        final double rHBHeight = other.getHeight();
 
         closestPointX = closestPointComponentCalculation(bHBCenterX, rHBCenterX, rHBWidth);
         closestPointY = closestPointComponentCalculation(bHBCenterY, rHBCenterY, rHBHeight);
 
+        if (!this.isCollidingWithPoint(closestPointX, closestPointY)) {
+            return false;
+        }
         if (closestPointX != bHBCenterX && closestPointY != bHBCenterY) {
-            edgeOffset.setWidth(widthOffsetCalculation(Math.abs(bHBCenterX - closestPointX)));
-            edgeOffset.setHeight(heightOffsetCalculation(Math.abs(bHBCenterY - closestPointY)));
+            offsetWidth = widthOffsetCalculation(Math.abs(bHBCenterX - closestPointX));
+            offsetHeight = heightOffsetCalculation(Math.abs(bHBCenterY - closestPointY));
             hitEdge = HitEdge.CORNER;
         } else if (closestPointX != bHBCenterX && closestPointY == bHBCenterY) {
-            edgeOffset.setWidth(widthOffsetCalculation(Math.abs(bHBCenterX - closestPointX)));
+            offsetWidth = widthOffsetCalculation(Math.abs(bHBCenterX - closestPointX));
             hitEdge = HitEdge.VERTICAL;
         } else if (closestPointX == bHBCenterX && closestPointY != bHBCenterY) {
-            edgeOffset.setHeight(heightOffsetCalculation(Math.abs(bHBCenterY - closestPointY)));
+            offsetHeight = heightOffsetCalculation(Math.abs(bHBCenterY - closestPointY));
             hitEdge = HitEdge.HORIZONTAL;
         } else {
             if (Math.min(bHBCenterX, rHBWidth - bHBCenterX) <= Math.min(bHBCenterY, rHBHeight - bHBCenterY)) {
-                edgeOffset.setWidth(widthOffsetCalculation(Math.min(bHBCenterX, rHBWidth - bHBCenterX)));
+                offsetWidth = widthOffsetCalculation(Math.min(bHBCenterX, rHBWidth - bHBCenterX));
                 hitEdge = HitEdge.VERTICAL;
             } else {
-                edgeOffset.setHeight(heightOffsetCalculation(Math.min(bHBCenterY, rHBHeight - bHBCenterY)));
+                offsetHeight = heightOffsetCalculation(Math.min(bHBCenterY, rHBHeight - bHBCenterY));
                 hitEdge = HitEdge.HORIZONTAL;
             }
         }
-
-        return this.isCollidingWithPoint(closestPointX, closestPointY)
-                ? Optional.of(new CollisionInformationImpl(hitEdge, edgeOffset))
-                : Optional.empty();
+        contact.set(hitEdge, offsetWidth, offsetHeight, 0);
+        return true;
     }
     /**
      * {@inheritDoc}
      */
     @Override
-    public Optional<CollisionInformation> collidingInformationWithHB(final Hitbox hitbox) {
+    public boolean collidingInformationWithHB(final Hitbox hitbox, final Contact contact) {
         return hitbox instanceof RectHitbox
-                ? this.collidingEdgeWithSameHB(hitbox)
-                : this.collidingEdgeWithOtherHB(hitbox);
+                ? this.collidingEdgeWithSameHB(hitbox, contact)
+                : this.collidingEdgeWithOtherHB(hitbox, contact);
     }
     /**
      * {@inheritDoc}
@@ -114,7 +111,8 @@ public class RectHitbox extends AbstractHitbox {
      */
     @Override
     public boolean isCollidingWithPoint(final double px, final double py) {
-        return Math.abs(px - this.getPosition().getX()) <= this.getDimension().getWidth() / 2
-                && Math.abs(py - this.getPosition().getY()) <= this.getDimension().getHeight() / 2;
+        final Element element = this.getElement();
+        return Math.abs(px - element.getX()) <= element.getWidth() / 2
+                && Math.abs(py - element.getY()) <= element.getHeight() / 2;
     }
 }
@@ -7,7 +7,7 @@ import it.unibo.pyxis.model.level.status.LevelStatus;
 public interface Level extends Entity {
     /**
      * Cleans up the current {@link Level} and the assigned {@link Arena}
-     * unregistering them from the {@link org.greenrobot.eventbus.EventBus}.
+     * unregistering them from the {@link it.unibo.pyxis.model.event.EventDispatcher}.
      */
     void cleanUp();
     /**
@@ -5,19 +5,21 @@ import it.unibo.pyxis.model.event.notify.BrickDestructionEvent;
 import it.unibo.pyxis.model.event.notify.DecreaseLifeEvent;
 import it.unibo.pyxis.model.level.Level;
 import it.unibo.pyxis.model.level.status.LevelStatus;
-import org.greenrobot.eventbus.Subscribe;
+
+import java.util.List;
 
 public class LevelEventComponent extends AbstractEventComponent<Level> {
 
     public LevelEventComponent(final Level entity) {
-        super(entity);
+        super(entity, entity.getArena().getEventDispatcher());
+        this.subscribeDeferred(DecreaseLifeEvent.class, this::handleDecreaseLife);
+        this.subscribeBatch(BrickDestructionEvent.class, this::handleBrickDestructions);
     }
 
     /**
      * Handles a {@link DecreaseLifeEvent}.
      * @param event The instance of {@link DecreaseLifeEvent}.
      */
-    @Subscribe
     public void handleDecreaseLife(final DecreaseLifeEvent event) {
         this.getEntity().decreaseLife();
         if (this.getEntity().getLives() <= 0) {
@@ -25,11 +27,14 @@ public class LevelEventComponent extends AbstractEventComponent<Level> {
         }
     }
     /**
-     * Handles a {@link BrickDestructionEvent}.
-     * @param event The instance of {@link BrickDestructionEvent}.
+     * Handles the {@link BrickDestructionEvent}s of a flush, increasing the score once.
+     * @param events The {@link BrickDestructionEvent}s.
      */
-    @Subscribe
-    public void handleBrickDestruction(final BrickDestructionEvent event) {
-        this.getEntity().increaseScore(event.getPoints());
+    public void handleBrickDestructions(final List<BrickDestructionEvent> events) {
+        int points = 0;
+        for (final BrickDestructionEvent event : events) {
+            points += event.getPoints();
+        }
+        this.getEntity().increaseScore(points);
     }
 }
@@ -5,6 +5,8 @@ import it.unibo.pyxis.model.level.loader.LevelLoader;
 import it.unibo.pyxis.model.level.loader.LevelLoaderImpl;
 
 import java.util.Iterator;
+import java.util.Random;
+import java.util.function.LongSupplier;
 
 
 public final class LevelIterator implements Iterator<Level> {
@@ -14,12 +16,18 @@ public final class LevelIterator implements Iterator<Level> {
 
     private final int finalLevel;
     private final LevelLoader loader;
+    private final LongSupplier seeds;
     private int currentLevel;
 
-    public LevelIterator(final String levelDirectory, final int inputStartingLevel, final int inputFinalLevel) {
+    public LevelIterator(final String levelDirectory, final int inputStartingLevel, final int inputFinalLevel,
+                         final LongSupplier inputSeeds) {
         this.loader = new LevelLoaderImpl(levelDirectory);
         this.currentLevel = inputStartingLevel;
         this.finalLevel = inputFinalLevel;
+        this.seeds = inputSeeds;
+    }
+    public LevelIterator(final String levelDirectory, final int inputStartingLevel, final int inputFinalLevel) {
+        this(levelDirectory, inputStartingLevel, inputFinalLevel, new Random()::nextLong);
     }
     public LevelIterator(final int inputStartingLevel) {
         this(Config.LEVEL_RESOURCE_FOLDER.getValue(), inputStartingLevel, DEFAULT_FINAL_LEVEL);
@@ -49,7 +57,7 @@ public final class LevelIterator implements Iterator<Level> {
      */
     @Override
     public Level next() {
-        final Level loadedLevel = this.loader.fromFile(this.buildFilename());
+        final Level loadedLevel = this.loader.fromFile(this.buildFilename(), this.seeds.getAsLong());
         this.currentLevel++;
         return loadedLevel;
     }
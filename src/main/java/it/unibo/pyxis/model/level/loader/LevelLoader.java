@@ -11,4 +11,16 @@ public interface LevelLoader {
      * @return A new {@link Level} from a configuration file.
      */
     Level fromFile(String filename);
+
+    /**
+     * Generates a new {@link Level} from a configuration yml file, seeding
+     * the random choices of its {@link it.unibo.pyxis.model.arena.Arena}.
+     *
+     * @param filename The string containing the filename located in the configuration
+     *                 directory.
+     * @param seed The seed of the {@link it.unibo.pyxis.model.arena.Arena}'s
+     *             {@link java.util.Random} generator.
+     * @return A new {@link Level} from a configuration file.
+     */
+    Level fromFile(String filename, long seed);
 }
@@ -13,6 +13,7 @@ import org.yaml.snakeyaml.constructor.Constructor;
 
 import java.io.InputStream;
 import java.util.Formatter;
+import java.util.Random;
 
 public final class LevelLoaderImpl implements LevelLoader {
 
@@ -59,6 +60,13 @@ public final class LevelLoaderImpl implements LevelLoader {
      */
     @Override
     public Level fromFile(final String filename) {
-        return loaderAssistant.createLevel(this.skeletonFromFile(filename));
+        return this.fromFile(filename, new Random().nextLong());
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Level fromFile(final String filename, final long seed) {
+        return loaderAssistant.createLevel(this.skeletonFromFile(filename), seed);
     }
 }
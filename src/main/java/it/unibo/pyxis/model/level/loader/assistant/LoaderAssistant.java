@@ -8,8 +8,10 @@ public interface LoaderAssistant {
      * Creates a new {@link Level} instance from an {@link LevelSkeleton}.
      *
      * @param skeleton The input {@link LevelSkeleton}.
+     * @param seed The seed of the {@link it.unibo.pyxis.model.arena.Arena}'s
+     *             {@link java.util.Random} generator.
      * @return An instance of the {@link Level}.
      */
-    Level createLevel(LevelSkeleton skeleton);
+    Level createLevel(LevelSkeleton skeleton, long seed);
 }
 
@@ -20,6 +20,7 @@ import it.unibo.pyxis.model.util.CoordImpl;
 import it.unibo.pyxis.model.util.DimensionImpl;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.Set;
 
@@ -31,19 +32,28 @@ public final class LoaderAssistantImpl implements LoaderAssistant {
     /**
      * Creates an {@link Arena} instance from a skeleton.
      *
+     * The elements are created in a fixed order, so that the same seed always
+     * gives the same {@link Arena}.
+     *
      * @param skeleton An {@link LevelSkeleton} object that contains the information
      *                 about the {@link Arena} that should be created.
+     * @param seed The seed of the {@link Arena}'s random generator.
      * @return An instance of {@link Arena}
      */
-    private Arena arenaFromSkeleton(final LevelSkeleton skeleton) {
-        final Arena outputArena = new ArenaImpl(new DimensionImpl(skeleton.getWidth(), skeleton.getHeight()));
+    private Arena arenaFromSkeleton(final LevelSkeleton skeleton, final long seed) {
+        final Arena outputArena = new ArenaImpl(new DimensionImpl(skeleton.getWidth(), skeleton.getHeight()), seed);
+        final ElementFactory ballFactory = new ElementFactoryImpl(outputArena.getRandom());
         final Set<BrickSkeleton> brickSkeletonSet = skeleton.getBricks();
         final Set<BallSkeleton> ballSkeletonSet = skeleton.getBalls();
         if (!Objects.isNull(brickSkeletonSet)) {
-            brickSkeletonSet.forEach(bs -> outputArena.addBrick(this.brickFromSkeleton(bs)));
+            brickSkeletonSet.stream()
+                    .sorted(Comparator.comparingDouble(BrickSkeleton::getY).thenComparingDouble(BrickSkeleton::getX))
+                    .forEach(bs -> outputArena.addBrick(this.brickFromSkeleton(bs)));
         }
         if (!Objects.isNull(ballSkeletonSet)) {
-           ballSkeletonSet.forEach(bls -> outputArena.addBall(this.ballFromSkeleton(bls)));
+            ballSkeletonSet.stream()
+                    .sorted(Comparator.comparingInt(BallSkeleton::getId))
+                    .forEach(bls -> outputArena.addBall(this.ballFromSkeleton(bls, ballFactory)));
         }
         if (!Objects.isNull(skeleton.getPad())) {
             outputArena.setPad(this.padFromSkeleton(skeleton.getPad()));
@@ -55,13 +65,14 @@ public final class LoaderAssistantImpl implements LoaderAssistant {
      *
      * @param skeleton A {@link BallSkeleton} object that contains the information
      *                 about the {@link Ball} that should be created.
+     * @param factory The {@link ElementFactory} drawing the random angle of the {@link Ball}.
      * @return An instance of a {@link Ball}.
      */
-    private Ball ballFromSkeleton(final BallSkeleton skeleton) {
+    private Ball ballFromSkeleton(final BallSkeleton skeleton, final ElementFactory factory) {
         final Coord initialPosition = new CoordImpl(skeleton.getX(), skeleton.getY());
         final BallType ballType = this.getBallType(skeleton.getBallType());
         final int id = skeleton.getId();
-        return this.elementFactory.createBallWithRandomAngle(id, ballType, initialPosition, BALL_MODULE);
+        return factory.createBallWithRandomAngle(id, ballType, initialPosition, BALL_MODULE);
     }
     /**
      * Creates a {@link Brick} instance from a skeleton.
@@ -113,7 +124,7 @@ public final class LoaderAssistantImpl implements LoaderAssistant {
      * {@inheritDoc}
      */
     @Override
-    public Level createLevel(final LevelSkeleton skeleton) {
-        return new LevelImpl(skeleton.getLives(), this.arenaFromSkeleton(skeleton), skeleton.getLevelNumber());
+    public Level createLevel(final LevelSkeleton skeleton, final long seed) {
+        return new LevelImpl(skeleton.getLives(), this.arenaFromSkeleton(skeleton, seed), skeleton.getLevelNumber());
     }
 }
@@ -66,12 +66,12 @@ public final class PowerupEffectFactoryImpl implements PowerupEffectFactory {
     /**
      * Returns a random angle between the MAX_APPLICABLE_ANGLE
      * and the MIN_APPLICABLE_ANGLE in radians.
-     * 
+     *
+     * @param random The {@link Random} generator to draw from.
      * @return A random angle between the MAX_APPLICABLE_ANGLE
      *                  and the MIN_APPLICABLE_ANGLE in radians.
      */
-    private double randomAngle() {
-        final Random random = new Random();
+    private double randomAngle(final Random random) {
         return (random.nextInt(MAX_APPLICABLE_ANGLE - MIN_APPLICABLE_ANGLE) + MIN_APPLICABLE_ANGLE)
                 * Math.PI / FLAT_CORNER_ANGLE;
     }
@@ -80,8 +80,8 @@ public final class PowerupEffectFactoryImpl implements PowerupEffectFactory {
      */
     @Override
     public PowerupEffect atomicBallEffect(final int applicationTime) {
-        final Consumer<Arena> applier = arena -> arena.getBalls().forEach(b -> b.setType(BallType.ATOMIC_BALL));
-        final Consumer<Arena> remover = arena -> arena.getBalls().forEach(b -> b.setType(BallType.NORMAL_BALL));
+        final Consumer<Arena> applier = arena -> arena.getBallList().forEach(b -> b.setType(BallType.ATOMIC_BALL));
+        final Consumer<Arena> remover = arena -> arena.getBallList().forEach(b -> b.setType(BallType.NORMAL_BALL));
         return this.createEffect(BALL_POWERUP, applier, remover, applicationTime);
     }
     /**
@@ -99,11 +99,16 @@ public final class PowerupEffectFactoryImpl implements PowerupEffectFactory {
     public PowerupEffect spawnBalls() {
 
         final Consumer<Arena> applier = arena -> {
+            if (arena.getBallList().isEmpty()) {
+                return;
+            }
             final Ball arenaRandomBall = arena.getRandomBall();
             final Vector pace = arenaRandomBall.getPace();
-            final ElementFactory factory = new ElementFactoryImpl();
-            arena.addBall(factory.copyBallWithAngle(arenaRandomBall, this.randomAngle(), arena.getLastBallId() + 1));
-            arena.addBall(factory.copyBallWithAngle(arenaRandomBall, this.randomAngle(), arena.getLastBallId() + 2));
+            final ElementFactory factory = new ElementFactoryImpl(arena.getRandom());
+            arena.addBall(factory.copyBallWithAngle(arenaRandomBall, this.randomAngle(arena.getRandom()),
+                    arena.getLastBallId() + 1));
+            arena.addBall(factory.copyBallWithAngle(arenaRandomBall, this.randomAngle(arena.getRandom()),
+                    arena.getLastBallId() + 2));
         };
         final Consumer<Arena> remover = arena -> { };
         return this.createEffect(ARENA_POWERUP, applier, remover, 0);
@@ -113,8 +118,8 @@ public final class PowerupEffectFactoryImpl implements PowerupEffectFactory {
      */
     @Override
     public PowerupEffect steelBall(final int applicationTime) {
-        final Consumer<Arena> applier = arena -> arena.getBalls().forEach(b -> b.setType(BallType.STEEL_BALL));
-        final Consumer<Arena> remover = arena -> arena.getBalls().forEach(b -> b.setType(BallType.NORMAL_BALL));
+        final Consumer<Arena> applier = arena -> arena.getBallList().forEach(b -> b.setType(BallType.STEEL_BALL));
+        final Consumer<Arena> remover = arena -> arena.getBallList().forEach(b -> b.setType(BallType.NORMAL_BALL));
         return this.createEffect(BALL_POWERUP, applier, remover, applicationTime);
     }
 }
@@ -2,11 +2,18 @@ package it.unibo.pyxis.model.powerup.handler;
 
 import it.unibo.pyxis.model.powerup.effect.PowerupEffect;
 
+/**
+ * Applies the {@link PowerupEffect}s and removes them when their time is over.
+ * The time is the simulated one of the game loop, advanced by
+ * {@link #update(double)} on the simulation thread, which also applies and
+ * removes the {@link PowerupEffect}s. Apart from {@link #pause()} and
+ * {@link #resume()}, it must only be used by that thread.
+ */
 public interface PowerupHandler {
     /**
-     * Returns the number of threads that are currently running.
+     * Returns the number of {@link PowerupEffect}s currently applied.
      *
-     * @return The threads number.
+     * @return The number of active {@link PowerupEffect}s.
      */
     int activeCount();
 
@@ -19,19 +26,14 @@ public interface PowerupHandler {
     /**
      * Returns the paused status of the {@link PowerupHandler}.
      *
-     * @return True if the internal executor of {@link PowerupHandler} is in
-     *         a paused state.
+     * @return True if the clock of the {@link PowerupHandler} is stopped.
      *         False otherwise.
      */
     boolean isPaused();
     /**
-     * Pauses the execution {@link PowerupHandler}.
-     * The handler will continue to register new
-     * {@link it.unibo.pyxis.model.element.powerup.Powerup} but these will be applied
-     * after a successive call of {@link PowerupHandler#resume()}.
-     * All the active {@link it.unibo.pyxis.model.element.powerup.Powerup}s will be
-     * set to a paused state and they will continue their execution only when the
-     * {@link PowerupHandler} will be resumed.
+     * Pauses the {@link PowerupHandler}, stopping its clock: the time of the
+     * active {@link it.unibo.pyxis.model.element.powerup.Powerup}s doesn't
+     * run out until {@link PowerupHandler#resume()} is called.
      * This method should be called only when the
      * {@link it.unibo.pyxis.model.state.GameState} is pause.
      */
@@ -43,7 +45,8 @@ public interface PowerupHandler {
      */
     void resume();
     /**
-     * Shutdowns the internal executor of the {@link PowerupHandler}.
+     * Shutdowns the {@link PowerupHandler}, removing all the active
+     * {@link it.unibo.pyxis.model.element.powerup.Powerup}s.
      */
     void shutdown();
     /**
@@ -51,4 +54,11 @@ public interface PowerupHandler {
      * {@link it.unibo.pyxis.model.element.powerup.Powerup}s.
      */
     void stop();
+    /**
+     * Advances the clock of the {@link PowerupHandler} by the simulated elapsed
+     * time, unless it is paused, removing the {@link PowerupEffect}s whose time is over.
+     *
+     * @param elapsed The elapsed time, in milliseconds.
+     */
+    void update(double elapsed);
 }
@@ -0,0 +1,36 @@
+package it.unibo.pyxis.model.powerup.handler.timer;
+
+/**
+ * A task scheduled on a {@link TimingWheel}.
+ */
+public interface Timeout {
+
+    /**
+     * Cancels the task, if it hasn't run yet.
+     *
+     * @return True if the task has been cancelled, false if it had already
+     *         run or been cancelled.
+     */
+    boolean cancel();
+
+    /**
+     * Returns the tick of the {@link TimingWheel} in which the task runs.
+     *
+     * @return The deadline tick.
+     */
+    long getDeadline();
+
+    /**
+     * Returns the cancelled status of the task.
+     *
+     * @return True if the task has been cancelled, false otherwise.
+     */
+    boolean isCancelled();
+
+    /**
+     * Returns the expired status of the task.
+     *
+     * @return True if the task has run, false otherwise.
+     */
+    boolean isExpired();
+}
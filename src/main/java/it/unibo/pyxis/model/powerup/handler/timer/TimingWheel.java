@@ -0,0 +1,44 @@
+package it.unibo.pyxis.model.powerup.handler.timer;
+
+/**
+ * A hashed timing wheel measuring time in ticks of the game clock. Scheduling
+ * and cancelling a task take constant time and a tick only visits the tasks
+ * hashed to its slot. The tasks run on the thread advancing the wheel, which
+ * must be the only one using it.
+ */
+public interface TimingWheel {
+
+    /**
+     * Advances the wheel of a tick, running the tasks whose deadline is that
+     * tick in scheduling order.
+     */
+    void advance();
+
+    /**
+     * Cancels all the scheduled tasks.
+     */
+    void clear();
+
+    /**
+     * Returns the number of ticks the wheel has been advanced.
+     *
+     * @return The current tick.
+     */
+    long getTick();
+
+    /**
+     * Schedules a task to run after a number of ticks.
+     *
+     * @param delay The number of ticks, at least 1.
+     * @param task The task to run.
+     * @return The {@link Timeout} of the task.
+     */
+    Timeout schedule(long delay, Runnable task);
+
+    /**
+     * Returns the number of tasks waiting to run.
+     *
+     * @return The number of scheduled tasks.
+     */
+    int size();
+}
@@ -0,0 +1,195 @@
+package it.unibo.pyxis.model.powerup.handler.timer;
+
+import java.util.Objects;
+
+public final class TimingWheelImpl implements TimingWheel {
+
+    private static final int DEFAULT_SLOTS = 64;
+
+    private final Node[] slots;
+    private final Node[] tails;
+    private final int mask;
+    private long tick;
+    private int size;
+
+    /**
+     * Creates a {@link TimingWheel}.
+     *
+     * @param slotCount The number of slots, a power of two. The tasks whose
+     *                  delay exceeds it are visited once per turn of the wheel.
+     */
+    public TimingWheelImpl(final int slotCount) {
+        if (slotCount <= 0 || Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("The number of slots must be a power of two");
+        }
+        this.slots = new Node[slotCount];
+        this.tails = new Node[slotCount];
+        this.mask = slotCount - 1;
+    }
+
+    public TimingWheelImpl() {
+        this(DEFAULT_SLOTS);
+    }
+
+    /**
+     * Removes a {@link Node} from its slot.
+     *
+     * @param node The {@link Node} to remove.
+     */
+    private void unlink(final Node node) {
+        final int slot = (int) (node.deadline & this.mask);
+        if (Objects.isNull(node.previous)) {
+            this.slots[slot] = node.next;
+        } else {
+            node.previous.next = node.next;
+        }
+        if (Objects.isNull(node.next)) {
+            this.tails[slot] = node.previous;
+        } else {
+            node.next.previous = node.previous;
+        }
+        node.previous = null;
+        node.next = null;
+        this.size--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void advance() {
+        this.tick++;
+        final int slot = (int) (this.tick & this.mask);
+        Node due = null;
+        Node lastDue = null;
+        Node node = this.slots[slot];
+        while (!Objects.isNull(node)) {
+            final Node next = node.next;
+            if (node.deadline <= this.tick) {
+                this.unlink(node);
+                node.state = State.DUE;
+                if (Objects.isNull(lastDue)) {
+                    due = node;
+                } else {
+                    lastDue.next = node;
+                }
+                lastDue = node;
+            }
+            node = next;
+        }
+        while (!Objects.isNull(due)) {
+            final Node next = due.next;
+            due.next = null;
+            if (due.state == State.DUE) {
+                due.state = State.EXPIRED;
+                due.task.run();
+            }
+            due = next;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < this.slots.length; i++) {
+            Node node = this.slots[i];
+            while (!Objects.isNull(node)) {
+                final Node next = node.next;
+                node.state = State.CANCELLED;
+                node.previous = null;
+                node.next = null;
+                node = next;
+            }
+            this.slots[i] = null;
+            this.tails[i] = null;
+        }
+        this.size = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Timeout schedule(final long delay, final Runnable task) {
+        if (delay < 1) {
+            throw new IllegalArgumentException("The delay must be at least one tick");
+        }
+        final Node node = new Node(this.tick + delay, Objects.requireNonNull(task));
+        final int slot = (int) (node.deadline & this.mask);
+        node.previous = this.tails[slot];
+        if (Objects.isNull(node.previous)) {
+            this.slots[slot] = node;
+        } else {
+            node.previous.next = node;
+        }
+        this.tails[slot] = node;
+        this.size++;
+        return node;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private enum State {
+        PENDING, DUE, EXPIRED, CANCELLED
+    }
+
+    /**
+     * A scheduled task, linked to the others of its slot in scheduling order.
+     */
+    private final class Node implements Timeout {
+
+        private final long deadline;
+        private final Runnable task;
+        private State state;
+        private Node previous;
+        private Node next;
+
+        Node(final long inputDeadline, final Runnable inputTask) {
+            this.deadline = inputDeadline;
+            this.task = inputTask;
+            this.state = State.PENDING;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (this.state == State.PENDING) {
+                TimingWheelImpl.this.unlink(this);
+            } else if (this.state != State.DUE) {
+                return false;
+            }
+            this.state = State.CANCELLED;
+            return true;
+        }
+
+        @Override
+        public long getDeadline() {
+            return this.deadline;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.state == State.CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return this.state == State.EXPIRED;
+        }
+    }
+}
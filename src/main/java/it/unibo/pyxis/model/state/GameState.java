@@ -4,6 +4,13 @@ import it.unibo.pyxis.model.level.Level;
 import it.unibo.pyxis.model.level.iterator.LevelIterator;
 
 public interface GameState {
+    /**
+     * Cleans up the {@link Level}s left by {@link #reset()}, {@link #selectStartingLevel(int)}
+     * and {@link #switchLevel()}. They can be called by any thread, while this method
+     * must be called by the thread updating the game, so that a {@link Level} is
+     * never cleaned up in the middle of its update.
+     */
+    void cleanUpRetiredLevels();
     /**
      * Returns the currently playing {@link Level} of the game.
      *
@@ -3,18 +3,31 @@ package it.unibo.pyxis.model.state;
 import it.unibo.pyxis.model.level.Level;
 import it.unibo.pyxis.model.level.iterator.LevelIterator;
 
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
 public final class GameStateImpl implements GameState {
 
+    private final Supplier<LevelIterator> iteratorFactory;
+    private final Queue<Level> retiredLevels;
     private LevelIterator iterator;
     private Level currentLevel;
     private int score;
     private StateEnum gameStateEnum;
 
-    public GameStateImpl() {
-        this.iterator = new LevelIterator();
+    public GameStateImpl(final Supplier<LevelIterator> inputIteratorFactory) {
+        this.iteratorFactory = inputIteratorFactory;
+        this.retiredLevels = new ConcurrentLinkedQueue<>();
+        this.iterator = this.iteratorFactory.get();
         this.initialize();
     }
 
+    public GameStateImpl() {
+        this(LevelIterator::new);
+    }
+
     /**
      * Initializes the {@link GameState} setting the first {@link Level} to play.
      * The score is also cleared on the call of this procedure.
@@ -24,6 +37,23 @@ public final class GameStateImpl implements GameState {
         this.currentLevel = this.iterator.next();
         this.score = 0;
     }
+    /**
+     * Hands the current {@link Level} to {@link #cleanUpRetiredLevels()}.
+     */
+    private void retireCurrentLevel() {
+        this.retiredLevels.add(this.currentLevel);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cleanUpRetiredLevels() {
+        Level level = this.retiredLevels.poll();
+        while (!Objects.isNull(level)) {
+            level.cleanUp();
+            level = this.retiredLevels.poll();
+        }
+    }
     /**
      * {@inheritDoc}
      */
@@ -64,8 +94,8 @@ public final class GameStateImpl implements GameState {
      */
     @Override
     public void reset() {
-        this.getCurrentLevel().cleanUp();
-        this.iterator = new LevelIterator();
+        this.retireCurrentLevel();
+        this.iterator = this.iteratorFactory.get();
         this.initialize();
     }
     /**
@@ -73,7 +103,7 @@ public final class GameStateImpl implements GameState {
      */
     @Override
     public void selectStartingLevel(final int levelNumber) {
-        this.getCurrentLevel().cleanUp();
+        this.retireCurrentLevel();
         this.iterator = new LevelIterator(levelNumber);
         this.initialize();
     }
@@ -85,7 +115,7 @@ public final class GameStateImpl implements GameState {
         if (this.gameStateEnum != StateEnum.PAUSE) {
             this.setState(StateEnum.PAUSE);
         }
-        this.currentLevel.cleanUp();
+        this.retireCurrentLevel();
         if (this.iterator.hasNext()) {
             this.currentLevel = this.iterator.next();
         }
@@ -2,9 +2,11 @@ package it.unibo.pyxis.model.util;
 
 public interface Coord {
     /**
-     * Returns a copy of the {@link Coord}.
+     * Returns a copy of the {@link Coord}. The mutable implementations return
+     * a new mutable instance, the immutable ones return themselves since
+     * they can be shared.
      *
-     * @return The {@link Coord}.
+     * @return The {@link Coord} copy.
      */
     Coord copyOf();
     /**
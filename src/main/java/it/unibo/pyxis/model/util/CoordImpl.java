@@ -1,37 +1,38 @@
 package it.unibo.pyxis.model.util;
 
-import java.util.Objects;
-
 public final class CoordImpl implements Coord {
 
-    private final Pair<Double> internalPair;
+    private static final int HASH_MULTIPLIER = 31;
+    private double x;
+    private double y;
 
     public CoordImpl(final double xCoord, final double yCoord) {
-        this.internalPair = new PairImpl<>(xCoord, yCoord);
+        this.x = xCoord;
+        this.y = yCoord;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public Coord copyOf() {
-        return new CoordImpl(this.getX(), this.getY());
+        return new CoordImpl(this.x, this.y);
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public double distance(final Coord position) {
-        final double px = position.getX() - this.getX();
-        final double py = position.getY() - this.getY();
+        final double px = position.getX() - this.x;
+        final double py = position.getY() - this.y;
         return Math.sqrt(px * px + py * py);
     }
     /**
      * {@inheritDoc}
      */
     @Override
-    public double distance(final double x, final double y) {
-        final double px = x - getX();
-        final double py = y - getY();
+    public double distance(final double xValue, final double yValue) {
+        final double px = xValue - this.x;
+        final double py = yValue - this.y;
         return Math.sqrt(px * px + py * py);
     }
     /**
@@ -42,46 +43,54 @@ public final class CoordImpl implements Coord {
         if (this == o) {
             return true;
         }
-        if (o == null || getClass() != o.getClass()) {
+        if (!(o instanceof Coord)) {
             return false;
         }
-        final CoordImpl coord = (CoordImpl) o;
-        return internalPair.equals(coord.internalPair);
+        final Coord coord = (Coord) o;
+        return Double.compare(this.x, coord.getX()) == 0 && Double.compare(this.y, coord.getY()) == 0;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public double getX() {
-        return this.internalPair.getFirst();
+        return this.x;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public double getY() {
-        return this.internalPair.getSecond();
+        return this.y;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public int hashCode() {
-        return Objects.hash(internalPair);
+        return HASH_MULTIPLIER * Double.hashCode(this.x) + Double.hashCode(this.y);
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public void setX(final double xCoord) {
-        this.internalPair.setFirst(xCoord);
+        this.x = xCoord;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public void setY(final double yCoord) {
-        this.internalPair.setSecond(yCoord);
+        this.y = yCoord;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setXY(final double xCoord, final double yCoord) {
+        this.x = xCoord;
+        this.y = yCoord;
     }
     /**
      * {@inheritDoc}
@@ -95,15 +104,15 @@ public final class CoordImpl implements Coord {
      */
     @Override
     public void sumValues(final double xValue, final double yValue) {
-        this.sumXValue(xValue);
-        this.sumYValue(yValue);
+        this.x += xValue;
+        this.y += yValue;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public void sumVector(final Vector inputVector) {
-        this.sumVector(inputVector, 1);
+        this.sumValues(inputVector.getX(), inputVector.getY());
     }
     /**
      * {@inheritDoc}
@@ -117,14 +126,14 @@ public final class CoordImpl implements Coord {
      */
     @Override
     public void sumXValue(final double xValue) {
-        this.internalPair.setFirst(this.internalPair.getFirst() + xValue);
+        this.x += xValue;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public void sumYValue(final double yValue) {
-        this.internalPair.setSecond(this.internalPair.getSecond() + yValue);
+        this.y += yValue;
     }
     /**
      * Returns a string representing the object.
@@ -132,6 +141,6 @@ public final class CoordImpl implements Coord {
      * @return A string representing the current object's state.
      */
     public String toString() {
-        return "Position X: " + this.internalPair.getFirst() + " and Y: " + this.internalPair.getSecond();
+        return "Position X: " + this.x + " and Y: " + this.y;
     }
 }
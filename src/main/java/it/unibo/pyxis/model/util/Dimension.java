@@ -2,9 +2,11 @@ package it.unibo.pyxis.model.util;
 
 public interface Dimension {
     /**
-     * Returns the {@link Dimension} copy.
+     * Returns a copy of the {@link Dimension}. The mutable implementations return
+     * a new mutable instance, the immutable ones return themselves since
+     * they can be shared.
      *
-     * @return The {@link Dimension}.
+     * @return The {@link Dimension} copy.
      */
     Dimension copyOf();
     /**
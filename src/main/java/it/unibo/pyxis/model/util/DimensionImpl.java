@@ -1,13 +1,14 @@
 package it.unibo.pyxis.model.util;
 
-import java.util.Objects;
-
 public final class DimensionImpl implements Dimension {
 
-    private final Pair<Double> internalPair;
+    private static final int HASH_MULTIPLIER = 31;
+    private double width;
+    private double height;
 
-    public DimensionImpl(final double width, final double height) {
-        this.internalPair = new PairImpl<>(width, height);
+    public DimensionImpl(final double inputWidth, final double inputHeight) {
+        this.width = inputWidth;
+        this.height = inputHeight;
     }
 
     public DimensionImpl() {
@@ -18,7 +19,7 @@ public final class DimensionImpl implements Dimension {
      */
     @Override
     public Dimension copyOf() {
-        return new DimensionImpl(this.getWidth(), this.getHeight());
+        return new DimensionImpl(this.width, this.height);
     }
     /**
      * {@inheritDoc}
@@ -28,60 +29,61 @@ public final class DimensionImpl implements Dimension {
         if (this == o) {
             return true;
         }
-        if (!(o instanceof DimensionImpl)) {
+        if (!(o instanceof Dimension)) {
             return false;
         }
-        final DimensionImpl dimension = (DimensionImpl) o;
-        return Objects.equals(this.internalPair, dimension.internalPair);
+        final Dimension dimension = (Dimension) o;
+        return Double.compare(this.width, dimension.getWidth()) == 0
+                && Double.compare(this.height, dimension.getHeight()) == 0;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public double getHeight() {
-        return this.internalPair.getSecond();
+        return this.height;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public double getWidth() {
-        return this.internalPair.getFirst();
+        return this.width;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public int hashCode() {
-        return Objects.hash(internalPair);
+        return HASH_MULTIPLIER * Double.hashCode(this.width) + Double.hashCode(this.height);
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public void increaseHeight(final double increaseValue) {
-        this.setHeight(this.getHeight() + increaseValue);
+        this.height += increaseValue;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public void increaseWidth(final double increaseValue) {
-        this.setWidth(this.getWidth() + increaseValue);
+        this.width += increaseValue;
     }
     /**
      * {@inheritDoc}
      */
     @Override
-    public void setHeight(final double height) {
-        this.internalPair.setSecond(height);
+    public void setHeight(final double inputHeight) {
+        this.height = inputHeight;
     }
     /**
      * {@inheritDoc}
      */
     @Override
-    public void setWidth(final double width) {
-        this.internalPair.setFirst(width);
+    public void setWidth(final double inputWidth) {
+        this.width = inputWidth;
     }
     /**
      * Return a string representing the current object's state.
@@ -89,6 +91,6 @@ public final class DimensionImpl implements Dimension {
      * @return The string representing the current object's state.
      */
     public String toString() {
-        return "Dimension X: " + this.internalPair.getFirst() + " and Y: " + this.internalPair.getSecond();
+        return "Dimension X: " + this.width + " and Y: " + this.height;
     }
 }
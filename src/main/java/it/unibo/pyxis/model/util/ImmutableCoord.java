@@ -0,0 +1,146 @@
+package it.unibo.pyxis.model.util;
+
+/**
+ * Immutable {@link Coord}, which can be shared freely instead of being copied.
+ * Every mutator throws an {@link UnsupportedOperationException}.
+ */
+public final class ImmutableCoord implements Coord {
+
+    private static final int HASH_MULTIPLIER = 31;
+    private static final String IMMUTABLE_MESSAGE = "The coord is immutable";
+    private final double x;
+    private final double y;
+
+    public ImmutableCoord(final double xCoord, final double yCoord) {
+        this.x = xCoord;
+        this.y = yCoord;
+    }
+
+    public ImmutableCoord(final Coord coord) {
+        this(coord.getX(), coord.getY());
+    }
+    /**
+     * Returns the {@link ImmutableCoord} itself, since it can be shared.
+     *
+     * @return The {@link ImmutableCoord}.
+     */
+    @Override
+    public Coord copyOf() {
+        return this;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double distance(final Coord position) {
+        return this.distance(position.getX(), position.getY());
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double distance(final double xValue, final double yValue) {
+        final double px = xValue - this.x;
+        final double py = yValue - this.y;
+        return Math.sqrt(px * px + py * py);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Coord)) {
+            return false;
+        }
+        final Coord coord = (Coord) o;
+        return Double.compare(this.x, coord.getX()) == 0 && Double.compare(this.y, coord.getY()) == 0;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getX() {
+        return this.x;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getY() {
+        return this.y;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return HASH_MULTIPLIER * Double.hashCode(this.x) + Double.hashCode(this.y);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setX(final double xCoord) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setY(final double yCoord) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sumCoord(final Coord coord) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sumValues(final double xValue, final double yValue) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sumVector(final Vector inputVector) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sumVector(final Vector inputVector, final double multiplier) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sumXValue(final double xValue) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sumYValue(final double yValue) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * Returns a string representing the object.
+     *
+     * @return A string representing the current object's state.
+     */
+    public String toString() {
+        return "Position X: " + this.x + " and Y: " + this.y;
+    }
+}
@@ -0,0 +1,103 @@
+package it.unibo.pyxis.model.util;
+
+/**
+ * Immutable {@link Dimension}, which can be shared freely instead of being copied.
+ * Every mutator throws an {@link UnsupportedOperationException}.
+ */
+public final class ImmutableDimension implements Dimension {
+
+    private static final int HASH_MULTIPLIER = 31;
+    private static final String IMMUTABLE_MESSAGE = "The dimension is immutable";
+    private final double width;
+    private final double height;
+
+    public ImmutableDimension(final double inputWidth, final double inputHeight) {
+        this.width = inputWidth;
+        this.height = inputHeight;
+    }
+
+    public ImmutableDimension(final Dimension dimension) {
+        this(dimension.getWidth(), dimension.getHeight());
+    }
+    /**
+     * Returns the {@link ImmutableDimension} itself, since it can be shared.
+     *
+     * @return The {@link ImmutableDimension}.
+     */
+    @Override
+    public Dimension copyOf() {
+        return this;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Dimension)) {
+            return false;
+        }
+        final Dimension dimension = (Dimension) o;
+        return Double.compare(this.width, dimension.getWidth()) == 0
+                && Double.compare(this.height, dimension.getHeight()) == 0;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getHeight() {
+        return this.height;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getWidth() {
+        return this.width;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return HASH_MULTIPLIER * Double.hashCode(this.width) + Double.hashCode(this.height);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void increaseHeight(final double increaseValue) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void increaseWidth(final double increaseValue) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setHeight(final double inputHeight) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setWidth(final double inputWidth) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * Return a string representing the current object's state.
+     *
+     * @return The string representing the current object's state.
+     */
+    public String toString() {
+        return "Dimension X: " + this.width + " and Y: " + this.height;
+    }
+}
@@ -0,0 +1,95 @@
+package it.unibo.pyxis.model.util;
+
+/**
+ * Immutable {@link Vector}, which can be shared freely instead of being copied.
+ * Every mutator throws an {@link UnsupportedOperationException}.
+ */
+public final class ImmutableVector implements Vector {
+
+    private static final int HASH_MULTIPLIER = 31;
+    private static final String IMMUTABLE_MESSAGE = "The vector is immutable";
+    private final double x;
+    private final double y;
+
+    public ImmutableVector(final double xComponent, final double yComponent) {
+        this.x = xComponent;
+        this.y = yComponent;
+    }
+
+    public ImmutableVector(final Vector vector) {
+        this(vector.getX(), vector.getY());
+    }
+    /**
+     * Returns the {@link ImmutableVector} itself, since it can be shared.
+     *
+     * @return The {@link ImmutableVector}.
+     */
+    @Override
+    public Vector copyOf() {
+        return this;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Vector)) {
+            return false;
+        }
+        final Vector vector = (Vector) o;
+        return Double.compare(this.x, vector.getX()) == 0 && Double.compare(this.y, vector.getY()) == 0;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getX() {
+        return this.x;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getY() {
+        return this.y;
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getModule() {
+        return Math.sqrt(this.x * this.x + this.y * this.y);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return HASH_MULTIPLIER * Double.hashCode(this.x) + Double.hashCode(this.y);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Vector createVectorWithSameModule(final double rotationAngle) {
+        final double module = this.getModule();
+        return new VectorImpl(module * Math.cos(rotationAngle), module * Math.sin(rotationAngle));
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setX(final double xCoord) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setY(final double yCoord) {
+        throw new UnsupportedOperationException(IMMUTABLE_MESSAGE);
+    }
+}
@@ -2,7 +2,9 @@ package it.unibo.pyxis.model.util;
 
 public interface Vector {
     /**
-     * Returns a copy of the {@link Vector}.
+     * Returns a copy of the {@link Vector}. The mutable implementations return
+     * a new mutable instance, the immutable ones return themselves since
+     * they can be shared.
      *
      * @return The {@link Vector} copy.
      */
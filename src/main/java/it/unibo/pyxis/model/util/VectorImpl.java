@@ -1,27 +1,25 @@
 package it.unibo.pyxis.model.util;
 
-
-import java.util.Objects;
-
 public final class VectorImpl implements Vector {
 
-    private final Pair<Double> components;
+    private static final int HASH_MULTIPLIER = 31;
+    private double x;
+    private double y;
 
     public VectorImpl(final Pair<Double> initialComponents) {
-        this.components = initialComponents;
+        this(initialComponents.getFirst(), initialComponents.getSecond());
     }
 
-    public VectorImpl(final double x, final double y) {
-        this(new PairImpl<Double>(x, y));
+    public VectorImpl(final double xComponent, final double yComponent) {
+        this.x = xComponent;
+        this.y = yComponent;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public Vector copyOf() {
-        final double firstComponent = this.components.getFirst();
-        final double secondComponent = this.components.getSecond();
-        return new VectorImpl(firstComponent, secondComponent);
+        return new VectorImpl(this.x, this.y);
     }
     /**
      * {@inheritDoc}
@@ -31,68 +29,60 @@ public final class VectorImpl implements Vector {
         if (this == o) {
             return true;
         }
-        if (!(o instanceof VectorImpl)) {
+        if (!(o instanceof Vector)) {
             return false;
         }
-        final VectorImpl vector = (VectorImpl) o;
-        return Objects.equals(components, vector.components);
+        final Vector vector = (Vector) o;
+        return Double.compare(this.x, vector.getX()) == 0 && Double.compare(this.y, vector.getY()) == 0;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public double getX() {
-        return this.components.getFirst();
+        return this.x;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public double getY() {
-        return this.components.getSecond();
+        return this.y;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public double getModule() {
-        return Math.sqrt(Math.pow(this.components.getFirst(), 2)
-                + Math.pow(this.components.getSecond(), 2));
+        return Math.sqrt(this.x * this.x + this.y * this.y);
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public int hashCode() {
-        return Objects.hash(components);
+        return HASH_MULTIPLIER * Double.hashCode(this.x) + Double.hashCode(this.y);
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public Vector createVectorWithSameModule(final double rotationAngle) {
-        final double cos = Math.cos(rotationAngle);
-        final double sin = Math.sin(rotationAngle);
         final double module = this.getModule();
-        return new VectorImpl(module * cos, module * sin);
+        return new VectorImpl(module * Math.cos(rotationAngle), module * Math.sin(rotationAngle));
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public void setX(final double xCoord) {
-        this.components.setFirst(xCoord);
+        this.x = xCoord;
     }
     /**
      * {@inheritDoc}
      */
     @Override
     public void setY(final double yCoord) {
-        this.components.setSecond(yCoord);
+        this.y = yCoord;
     }
-
-
-
-
-
 }
@@ -51,10 +51,7 @@ public final class GameView extends AbstractJavaFXView<GameController> implement
     private void drawCanvas() {
         this.drawer.clear();
         this.drawer.drawBackground(this.getController().getLevelImage());
-        this.getController().getBricks().forEach(this.drawer::draw);
-        this.getController().getBalls().forEach(this.drawer::draw);
-        this.getController().getPowerups().forEach(this.drawer::draw);
-        this.drawer.draw(this.getController().getPad());
+        this.drawer.draw(this.getController().getRenderSnapshot());
     }
 
     /**
@@ -1,6 +1,6 @@
 package it.unibo.pyxis.view.drawer;
 
-import it.unibo.pyxis.model.element.Element;
+import it.unibo.pyxis.model.arena.snapshot.RenderSnapshot;
 import javafx.scene.image.Image;
 
 public interface Drawer {
@@ -11,12 +11,12 @@ public interface Drawer {
     void clear();
 
     /**
-     * Draws an {@link it.unibo.pyxis.model.element.Element} inside the
-     * {@link javafx.scene.canvas.Canvas}.
+     * Draws every {@link it.unibo.pyxis.model.element.Element} stored in a
+     * {@link RenderSnapshot} inside the {@link javafx.scene.canvas.Canvas}.
      *
-     * @param element The {@link Element} to draw.
+     * @param snapshot The {@link RenderSnapshot} to draw.
      */
-    void draw(Element element);
+    void draw(RenderSnapshot snapshot);
 
     /**
      * Draws the {@link javafx.scene.canvas.Canvas} background.
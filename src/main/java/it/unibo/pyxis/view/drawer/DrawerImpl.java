@@ -1,77 +1,67 @@
 package it.unibo.pyxis.view.drawer;
 
-import it.unibo.pyxis.ecs.component.sprite.SpriteComponent;
-import it.unibo.pyxis.model.element.Element;
-import it.unibo.pyxis.model.util.Coord;
-import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.arena.snapshot.ElementKind;
+import it.unibo.pyxis.model.arena.snapshot.RenderSnapshot;
 import it.unibo.pyxis.model.util.Dimension;
-import it.unibo.pyxis.model.util.DimensionImpl;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
 public final class DrawerImpl implements Drawer {
 
+    private static final String SPRITES_PATH = "sprites/";
+
     private final GraphicsContext gc;
     private final Dimension arenaDimension;
+    private final Map<String, Image> spriteCache;
 
     public DrawerImpl(final GraphicsContext gc, final Dimension arenaDimension) {
         this.gc = gc;
         this.arenaDimension = arenaDimension;
+        this.spriteCache = new HashMap<>();
     }
 
     /**
-     * Draws an {@link javafx.scene.image.Image} into the
-     * destination of the canvas converted from the given {@link Coord} and {@link Dimension}.
-     * @param spriteImage The {@link javafx.scene.image.Image} to draw
-     *                  on the canvas.
-     * @param position The {@link Coord} in the model
-     *                  of the {@link javafx.scene.image.Image} to draw.
-     * @param dimension The {@link Dimension} in the model
-     *                  of the {@link javafx.scene.image.Image} to draw.
-     */
-    private void drawImage(final Image spriteImage, final Coord position, final Dimension dimension) {
-        final Coord scalePos = this.modelToViewPositionScale(position, dimension);
-        final Dimension scaleDim = this.modelToViewDimensionScale(dimension);
-        gc.drawImage(spriteImage, scalePos.getX(), scalePos.getY(), scaleDim.getWidth(), scaleDim.getHeight());
-    }
-
-    /**
-     * Converts the {@link Coord} of an {@link it.unibo.pyxis.model.element.Element}
-     * of the model to the relative {@link Coord} of the View.
+     * Returns the sprite of an {@link it.unibo.pyxis.model.element.Element},
+     * loading it from the resources only the first time it is requested.
      *
-     * @param position The {@link Coord} of the
-     *                 {@link it.unibo.pyxis.model.element.Element} to draw.
-     * @param dimension The {@link Dimension} of the
-     *                 {@link it.unibo.pyxis.model.element.Element} to draw.
-     * @return The converted {@link Coord} of an
-     *         {@link it.unibo.pyxis.model.element.Element} of the model to the
-     *         relative {@link Coord} of the View.
+     * @param kind The {@link ElementKind} of the element.
+     * @param typeName The type name of the element.
+     * @return The sprite {@link javafx.scene.image.Image}.
      */
-    private Coord modelToViewPositionScale(final Coord position, final Dimension dimension) {
-        final double widthProportion = this.gc.getCanvas().getWidth() / this.arenaDimension.getWidth();
-        final double heightProportion = this.gc.getCanvas().getHeight() / this.arenaDimension.getHeight();
-        final double scaledX = (position.getX() - dimension.getWidth() / 2) * widthProportion;
-        final double scaledY = (position.getY() - dimension.getHeight() / 2) * heightProportion;
-        return new CoordImpl(scaledX, scaledY);
+    private Image obtainSprite(final ElementKind kind, final String typeName) {
+        final String fileName = kind == ElementKind.PAD
+                ? SPRITES_PATH + "pad/PAD.png"
+                : SPRITES_PATH + kind.name().toLowerCase(Locale.ROOT) + "/" + typeName + "_" + kind.name() + ".png";
+        return this.spriteCache.computeIfAbsent(fileName,
+                name -> new Image(Objects.requireNonNull(ClassLoader.getSystemResourceAsStream(name))));
     }
 
     /**
-     * Converts the {@link Dimension} of an
-     * {@link it.unibo.pyxis.model.element.Element} of the model to the relative
-     * {@link Dimension} of the View.
-     *
-     * @param dimension The {@link Dimension} of the
-     *                  {@link it.unibo.pyxis.model.element.Element} to draw.
-     * @return The converted {@link Dimension} of an
-     *         {@link it.unibo.pyxis.model.element.Element} of the model to the
-     *         relative {@link Dimension} of the View.
+     * Draws an {@link javafx.scene.image.Image} into the destination of the canvas
+     * converted from the given position and size in the model.
+     * @param spriteImage The {@link javafx.scene.image.Image} to draw
+     *                  on the canvas.
+     * @param centerX The X value of the center in the model
+     *                  of the {@link javafx.scene.image.Image} to draw.
+     * @param centerY The Y value of the center in the model
+     *                  of the {@link javafx.scene.image.Image} to draw.
+     * @param width The width in the model
+     *                  of the {@link javafx.scene.image.Image} to draw.
+     * @param height The height in the model
+     *                  of the {@link javafx.scene.image.Image} to draw.
      */
-    private Dimension modelToViewDimensionScale(final Dimension dimension) {
+    private void drawImage(final Image spriteImage, final double centerX, final double centerY,
+                           final double width, final double height) {
         final double widthProportion = this.gc.getCanvas().getWidth() / this.arenaDimension.getWidth();
         final double heightProportion = this.gc.getCanvas().getHeight() / this.arenaDimension.getHeight();
-        final double scaledWidth = dimension.getWidth() * widthProportion;
-        final double scaledHeight = dimension.getHeight() * heightProportion;
-        return new DimensionImpl(scaledWidth, scaledHeight);
+        gc.drawImage(spriteImage,
+                (centerX - width / 2) * widthProportion, (centerY - height / 2) * heightProportion,
+                width * widthProportion, height * heightProportion);
     }
 
     /**
@@ -86,9 +76,11 @@ public final class DrawerImpl implements Drawer {
      * {@inheritDoc}
      */
     @Override
-    public void draw(final Element element) {
-        final Image spriteImage = element.getComponent(SpriteComponent.class).obtainSprite();
-        this.drawImage(spriteImage, element.getPosition(), element.getDimension());
+    public void draw(final RenderSnapshot snapshot) {
+        for (int i = 0; i < snapshot.size(); i++) {
+            this.drawImage(this.obtainSprite(snapshot.getKind(i), snapshot.getTypeName(i)),
+                    snapshot.getX(i), snapshot.getY(i), snapshot.getWidth(i), snapshot.getHeight(i));
+        }
     }
 
     /**
@@ -96,8 +88,8 @@ public final class DrawerImpl implements Drawer {
      */
     @Override
     public void drawBackground(final Image levelImage) {
-        final Dimension arenaDim = this.arenaDimension;
-        final Coord position = new CoordImpl(arenaDim.getWidth() / 2, arenaDim.getHeight() / 2);
-        this.drawImage(levelImage, position, arenaDim);
+        final double width = this.arenaDimension.getWidth();
+        final double height = this.arenaDimension.getHeight();
+        this.drawImage(levelImage, width / 2, height / 2, width, height);
     }
 }
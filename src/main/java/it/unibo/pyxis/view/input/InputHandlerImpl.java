@@ -1,5 +1,6 @@
 package it.unibo.pyxis.view.input;
 
+import it.unibo.pyxis.controller.input.InputKey;
 import it.unibo.pyxis.controller.linker.Linker;
 import it.unibo.pyxis.model.state.StateEnum;
 import javafx.event.EventHandler;
@@ -15,10 +16,10 @@ public class InputHandlerImpl implements InputHandler {
         final EventHandler<KeyEvent> keyEventEventHandler = keyEvent -> {
             switch (keyEvent.getCode()) {
                 case A:
-                    inputLinker.insertGameCommand(level -> level.getArena().movePadLeft());
+                    inputLinker.getInputState().press(InputKey.PAD_LEFT);
                     break;
                 case D:
-                    inputLinker.insertGameCommand(level -> level.getArena().movePadRight());
+                    inputLinker.getInputState().press(InputKey.PAD_RIGHT);
                     break;
                 case SPACE:
                     inputLinker.insertCommand(gameState -> {
@@ -36,6 +37,19 @@ public class InputHandlerImpl implements InputHandler {
                     break;
             }
         };
+        final EventHandler<KeyEvent> keyReleasedEventHandler = keyEvent -> {
+            switch (keyEvent.getCode()) {
+                case A:
+                    inputLinker.getInputState().release(InputKey.PAD_LEFT);
+                    break;
+                case D:
+                    inputLinker.getInputState().release(InputKey.PAD_RIGHT);
+                    break;
+                default:
+                    break;
+            }
+        };
         inputStage.addEventHandler(KeyEvent.KEY_PRESSED, keyEventEventHandler);
+        inputStage.addEventHandler(KeyEvent.KEY_RELEASED, keyReleasedEventHandler);
     }
 }
@@ -0,0 +1,132 @@
+package it.unibo.pyxis.app.headless;
+
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.arena.ArenaImpl;
+import it.unibo.pyxis.model.element.ball.BallImpl;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.element.brick.BrickImpl;
+import it.unibo.pyxis.model.element.brick.BrickType;
+import it.unibo.pyxis.model.element.pad.PadImpl;
+import it.unibo.pyxis.model.level.Level;
+import it.unibo.pyxis.model.level.LevelImpl;
+import it.unibo.pyxis.model.level.iterator.LevelIterator;
+import it.unibo.pyxis.model.level.status.LevelStatus;
+import it.unibo.pyxis.model.state.GameState;
+import it.unibo.pyxis.model.state.StateEnum;
+import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.util.DimensionImpl;
+import it.unibo.pyxis.model.util.VectorImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessRunnerTest {
+
+    private Level createLevel() {
+        final Arena arena = new ArenaImpl(new DimensionImpl(378, 420));
+        arena.setPad(new PadImpl(new CoordImpl(189, 400)));
+        for (int column = 0; column < 9; column++) {
+            arena.addBrick(new BrickImpl(BrickType.RED, new CoordImpl(21 + 42 * column, 260)));
+        }
+        arena.addBall(new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(189, 300))
+                .pace(new VectorImpl(120, -150))
+                .id(1)
+                .build());
+        return new LevelImpl(3, arena, 1);
+    }
+
+    @Test
+    public void testMaxTicks() {
+        final GameState gameState = new SingleLevelGameState(this.createLevel());
+        final SimulationReport report = new HeadlessRunnerImpl(gameState).run(
+                new InputScriptImpl.Builder().build(), 10);
+        assertEquals(10, report.getTicks());
+        assertEquals(LevelStatus.PLAYING, report.getLastLevelStatus());
+        assertEquals(StateEnum.STOP, gameState.getState());
+    }
+
+    @Test
+    public void testCompleteLevel() {
+        final GameState gameState = new SingleLevelGameState(this.createLevel());
+        final SimulationReport report = new HeadlessRunnerImpl(gameState).run(new InputScriptImpl.Builder()
+                .everyTick(new BallFollowerCommand(5))
+                .build(), 1_000_000);
+        assertEquals(LevelStatus.SUCCESSFULLY_COMPLETED, report.getLastLevelStatus());
+        assertEquals(1, report.getCompletedLevels());
+        assertTrue(report.getTicks() < 1_000_000);
+        assertTrue(report.getScore() > 0);
+    }
+
+    @Test
+    public void testInvalidPhysicsRate() {
+        final GameState gameState = new SingleLevelGameState(this.createLevel());
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessRunnerImpl(gameState, 0));
+    }
+
+    /**
+     * A {@link GameState} playing a single {@link Level} built in memory.
+     */
+    private static final class SingleLevelGameState implements GameState {
+
+        private final Level level;
+        private StateEnum state = StateEnum.WAITING_FOR_NEW_GAME;
+        private int score;
+
+        SingleLevelGameState(final Level inputLevel) {
+            this.level = inputLevel;
+        }
+
+        @Override
+        public void cleanUpRetiredLevels() {
+        }
+
+        @Override
+        public Level getCurrentLevel() {
+            return this.level;
+        }
+
+        @Override
+        public LevelIterator getLevelIterator() {
+            return new LevelIterator("", 1, 0);
+        }
+
+        @Override
+        public int getScore() {
+            return this.score;
+        }
+
+        @Override
+        public StateEnum getState() {
+            return this.state;
+        }
+
+        @Override
+        public void setState(final StateEnum stateEnum) {
+            this.state = stateEnum;
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void selectStartingLevel(final int levelNumber) {
+        }
+
+        @Override
+        public void switchLevel() {
+        }
+
+        @Override
+        public void update(final double delta) {
+            this.level.update(delta);
+        }
+
+        @Override
+        public void updateTotalScore() {
+            this.score += this.level.getScore();
+        }
+    }
+}
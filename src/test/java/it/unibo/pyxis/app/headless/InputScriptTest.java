@@ -0,0 +1,43 @@
+package it.unibo.pyxis.app.headless;
+
+import it.unibo.pyxis.controller.command.Command;
+import it.unibo.pyxis.model.level.Level;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputScriptTest {
+
+    private final Command<Level> left = level -> level.getArena().movePadLeft();
+    private final Command<Level> right = level -> level.getArena().movePadRight();
+    private final Command<Level> repeated = level -> { };
+
+    @Test
+    public void testScheduledCommands() {
+        final InputScript script = new InputScriptImpl.Builder()
+                .at(3, this.left)
+                .at(3, this.right)
+                .at(5, this.right)
+                .build();
+        assertTrue(script.commandsAt(0).isEmpty());
+        assertEquals(List.of(this.left, this.right), script.commandsAt(3));
+        assertEquals(List.of(this.right), script.commandsAt(5));
+    }
+
+    @Test
+    public void testRepeatedCommands() {
+        final InputScript script = new InputScriptImpl.Builder()
+                .everyTick(this.repeated)
+                .at(1, this.left)
+                .build();
+        assertEquals(List.of(this.repeated), script.commandsAt(0));
+        assertEquals(List.of(this.left, this.repeated), script.commandsAt(1));
+    }
+
+    @Test
+    public void testNegativeTick() {
+        assertThrows(IllegalArgumentException.class, () -> new InputScriptImpl.Builder().at(-1, this.left));
+    }
+}
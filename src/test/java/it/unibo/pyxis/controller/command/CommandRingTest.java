@@ -0,0 +1,88 @@
+package it.unibo.pyxis.controller.command;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandRingTest {
+
+    private Command<List<Integer>> adding(final int value) {
+        return target -> target.add(value);
+    }
+
+    private List<Integer> drainAll(final CommandRing<List<Integer>> ring) {
+        final List<Integer> values = new ArrayList<>();
+        ring.drain(command -> command.execute(values));
+        return values;
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandRingImpl<>(12, OverflowPolicy.DROP_OLDEST));
+    }
+
+    @Test
+    public void testDrainInOrder() {
+        final CommandRing<List<Integer>> ring = new CommandRingImpl<>(4, OverflowPolicy.DROP_OLDEST);
+        assertTrue(ring.isEmpty());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(ring.offer(this.adding(i)));
+        }
+        assertFalse(ring.isEmpty());
+        assertEquals(List.of(0, 1, 2), this.drainAll(ring));
+        assertTrue(ring.isEmpty());
+        assertEquals(0, ring.drain(command -> command.execute(new ArrayList<>())));
+    }
+
+    @Test
+    public void testDropOldest() {
+        final CommandRing<List<Integer>> ring = new CommandRingImpl<>(4, OverflowPolicy.DROP_OLDEST);
+        for (int i = 0; i < 6; i++) {
+            assertTrue(ring.offer(this.adding(i)));
+        }
+        assertEquals(2, ring.getDroppedCount());
+        assertEquals(List.of(2, 3, 4, 5), this.drainAll(ring));
+    }
+
+    @Test
+    public void testDropNewest() {
+        final CommandRing<List<Integer>> ring = new CommandRingImpl<>(4, OverflowPolicy.DROP_NEWEST);
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i < 4, ring.offer(this.adding(i)));
+        }
+        assertEquals(2, ring.getDroppedCount());
+        assertEquals(List.of(0, 1, 2, 3), this.drainAll(ring));
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        final int producers = 4;
+        final int perProducer = 10_000;
+        final CommandRing<AtomicInteger> ring = new CommandRingImpl<>(64, OverflowPolicy.DROP_NEWEST);
+        final AtomicInteger executed = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!ring.offer(AtomicInteger::incrementAndGet)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        while (executed.get() < producers * perProducer) {
+            ring.drain(command -> command.execute(executed));
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(producers * perProducer, executed.get());
+        assertTrue(ring.isEmpty());
+    }
+}
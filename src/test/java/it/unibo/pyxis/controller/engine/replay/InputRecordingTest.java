@@ -0,0 +1,45 @@
+package it.unibo.pyxis.controller.engine.replay;
+
+import it.unibo.pyxis.controller.command.LevelCommand;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputRecordingTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final InputRecording recording = new InputRecordingImpl.Builder(2, 42L, 60)
+                .add(7, LevelCommand.MOVE_PAD_RIGHT)
+                .add(0, LevelCommand.MOVE_PAD_LEFT)
+                .add(7, LevelCommand.MOVE_PAD_LEFT)
+                .build(100);
+        final StringWriter writer = new StringWriter();
+        recording.writeTo(writer);
+        final InputRecording read = InputRecordingImpl.readFrom(new StringReader(writer.toString()));
+        assertEquals(2, read.getLevelNumber());
+        assertEquals(42L, read.getSeed());
+        assertEquals(60, read.getPhysicsRate());
+        assertEquals(100, read.getTicks());
+        assertEquals(List.of(LevelCommand.MOVE_PAD_LEFT), read.commandsAt(0));
+        assertTrue(read.commandsAt(1).isEmpty());
+        assertEquals(List.of(LevelCommand.MOVE_PAD_RIGHT, LevelCommand.MOVE_PAD_LEFT), read.commandsAt(7));
+    }
+
+    @Test
+    public void testMalformedRecording() {
+        assertThrows(IOException.class, () -> InputRecordingImpl.readFrom(new StringReader("level 1")));
+        assertThrows(IOException.class, () -> InputRecordingImpl.readFrom(new StringReader(
+                "pyxis-recording 1\nlevel 1\nseed 5\nrate 50\nticks 10\n3 JUMP\n")));
+    }
+
+    @Test
+    public void testInvalidPhysicsRate() {
+        assertThrows(IllegalArgumentException.class, () -> new InputRecordingImpl.Builder(1, 0L, 0));
+    }
+}
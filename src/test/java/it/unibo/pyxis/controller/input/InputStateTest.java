@@ -0,0 +1,43 @@
+package it.unibo.pyxis.controller.input;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputStateTest {
+
+    @Test
+    public void testPressAndRelease() {
+        final InputState state = new InputStateImpl();
+        assertEquals(0, state.sample());
+        state.press(InputKey.PAD_LEFT);
+        state.press(InputKey.PAD_LEFT);
+        assertTrue(InputKey.PAD_LEFT.isPressedIn(state.sample()));
+        assertFalse(InputKey.PAD_RIGHT.isPressedIn(state.sample()));
+        state.press(InputKey.PAD_RIGHT);
+        state.release(InputKey.PAD_LEFT);
+        final int sample = state.sample();
+        assertFalse(InputKey.PAD_LEFT.isPressedIn(sample));
+        assertTrue(InputKey.PAD_RIGHT.isPressedIn(sample));
+        state.press(InputKey.PAD_LEFT);
+        state.releaseAll();
+        assertEquals(0, state.sample());
+    }
+
+    @Test
+    public void testConcurrentKeys() throws InterruptedException {
+        final InputState state = new InputStateImpl();
+        final Thread left = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                state.press(InputKey.PAD_LEFT);
+                state.release(InputKey.PAD_LEFT);
+            }
+        });
+        left.start();
+        for (int i = 0; i < 10_000; i++) {
+            state.press(InputKey.PAD_RIGHT);
+        }
+        left.join();
+        assertEquals(InputKey.PAD_RIGHT.getMask(), state.sample());
+    }
+}
@@ -57,4 +57,23 @@ class EntityTest {
         final UpdateComponent<TestEntity> fetchComponent = this.entity.getComponent(UpdateComponent.class);
         assertEquals(toAttachComponent, fetchComponent);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCantGetNotRegisteredComponent() {
+        assertThrows(IllegalArgumentException.class, () -> this.entity.getComponent(UpdateComponent.class));
+    }
+
+    @Test
+    void testComponentsOfDifferentEntities() {
+        final TestEntity otherEntity = new TestEntity();
+        final UpdateComponent<TestEntity> component = new TestUpdateComponent(this.entity);
+        final UpdateComponent<TestEntity> otherComponent = new TestUpdateComponent(otherEntity);
+        this.entity.registerComponent(component);
+        otherEntity.registerComponent(otherComponent);
+        assertEquals(component, this.entity.getComponent(UpdateComponent.class));
+        assertEquals(otherComponent, otherEntity.getComponent(UpdateComponent.class));
+        otherEntity.removeComponent(UpdateComponent.class);
+        assertTrue(this.entity.hasComponent(UpdateComponent.class));
+        assertFalse(otherEntity.hasComponent(UpdateComponent.class));
+    }
+}
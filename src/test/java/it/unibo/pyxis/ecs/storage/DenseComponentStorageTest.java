@@ -0,0 +1,102 @@
+package it.unibo.pyxis.ecs.storage;
+
+import it.unibo.pyxis.ecs.component.event.EventComponent;
+import it.unibo.pyxis.ecs.component.physics.UpdateComponent;
+import it.unibo.pyxis.ecs.utils.TestEntity;
+import it.unibo.pyxis.ecs.utils.TestEventComponent;
+import it.unibo.pyxis.ecs.utils.TestUpdateComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DenseComponentStorageTest {
+
+    private static final int ENTITIES = 100;
+
+    private DenseComponentStorage storage;
+    private List<TestEntity> entities;
+    private List<TestUpdateComponent> updateComponents;
+
+    @BeforeEach
+    void init() {
+        this.storage = new DenseComponentStorage();
+        this.entities = new ArrayList<>();
+        this.updateComponents = new ArrayList<>();
+        for (int i = 0; i < ENTITIES; i++) {
+            final TestEntity entity = new TestEntity(this.storage);
+            final TestUpdateComponent component = new TestUpdateComponent(entity);
+            entity.registerComponent(component);
+            this.entities.add(entity);
+            this.updateComponents.add(component);
+        }
+    }
+
+    @Test
+    void testSharedStorage() {
+        for (int i = 0; i < ENTITIES; i++) {
+            assertEquals(this.updateComponents.get(i), this.entities.get(i).getComponent(UpdateComponent.class));
+            assertFalse(this.entities.get(i).hasComponent(EventComponent.class));
+        }
+    }
+
+    @Test
+    void testArchetypeChanges() {
+        final TestEntity first = this.entities.get(0);
+        final TestEventComponent eventComponent = new TestEventComponent(first);
+        first.registerComponent(eventComponent);
+        assertEquals(eventComponent, first.getComponent(EventComponent.class));
+        assertEquals(this.updateComponents.get(0), first.getComponent(UpdateComponent.class));
+        this.entities.get(1).removeComponent(UpdateComponent.class);
+        assertFalse(this.entities.get(1).hasComponent(UpdateComponent.class));
+        for (int i = 2; i < ENTITIES; i++) {
+            assertEquals(this.updateComponents.get(i), this.entities.get(i).getComponent(UpdateComponent.class));
+        }
+        first.removeComponent(EventComponent.class);
+        assertFalse(first.hasComponent(EventComponent.class));
+        assertEquals(this.updateComponents.get(0), first.getComponent(UpdateComponent.class));
+    }
+
+    @Test
+    void testForEach() {
+        this.entities.get(0).removeComponent(UpdateComponent.class);
+        this.entities.get(1).registerComponent(new TestEventComponent(this.entities.get(1)));
+        final List<UpdateComponent<?>> visited = new ArrayList<>();
+        this.storage.forEach(UpdateComponent.class, visited::add);
+        assertEquals(ENTITIES - 1, visited.size());
+        assertTrue(visited.containsAll(this.updateComponents.subList(1, ENTITIES)));
+        this.entities.get(1).removeComponent(EventComponent.class);
+    }
+
+    @Test
+    void testDestroyEntity() {
+        final int destroyed = 5;
+        this.storage.destroyEntity(destroyed);
+        assertThrows(IllegalArgumentException.class, () -> this.storage.get(destroyed, UpdateComponent.class));
+        assertThrows(IllegalArgumentException.class, () -> this.storage.destroyEntity(destroyed));
+        final List<UpdateComponent<?>> visited = new ArrayList<>();
+        this.storage.forEach(UpdateComponent.class, visited::add);
+        assertEquals(ENTITIES - 1, visited.size());
+        assertFalse(visited.contains(this.updateComponents.get(destroyed)));
+        for (int i = 0; i < ENTITIES; i++) {
+            if (i != destroyed) {
+                assertEquals(this.updateComponents.get(i), this.entities.get(i).getComponent(UpdateComponent.class));
+            }
+        }
+        final TestEntity recycled = new TestEntity(this.storage);
+        assertFalse(this.storage.contains(destroyed, UpdateComponent.class));
+        final TestUpdateComponent component = new TestUpdateComponent(recycled);
+        recycled.registerComponent(component);
+        assertEquals(component, this.storage.get(destroyed, UpdateComponent.class).orElseThrow());
+        new TestEntity(this.storage);
+        assertFalse(this.storage.contains(ENTITIES, UpdateComponent.class));
+    }
+
+    @Test
+    void testUnknownEntity() {
+        assertThrows(IllegalArgumentException.class, () -> this.storage.get(ENTITIES, UpdateComponent.class));
+    }
+}
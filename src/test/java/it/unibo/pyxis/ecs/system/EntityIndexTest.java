@@ -0,0 +1,37 @@
+package it.unibo.pyxis.ecs.system;
+
+import it.unibo.pyxis.ecs.Entity;
+import it.unibo.pyxis.ecs.EntityImpl;
+import it.unibo.pyxis.ecs.component.physics.UpdateComponent;
+import it.unibo.pyxis.ecs.utils.TestEntity;
+import it.unibo.pyxis.ecs.utils.TestUpdateComponent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityIndexTest {
+
+    @Test
+    public void testIncrementalQueries() {
+        final EntityIndex index = new EntityIndexImpl();
+        final TestEntity updated = new TestEntity();
+        updated.registerComponent(new TestUpdateComponent(updated));
+        final Entity plain = new EntityImpl();
+        index.add(updated);
+        index.add(plain);
+        assertEquals(List.of(updated), index.getEntities(TestEntity.class));
+        assertEquals(List.of(updated), index.getEntitiesWithComponent(UpdateComponent.class));
+        assertEquals(List.of(updated, plain), index.getEntities(Entity.class));
+        final TestEntity added = new TestEntity();
+        added.registerComponent(new TestUpdateComponent(added));
+        index.add(added);
+        assertEquals(List.of(updated, added), index.getEntities(TestEntity.class));
+        assertEquals(List.of(updated, added), index.getEntitiesWithComponent(UpdateComponent.class));
+        index.remove(updated);
+        assertEquals(List.of(added), index.getEntities(TestEntity.class));
+        assertEquals(List.of(added), index.getEntitiesWithComponent(UpdateComponent.class));
+        assertEquals(List.of(plain, added), index.getEntities(Entity.class));
+    }
+}
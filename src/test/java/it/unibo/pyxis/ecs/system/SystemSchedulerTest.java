@@ -0,0 +1,93 @@
+package it.unibo.pyxis.ecs.system;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SystemSchedulerTest {
+
+    private static final class RecordingSystem extends AbstractGameSystem {
+
+        private final String name;
+        private final ConcurrentLinkedQueue<String> log;
+
+        RecordingSystem(final String inputName, final ConcurrentLinkedQueue<String> inputLog,
+                        final Set<Class<?>> reads, final Set<Class<?>> writes) {
+            super(reads, writes);
+            this.name = inputName;
+            this.log = inputLog;
+        }
+
+        @Override
+        public void update(final double elapsed) {
+            this.log.add(this.name);
+        }
+    }
+
+    @Test
+    public void testStages() {
+        final ConcurrentLinkedQueue<String> log = new ConcurrentLinkedQueue<>();
+        final GameSystem writeA = new RecordingSystem("writeA", log, Set.of(), Set.of(Integer.class));
+        final GameSystem writeB = new RecordingSystem("writeB", log, Set.of(), Set.of(String.class));
+        final GameSystem readA = new RecordingSystem("readA", log, Set.of(Integer.class), Set.of());
+        final GameSystem readB = new RecordingSystem("readB", log, Set.of(String.class), Set.of());
+        final SystemScheduler scheduler = new SystemSchedulerImpl();
+        scheduler.addSystem(writeA);
+        scheduler.addSystem(writeB);
+        scheduler.addSystem(readA);
+        scheduler.addSystem(readB);
+        assertEquals(List.of(List.of(writeA, writeB), List.of(readA, readB)), scheduler.getStages());
+        scheduler.update(1);
+        final List<String> order = List.copyOf(log);
+        assertEquals(4, order.size());
+        assertTrue(order.indexOf("readA") > order.indexOf("writeA"));
+        assertTrue(order.indexOf("readB") > order.indexOf("writeB"));
+    }
+
+    @Test
+    public void testReadersDontConflict() {
+        final ConcurrentLinkedQueue<String> log = new ConcurrentLinkedQueue<>();
+        final GameSystem first = new RecordingSystem("first", log, Set.of(Integer.class), Set.of());
+        final GameSystem second = new RecordingSystem("second", log, Set.of(Integer.class), Set.of());
+        assertFalse(first.conflictsWith(second));
+        final GameSystem writer = new RecordingSystem("writer", log, Set.of(), Set.of(Integer.class));
+        assertTrue(first.conflictsWith(writer));
+        assertTrue(writer.conflictsWith(second));
+    }
+
+    @Test
+    public void testConcurrentStage() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(2);
+        final GameSystem waiting = new AbstractGameSystem(Set.of(), Set.of(Integer.class)) {
+            @Override
+            public void update(final double elapsed) {
+                started.countDown();
+                try {
+                    started.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        final GameSystem other = new AbstractGameSystem(Set.of(), Set.of(String.class)) {
+            @Override
+            public void update(final double elapsed) {
+                started.countDown();
+            }
+        };
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        final SystemScheduler scheduler = new SystemSchedulerImpl(pool);
+        scheduler.addSystem(waiting);
+        scheduler.addSystem(other);
+        scheduler.update(1);
+        assertEquals(0, started.getCount());
+        pool.shutdown();
+    }
+}
@@ -1,6 +1,15 @@
 package it.unibo.pyxis.ecs.utils;
 
 import it.unibo.pyxis.ecs.EntityImpl;
+import it.unibo.pyxis.ecs.storage.ComponentStorage;
 
 public class TestEntity extends EntityImpl {
+
+    public TestEntity() {
+        super();
+    }
+
+    public TestEntity(final ComponentStorage storage) {
+        super(storage);
+    }
 }
@@ -1,14 +1,14 @@
 package it.unibo.pyxis.ecs.utils;
 import it.unibo.pyxis.ecs.component.event.AbstractEventComponent;
 import it.unibo.pyxis.model.event.Event;
-import org.greenrobot.eventbus.Subscribe;
+import it.unibo.pyxis.model.event.EventDispatcherImpl;
 
 public class TestEventComponent extends AbstractEventComponent<TestEntity> {
     public TestEventComponent(TestEntity entity) {
-        super(entity);
+        super(entity, new EventDispatcherImpl());
+        this.subscribe(Event.class, this::handleGenericEvent);
     }
 
-    @Subscribe
     public void handleGenericEvent(Event event) {
         System.out.println("Hello");
     }
@@ -1,5 +1,7 @@
 package it.unibo.pyxis.model.arena;
 
+import it.unibo.pyxis.model.arena.snapshot.ElementKind;
+import it.unibo.pyxis.model.arena.snapshot.RenderSnapshot;
 import it.unibo.pyxis.model.element.ball.Ball;
 import it.unibo.pyxis.model.element.ball.BallImpl;
 import it.unibo.pyxis.model.element.ball.BallType;
@@ -16,7 +18,9 @@ import it.unibo.pyxis.model.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
@@ -114,6 +118,44 @@ class ArenaTest {
         assertEquals(6, this.testArena.getBricks().size());
     }
 
+    @Test
+    public void testIsCleared() {
+        assertTrue(this.testArena.isCleared());
+        this.testArena.addBrick(new BrickImpl(BrickType.INDESTRUCTIBLE, new CoordImpl(10, 10)));
+        assertTrue(this.testArena.isCleared());
+        this.testArena.addBrick(new BrickImpl(BrickType.RED, new CoordImpl(50, 10)));
+        this.testArena.addBrick(new BrickImpl(BrickType.BLUE, new CoordImpl(90, 10)));
+        assertFalse(this.testArena.isCleared());
+        this.testArena.removeBrick(new CoordImpl(50, 10));
+        assertFalse(this.testArena.isCleared());
+        this.testArena.removeBrick(new CoordImpl(90, 10));
+        assertTrue(this.testArena.isCleared());
+    }
+
+    @Test
+    public void testLastBallId() {
+        assertEquals(0, this.testArena.getLastBallId());
+        final Ball firstBall = new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(10, 10))
+                .pace(new VectorImpl(5, 9))
+                .id(1)
+                .build();
+        final Ball secondBall = new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(20, 10))
+                .pace(new VectorImpl(5, 9))
+                .id(3)
+                .build();
+        this.testArena.addBall(firstBall);
+        this.testArena.addBall(secondBall);
+        assertEquals(3, this.testArena.getLastBallId());
+        assertTrue(this.testArena.getBalls().contains(this.testArena.getRandomBall()));
+        this.testArena.removeBall(secondBall);
+        assertEquals(1, this.testArena.getLastBallId());
+        assertEquals(firstBall, this.testArena.getRandomBall());
+    }
+
     @Test
     public void testBrickClear() {
         for (int i = 1; i <= 10; i++) {
@@ -152,4 +194,103 @@ class ArenaTest {
         this.testArena.clearPowerups();
         assertEquals(0, this.testArena.getPowerups().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPowerupListOrder() {
+        final List<Powerup> powerups = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            final Powerup powerup = new PowerupImpl(PowerupType.values()[i % PowerupType.values().length],
+                    new CoordImpl(i, 20));
+            powerups.add(powerup);
+            this.testArena.addPowerup(powerup);
+        }
+        assertEquals(powerups, this.testArena.getPowerupList());
+        this.testArena.removePowerup(powerups.remove(3));
+        assertEquals(powerups, this.testArena.getPowerupList());
+    }
+
+    @Test
+    public void testRenderSnapshot() {
+        assertEquals(0, this.testArena.getRenderSnapshot().size());
+        this.testArena.addBrick(new BrickImpl(BrickType.RED, new CoordImpl(10, 10)));
+        this.testArena.setPad(new PadImpl(new CoordImpl(250, 480)));
+        this.testArena.publishRenderSnapshot(1);
+        final RenderSnapshot snapshot = this.testArena.getRenderSnapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals(ElementKind.BRICK, snapshot.getKind(0));
+        assertEquals(BrickType.RED.getTypeString(), snapshot.getTypeName(0));
+        assertEquals(10, snapshot.getX(0));
+        assertEquals(ElementKind.PAD, snapshot.getKind(1));
+        assertEquals(250, snapshot.getX(1));
+        this.testArena.movePadLeft();
+        assertEquals(250, snapshot.getX(1));
+        this.testArena.publishRenderSnapshot(1);
+        assertEquals(240, this.testArena.getRenderSnapshot().getX(1));
+    }
+
+    @Test
+    public void testSubmittedCommands() throws InterruptedException {
+        this.testArena.setPad(new PadImpl(new CoordImpl(250, 480)));
+        final Thread producer = new Thread(() -> {
+            this.testArena.submit(Arena::movePadLeft);
+            this.testArena.submit(arena -> arena.increasePadWidth(10));
+        });
+        producer.start();
+        producer.join();
+        assertEquals(250, this.testArena.getPad().getPosition().getX());
+        assertEquals(70, this.testArena.getPad().getWidth());
+        this.testArena.executePendingCommands();
+        assertEquals(240, this.testArena.getPad().getPosition().getX());
+        assertEquals(80, this.testArena.getPad().getWidth());
+        this.testArena.submit(Arena::movePadRight);
+        this.testArena.update(1);
+        assertEquals(250, this.testArena.getPad().getPosition().getX());
+    }
+
+    @Test
+    public void testPadSteering() {
+        this.testArena.setPad(new PadImpl(new CoordImpl(250, 480)));
+        this.testArena.updatePad(20);
+        assertEquals(250, this.testArena.getPad().getX());
+        this.testArena.steerPad(-3);
+        this.testArena.updatePad(20);
+        final double afterOneStep = this.testArena.getPad().getX();
+        assertTrue(afterOneStep < 250);
+        this.testArena.updatePad(40);
+        assertEquals(250 - 3 * (250 - afterOneStep), this.testArena.getPad().getX(), 1e-9);
+        this.testArena.updatePad(1_000_000);
+        assertEquals(35, this.testArena.getPad().getX());
+        this.testArena.steerPad(0);
+        this.testArena.updatePad(20);
+        assertEquals(35, this.testArena.getPad().getX());
+    }
+
+    private void fillTwinArena(final Arena arena) {
+        arena.setPad(new PadImpl(new CoordImpl(250, 480)));
+        arena.addBrick(new BrickImpl(BrickType.RED, new CoordImpl(250, 100)));
+        arena.addBall(new BallImpl.Builder()
+                .ballType(BallType.NORMAL_BALL)
+                .initialPosition(new CoordImpl(250, 300))
+                .pace(new VectorImpl(0, -10_000))
+                .id(1)
+                .build());
+    }
+
+    @Test
+    public void testEventsStayInTheirArena() {
+        final Arena otherArena = new ArenaImpl(this.inputDimensions);
+        this.fillTwinArena(this.testArena);
+        this.fillTwinArena(otherArena);
+        this.testArena.update(20);
+        assertTrue(this.testArena.getBricks().isEmpty());
+        assertTrue(this.testArena.getBallList().get(0).getPaceY() > 0);
+        final Brick otherBrick = otherArena.getBricks().iterator().next();
+        assertEquals(BrickType.RED.getDurability(), otherBrick.getDurability());
+        assertEquals(-10_000, otherArena.getBallList().get(0).getPaceY());
+        otherArena.update(20);
+        assertTrue(otherArena.getBricks().isEmpty());
+        assertTrue(otherArena.getBallList().get(0).getPaceY() > 0);
+        this.testArena.cleanUp();
+        otherArena.cleanUp();
+    }
+}
@@ -0,0 +1,112 @@
+package it.unibo.pyxis.model.arena.collision;
+
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.arena.ArenaImpl;
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.ball.BallImpl;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.element.brick.BrickImpl;
+import it.unibo.pyxis.model.element.brick.BrickType;
+import it.unibo.pyxis.model.element.pad.PadImpl;
+import it.unibo.pyxis.model.event.EventListener;
+import it.unibo.pyxis.model.event.collision.BallCollisionWithBrickEvent;
+import it.unibo.pyxis.model.util.Coord;
+import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.util.DimensionImpl;
+import it.unibo.pyxis.model.util.VectorImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionSystemTest {
+
+    private static final int BALLS = 200;
+    private static final int STEPS = 100;
+    private static final double ELAPSED = 20;
+
+    private Arena createArena() {
+        final Arena arena = new ArenaImpl(new DimensionImpl(600, 700));
+        arena.setPad(new PadImpl(new CoordImpl(300, 680)));
+        for (int column = 0; column < 10; column++) {
+            for (int row = 0; row < 5; row++) {
+                arena.addBrick(new BrickImpl(BrickType.RED, new CoordImpl(111 + column * 42, 49 + row * 18)));
+            }
+        }
+        final Random random = new Random(7);
+        for (int i = 1; i <= BALLS; i++) {
+            arena.addBall(new BallImpl.Builder()
+                    .ballType(BallType.NORMAL_BALL)
+                    .initialPosition(new CoordImpl(20 + random.nextInt(560), 200 + random.nextInt(400)))
+                    .pace(new VectorImpl(random.nextInt(200) - 100, -50 - random.nextInt(100)))
+                    .id(i)
+                    .build());
+        }
+        return arena;
+    }
+
+    private List<Double> simulate(final int parallelThreshold) {
+        final Arena arena = this.createArena();
+        final CollisionSystem collisionSystem = new CollisionSystemImpl(arena, parallelThreshold);
+        for (int i = 0; i < STEPS; i++) {
+            collisionSystem.moveBalls(ELAPSED);
+        }
+        final List<Double> state = new ArrayList<>();
+        for (final Ball ball : arena.getBallList()) {
+            state.add(ball.getX());
+            state.add(ball.getY());
+            state.add(ball.getPaceX());
+            state.add(ball.getPaceY());
+        }
+        arena.cleanUp();
+        return state;
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        final List<Double> sequential = this.simulate(Integer.MAX_VALUE);
+        final List<Double> parallel = this.simulate(1);
+        assertEquals(BALLS * 4, parallel.size());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void testInvalidThreshold() {
+        final Arena arena = new ArenaImpl(new DimensionImpl(600, 700));
+        assertThrows(IllegalArgumentException.class, () -> new CollisionSystemImpl(arena, 0));
+    }
+
+    @Test
+    public void testAtomicBallPassesThroughBricks() {
+        final Arena arena = new ArenaImpl(new DimensionImpl(600, 700));
+        arena.setPad(new PadImpl(new CoordImpl(300, 680)));
+        final List<Coord> bricks = new ArrayList<>();
+        for (int row = 0; row < 5; row++) {
+            bricks.add(new CoordImpl(300, 100 + row * 18));
+            arena.addBrick(new BrickImpl(BrickType.INDESTRUCTIBLE, bricks.get(row)));
+        }
+        final Ball ball = new BallImpl.Builder()
+                .ballType(BallType.ATOMIC_BALL)
+                .initialPosition(new CoordImpl(300, 300))
+                .pace(new VectorImpl(0, -12_500))
+                .id(1)
+                .build();
+        arena.addBall(ball);
+        final List<Coord> hits = new ArrayList<>();
+        final EventListener<BallCollisionWithBrickEvent> listener = event -> hits.add(event.getBrickCoord().copyOf());
+        arena.getEventDispatcher().subscribe(BallCollisionWithBrickEvent.class, listener);
+        try {
+            new CollisionSystemImpl(arena).moveBalls(ELAPSED);
+        } finally {
+            arena.getEventDispatcher().unsubscribe(BallCollisionWithBrickEvent.class, listener);
+            arena.cleanUp();
+        }
+        bricks.sort((a, b) -> Double.compare(b.getY(), a.getY()));
+        assertEquals(bricks, hits);
+        assertEquals(50, ball.getY(), 1e-9);
+        assertEquals(-12_500, ball.getPaceY());
+    }
+}
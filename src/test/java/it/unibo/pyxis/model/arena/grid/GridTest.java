@@ -0,0 +1,54 @@
+package it.unibo.pyxis.model.arena.grid;
+
+import it.unibo.pyxis.model.element.brick.Brick;
+import it.unibo.pyxis.model.element.brick.BrickImpl;
+import it.unibo.pyxis.model.element.brick.BrickType;
+import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.util.DimensionImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridTest {
+
+    private Grid<Brick> grid;
+    private Brick nearBrick;
+    private Brick farBrick;
+
+    @BeforeEach
+    public void init() {
+        this.grid = new GridImpl<>(new DimensionImpl(420, 360), 42, 18);
+        this.nearBrick = new BrickImpl(BrickType.RED, new CoordImpl(21, 9));
+        this.farBrick = new BrickImpl(BrickType.BLUE, new CoordImpl(399, 351));
+        this.grid.insert(this.nearBrick);
+        this.grid.insert(this.farBrick);
+    }
+
+    @Test
+    public void testQuery() {
+        final List<Brick> candidates = this.grid.query(30, 15, 50, 30);
+        assertEquals(List.of(this.nearBrick), candidates);
+        assertTrue(this.grid.query(150, 150, 160, 160).isEmpty());
+        assertEquals(2, this.grid.query(0, 0, 420, 360).size());
+    }
+
+    @Test
+    public void testQueryOutsideArea() {
+        assertEquals(List.of(this.farBrick), this.grid.query(410, 370, 500, 500));
+        assertEquals(List.of(this.nearBrick), this.grid.query(-50, -50, 0, 0));
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        assertEquals(2, this.grid.size());
+        this.grid.remove(this.nearBrick);
+        assertEquals(1, this.grid.size());
+        assertTrue(this.grid.query(0, 0, 42, 18).isEmpty());
+        this.grid.clear();
+        assertEquals(0, this.grid.size());
+        assertTrue(this.grid.query(0, 0, 420, 360).isEmpty());
+    }
+}
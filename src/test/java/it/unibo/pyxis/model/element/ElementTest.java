@@ -88,4 +88,55 @@ public class ElementTest {
         Coord updatedCoord = new CoordImpl(updatedX, updatedY);
         assertEquals(this.ball.getPosition(), updatedCoord);
     }
+
+    @Test
+    public void testInterpolatedPosition() {
+        assertEquals(this.startingCoordBall, this.ball.getInterpolatedPosition(0.5));
+        this.ball.storePreviousPosition();
+        this.ball.update(this.dt);
+        final Coord updatedCoord = this.ball.getPosition();
+        assertEquals(this.startingCoordBall, this.ball.getInterpolatedPosition(0));
+        assertEquals(updatedCoord, this.ball.getInterpolatedPosition(1));
+        final Coord halfwayCoord = new CoordImpl((this.startingCoordBall.getX() + updatedCoord.getX()) / 2,
+                (this.startingCoordBall.getY() + updatedCoord.getY()) / 2);
+        assertEquals(halfwayCoord, this.ball.getInterpolatedPosition(0.5));
+        this.ball.storePreviousPosition();
+        assertEquals(updatedCoord, this.ball.getInterpolatedPosition(0));
+    }
+
+    @Test
+    public void testPrimitiveGetters() {
+        assertEquals(this.startingCoordBall.getX(), this.ball.getX());
+        assertEquals(this.startingCoordBall.getY(), this.ball.getY());
+        assertEquals(this.startingPace.getX(), this.ball.getPaceX());
+        assertEquals(this.startingPace.getY(), this.ball.getPaceY());
+        assertEquals(this.startingDimension.getWidth(), this.pad.getWidth());
+        assertEquals(this.startingDimension.getHeight(), this.pad.getHeight());
+        assertEquals(this.brick.getPosition().getX(), this.brick.getX());
+        assertEquals(this.powerup.getPace().getY(), this.powerup.getPaceY());
+
+        this.pad.setPosition(15, 20);
+        assertEquals(new CoordImpl(15, 20), this.pad.getPosition());
+        this.ball.setPosition(30, 40);
+        assertEquals(30, this.ball.getX());
+        assertEquals(40, this.ball.getY());
+    }
+
+    @Test
+    public void testResizeFixedSizeElements() {
+        final Brick otherBrick = new BrickImpl(BrickType.RED, this.startingCoordBrick.copyOf());
+        final Dimension brickDimension = this.brick.getDimension();
+        this.brick.increaseWidth(10);
+        this.brick.setHeight(5);
+        assertEquals(new DimensionImpl(brickDimension.getWidth() + 10, 5), this.brick.getDimension());
+        assertEquals(brickDimension, otherBrick.getDimension());
+        final double ballWidth = this.ball.getWidth();
+        this.ball.setWidth(ballWidth * 2);
+        this.ball.increaseHeight(1);
+        assertEquals(ballWidth * 2, this.ball.getWidth());
+        final double powerupHeight = this.powerup.getHeight();
+        this.powerup.increaseHeight(-1);
+        assertEquals(powerupHeight - 1, this.powerup.getHeight());
+        assertEquals(powerupHeight, new PowerupImpl(PowerupType.ATOMIC_BALL, this.startingCoordPowerup).getHeight());
+    }
 }
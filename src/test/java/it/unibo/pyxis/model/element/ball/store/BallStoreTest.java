@@ -0,0 +1,88 @@
+package it.unibo.pyxis.model.element.ball.store;
+
+import it.unibo.pyxis.model.element.ball.Ball;
+import it.unibo.pyxis.model.element.ball.BallImpl;
+import it.unibo.pyxis.model.element.ball.BallType;
+import it.unibo.pyxis.model.hitbox.HitEdge;
+import it.unibo.pyxis.model.util.CoordImpl;
+import it.unibo.pyxis.model.util.DimensionImpl;
+import it.unibo.pyxis.model.util.VectorImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BallStoreTest {
+
+    private BallStore store;
+
+    private Ball createBall(final int id, final double x, final double y) {
+        return new BallImpl.Builder()
+                .pace(new VectorImpl(id, -id))
+                .initialPosition(new CoordImpl(x, y))
+                .ballType(BallType.NORMAL_BALL)
+                .id(id)
+                .build();
+    }
+
+    @BeforeEach
+    public void init() {
+        this.store = new BallStoreImpl(2);
+    }
+
+    @Test
+    public void testBind() {
+        final Ball ball = this.createBall(1, 10, 20);
+        ball.registerCollision(HitEdge.VERTICAL, new DimensionImpl(1, 2));
+        ball.bindTo(this.store);
+        assertEquals(1, this.store.size());
+        assertTrue(this.store.contains(ball));
+        assertEquals(new CoordImpl(10, 20), ball.getPosition());
+        assertEquals(new VectorImpl(1, -1), ball.getPace());
+        assertEquals(new DimensionImpl(1, 2), ball.getCollisionInformation().get(HitEdge.VERTICAL));
+        ball.setPosition(new CoordImpl(30, 40));
+        ball.setType(BallType.STEEL_BALL);
+        assertEquals(30, this.store.getX(0));
+        assertEquals(BallType.STEEL_BALL, this.store.getType(0));
+    }
+
+    @Test
+    public void testRemoveKeepsViews() {
+        final List<Ball> balls = List.of(this.createBall(1, 1, 1), this.createBall(2, 2, 2),
+                this.createBall(3, 3, 3), this.createBall(4, 4, 4));
+        balls.forEach(b -> b.bindTo(this.store));
+        assertEquals(4, this.store.size());
+        balls.get(0).bindTo(new BallStoreImpl(1));
+        assertEquals(3, this.store.size());
+        assertFalse(this.store.contains(balls.get(0)));
+        assertEquals(new CoordImpl(1, 1), balls.get(0).getPosition());
+        for (final Ball ball : balls.subList(1, 4)) {
+            assertTrue(this.store.contains(ball));
+            assertEquals(new CoordImpl(ball.getId(), ball.getId()), ball.getPosition());
+        }
+        final Ball newBall = this.createBall(5, 5, 5);
+        newBall.bindTo(this.store);
+        assertEquals(4, this.store.size());
+        assertEquals(new CoordImpl(4, 4), balls.get(3).getPosition());
+        assertEquals(5, newBall.getId());
+    }
+
+    @Test
+    public void testDetach() {
+        final Ball ball = this.createBall(1, 10, 20);
+        assertFalse(this.store.contains(ball));
+        for (int i = 0; i < 3; i++) {
+            ball.bindTo(this.store);
+            assertTrue(this.store.contains(ball));
+            assertTrue(ball.isBoundTo(this.store));
+            ball.setPosition(i, i);
+            ball.detach();
+            assertFalse(this.store.contains(ball));
+            assertEquals(0, this.store.size());
+            assertEquals(new CoordImpl(i, i), ball.getPosition());
+            assertEquals(1, ball.getId());
+        }
+    }
+}
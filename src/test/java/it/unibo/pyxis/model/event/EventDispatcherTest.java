@@ -0,0 +1,140 @@
+package it.unibo.pyxis.model.event;
+
+import it.unibo.pyxis.model.event.collision.BallCollisionWithBorderEvent;
+import it.unibo.pyxis.model.event.collision.CollisionEvent;
+import it.unibo.pyxis.model.event.notify.BrickDestructionEvent;
+import it.unibo.pyxis.model.event.notify.DecreaseLifeEvent;
+import it.unibo.pyxis.model.hitbox.ContactImpl;
+import it.unibo.pyxis.model.hitbox.HitEdge;
+import it.unibo.pyxis.model.util.CoordImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventDispatcherTest {
+
+    private EventDispatcher dispatcher;
+    private List<String> log;
+
+    @BeforeEach
+    public void setUp() {
+        this.dispatcher = new EventDispatcherImpl();
+        this.log = new ArrayList<>();
+    }
+
+    @Test
+    public void testSubtypeDelivery() {
+        this.dispatcher.subscribe(Event.class, e -> this.log.add("event"));
+        this.dispatcher.subscribe(DecreaseLifeEvent.class, e -> this.log.add("life"));
+        this.dispatcher.subscribe(BrickDestructionEvent.class, e -> this.log.add("brick"));
+        this.dispatcher.post(Events.newDecreaseLifeEvent());
+        assertEquals(List.of("event", "life"), this.log);
+        this.log.clear();
+        this.dispatcher.post(Events.newBrickDestructionEvent(new CoordImpl(0, 0), 1));
+        assertEquals(List.of("event", "brick"), this.log);
+    }
+
+    @Test
+    public void testUnsubscribe() {
+        final EventListener<DecreaseLifeEvent> listener = e -> this.log.add("life");
+        this.dispatcher.subscribe(DecreaseLifeEvent.class, listener);
+        this.dispatcher.post(Events.newDecreaseLifeEvent());
+        this.dispatcher.unsubscribe(DecreaseLifeEvent.class, listener);
+        this.dispatcher.post(Events.newDecreaseLifeEvent());
+        assertEquals(List.of("life"), this.log);
+    }
+
+    @Test
+    public void testNestedPostAfterCurrentDelivery() {
+        this.dispatcher.subscribe(DecreaseLifeEvent.class, e -> {
+            this.log.add("first");
+            this.dispatcher.post(Events.newBrickDestructionEvent(new CoordImpl(0, 0), 1));
+        });
+        this.dispatcher.subscribe(DecreaseLifeEvent.class, e -> this.log.add("second"));
+        this.dispatcher.subscribe(BrickDestructionEvent.class, e -> this.log.add("nested"));
+        this.dispatcher.post(Events.newDecreaseLifeEvent());
+        assertEquals(List.of("first", "second", "nested"), this.log);
+    }
+
+    @Test
+    public void testKeyedDelivery() {
+        final EventListener<CollisionEvent> second = e -> this.log.add("second");
+        this.dispatcher.subscribe(BallCollisionWithBorderEvent.class, RoutingKeys.ballId(), 1,
+                e -> this.log.add("first"));
+        this.dispatcher.subscribe(BallCollisionWithBorderEvent.class, RoutingKeys.ballId(), 2, second);
+        this.dispatcher.subscribe(CollisionEvent.class, e -> this.log.add("all"));
+        this.dispatcher.post(this.borderCollision(2));
+        assertEquals(List.of("all", "second"), this.log);
+        this.log.clear();
+        this.dispatcher.unsubscribe(BallCollisionWithBorderEvent.class, RoutingKeys.ballId(), 2, second);
+        this.dispatcher.post(this.borderCollision(2));
+        this.dispatcher.post(this.borderCollision(1));
+        assertEquals(List.of("all", "all", "first"), this.log);
+    }
+
+    @Test
+    public void testDeferredDelivery() {
+        this.dispatcher.subscribeDeferred(DecreaseLifeEvent.class, e -> {
+            this.log.add("deferred");
+            this.dispatcher.post(Events.newBrickDestructionEvent(new CoordImpl(0, 0), 1));
+        });
+        this.dispatcher.subscribe(DecreaseLifeEvent.class, e -> this.log.add("immediate"));
+        this.dispatcher.subscribeDeferred(BrickDestructionEvent.class, e -> this.log.add("brick"));
+        this.dispatcher.post(Events.newDecreaseLifeEvent());
+        assertEquals(List.of("immediate"), this.log);
+        this.dispatcher.flush();
+        assertEquals(List.of("immediate", "deferred", "brick"), this.log);
+        this.dispatcher.flush();
+        assertEquals(3, this.log.size());
+    }
+
+    @Test
+    public void testBatchDelivery() {
+        final List<Integer> batches = new ArrayList<>();
+        this.dispatcher.subscribeBatch(BrickDestructionEvent.class, events -> {
+            batches.add(events.stream().mapToInt(BrickDestructionEvent::getPoints).sum());
+        });
+        for (int i = 1; i <= 3; i++) {
+            this.dispatcher.post(Events.newBrickDestructionEvent(new CoordImpl(i, 0), i));
+        }
+        this.dispatcher.post(Events.newDecreaseLifeEvent());
+        this.dispatcher.flush();
+        this.dispatcher.flush();
+        assertEquals(List.of(6), batches);
+    }
+
+    @Test
+    public void testUnsubscribeDeferredDropsQueued() {
+        final EventListener<DecreaseLifeEvent> listener = e -> this.log.add("life");
+        this.dispatcher.subscribeDeferred(DecreaseLifeEvent.class, listener);
+        this.dispatcher.post(Events.newDecreaseLifeEvent());
+        this.dispatcher.unsubscribeDeferred(DecreaseLifeEvent.class, listener);
+        this.dispatcher.flush();
+        assertTrue(this.log.isEmpty());
+    }
+
+    @Test
+    public void testPooledEventsRecycledAfterDelivery() {
+        final List<Event> received = new ArrayList<>();
+        this.dispatcher.subscribe(BrickDestructionEvent.class, received::add);
+        this.dispatcher.post(Events.newBrickDestructionEvent(new CoordImpl(0, 0), 1));
+        this.dispatcher.post(Events.newBrickDestructionEvent(new CoordImpl(0, 0), 2));
+        assertSame(received.get(0), received.get(1));
+        this.dispatcher.subscribeDeferred(BrickDestructionEvent.class, e -> this.log.add("deferred"));
+        this.dispatcher.post(Events.newBrickDestructionEvent(new CoordImpl(0, 0), 3));
+        this.dispatcher.post(Events.newBrickDestructionEvent(new CoordImpl(0, 0), 4));
+        assertNotSame(received.get(2), received.get(3));
+        this.dispatcher.flush();
+        assertEquals(List.of("deferred", "deferred"), this.log);
+    }
+
+    private BallCollisionWithBorderEvent borderCollision(final int ballId) {
+        final ContactImpl contact = new ContactImpl();
+        contact.set(HitEdge.HORIZONTAL, 0, 0, 0);
+        return Events.newBallCollisionWithBorderEvent(ballId, contact.toCollisionInformation());
+    }
+}
@@ -0,0 +1,40 @@
+package it.unibo.pyxis.model.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventRingTest {
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new EventRing(0));
+        assertThrows(IllegalArgumentException.class, () -> new EventRing(3));
+    }
+
+    @Test
+    public void testOrderAcrossWrapAndGrowth() {
+        final EventRing ring = new EventRing(4);
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            events.add(Events.newDecreaseLifeEvent());
+        }
+        ring.add(events.get(0));
+        ring.add(events.get(1));
+        ring.add(events.get(2));
+        assertSame(events.get(0), ring.poll());
+        assertSame(events.get(1), ring.poll());
+        for (int i = 3; i < 10; i++) {
+            ring.add(events.get(i));
+        }
+        assertEquals(8, ring.size());
+        for (int i = 2; i < 10; i++) {
+            assertSame(events.get(i), ring.poll());
+        }
+        assertTrue(ring.isEmpty());
+        assertNull(ring.poll());
+    }
+}
@@ -0,0 +1,49 @@
+package it.unibo.pyxis.model.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongKeyMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        final LongKeyMap<String> map = new LongKeyMap<>();
+        assertNull(map.get(1));
+        map.put(1, "one");
+        map.put(-1, "minus one");
+        map.put(1, "uno");
+        assertEquals("uno", map.get(1));
+        assertEquals("minus one", map.get(-1));
+        assertEquals(2, map.size());
+        map.remove(1);
+        map.remove(2);
+        assertNull(map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testAgainstHashMap() {
+        final LongKeyMap<Long> map = new LongKeyMap<>();
+        final Map<Long, Long> expected = new HashMap<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            final long key = random.nextInt(500);
+            if (random.nextBoolean()) {
+                map.put(key, (long) i);
+                expected.put(key, (long) i);
+            } else {
+                map.remove(key);
+                expected.remove(key);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 500; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+}
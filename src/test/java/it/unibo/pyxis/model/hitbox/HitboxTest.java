@@ -197,4 +197,82 @@ class HitboxTest {
         assertTrue(rectHBToHit.isCollidingWithLowerBorder(borderDimension));
         assertFalse(rectHBToMiss.isCollidingWithLowerBorder(borderDimension));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testImpactWithHB() {
+        final Hitbox rectHB = new PadImpl(new DimensionImpl(42, 18), new CoordImpl(100, 100)).getHitbox();
+        final BallHitbox ballHB = (BallHitbox) new BallImpl.Builder()
+                                                .pace(new VectorImpl(0, -1))
+                                                .initialPosition(new CoordImpl(100, 150))
+                                                .ballType(BallType.NORMAL_BALL)
+                                                .id(1)
+                                                .build()
+                                                .getHitbox();
+
+        final Optional<ImpactInformation> fastImpact = ballHB.impactWithHB(rectHB, new VectorImpl(0, -100));
+        assertTrue(fastImpact.isPresent());
+        assertEquals(HitEdge.HORIZONTAL, fastImpact.get().getHitEdge());
+        assertEquals(0.34, fastImpact.get().getImpactTime(), 1e-9);
+
+        final BallHitbox cornerBallHB = (BallHitbox) new BallImpl.Builder()
+                                                .pace(new VectorImpl(1, -1))
+                                                .initialPosition(new CoordImpl(49, 139))
+                                                .ballType(BallType.NORMAL_BALL)
+                                                .id(2)
+                                                .build()
+                                                .getHitbox();
+        final Optional<ImpactInformation> cornerImpact = cornerBallHB.impactWithHB(rectHB, new VectorImpl(50, -50));
+        assertTrue(cornerImpact.isPresent());
+        assertEquals(HitEdge.CORNER, cornerImpact.get().getHitEdge());
+        assertEquals((30 - 7 / Math.sqrt(2)) / 50, cornerImpact.get().getImpactTime(), 1e-9);
+
+        assertTrue(ballHB.impactWithHB(rectHB, new VectorImpl(0, -30)).isEmpty());
+        assertTrue(ballHB.impactWithHB(rectHB, new VectorImpl(0, 100)).isEmpty());
+        assertTrue(ballHB.impactWithHB(rectHB, new VectorImpl(-100, -100)).isEmpty());
+    }
+
+    @Test
+    void testImpactWithBorder() {
+        final Dimension borderDimension = new DimensionImpl(200, 200);
+        final BallHitbox ballHB = (BallHitbox) new BallImpl.Builder()
+                                                .pace(new VectorImpl(1, 0))
+                                                .initialPosition(new CoordImpl(150, 100))
+                                                .ballType(BallType.NORMAL_BALL)
+                                                .id(1)
+                                                .build()
+                                                .getHitbox();
+
+        final Optional<ImpactInformation> result = ballHB.impactWithBorder(borderDimension, new VectorImpl(86, 0));
+        assertTrue(result.isPresent());
+        assertEquals(HitEdge.VERTICAL, result.get().getHitEdge());
+        assertEquals(0.5, result.get().getImpactTime(), 1e-9);
+        assertTrue(ballHB.impactWithBorder(borderDimension, new VectorImpl(40, 50)).isEmpty());
+    }
+
+    @Test
+    void testCollidingInformationWithContact() {
+        final Hitbox rectHB = new PadImpl(new DimensionImpl(3, 5), new CoordImpl(10, 10)).getHitbox();
+        final Hitbox ballHB = new BallImpl.Builder()
+                                                .ballType(BallType.NORMAL_BALL)
+                                                .id(0)
+                                                .pace(new VectorImpl(0, 0))
+                                                .initialPosition(new CoordImpl(11, 3))
+                                                .build()
+                                                .getHitbox();
+        final Contact contact = new ContactImpl();
+
+        assertTrue(rectHB.collidingInformationWithHB(ballHB, contact));
+        assertEquals(HitEdge.TOP, contact.getHitEdge());
+        assertEquals(0, contact.getOffsetWidth());
+        assertEquals(2.5, contact.getOffsetHeight());
+        assertEquals(rectHB.collidingInformationWithHB(ballHB).get().getCollisionOffset(),
+                contact.toCollisionInformation().getCollisionOffset());
+
+        assertFalse(rectHB.collidingInformationWithHB(
+                new PadImpl(new DimensionImpl(2, 1), new CoordImpl(10, 1)).getHitbox(), contact));
+        assertEquals(HitEdge.TOP, contact.getHitEdge());
+
+        assertTrue(ballHB.isCollidingWithPoint(11, 10));
+        assertFalse(ballHB.isCollidingWithPoint(16, 8));
+    }
+}
@@ -0,0 +1,119 @@
+package it.unibo.pyxis.model.powerup.handler;
+
+import it.unibo.pyxis.model.arena.Arena;
+import it.unibo.pyxis.model.arena.ArenaImpl;
+import it.unibo.pyxis.model.powerup.effect.PowerupEffect;
+import it.unibo.pyxis.model.powerup.effect.PowerupEffectType;
+import it.unibo.pyxis.model.util.DimensionImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PowerupHandlerTest {
+
+    private static final double STEP = 20;
+
+    private Arena arena;
+    private PowerupHandler handler;
+    private List<String> log;
+
+    private final class TestEffect implements PowerupEffect {
+
+        private final String name;
+        private final int time;
+
+        TestEffect(final String inputName, final int inputTime) {
+            this.name = inputName;
+            this.time = inputTime;
+        }
+
+        @Override
+        public void applyEffect(final Arena target) {
+            PowerupHandlerTest.this.log.add("apply " + this.name);
+        }
+
+        @Override
+        public int getApplyTime() {
+            return this.time;
+        }
+
+        @Override
+        public PowerupEffectType getType() {
+            return PowerupEffectType.PAD_POWERUP;
+        }
+
+        @Override
+        public void removeEffect(final Arena target) {
+            PowerupHandlerTest.this.log.add("remove " + this.name);
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        this.arena = new ArenaImpl(new DimensionImpl(600, 700));
+        this.handler = new PowerupHandlerImpl(this.arena, STEP);
+        this.log = new ArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.arena.cleanUp();
+    }
+
+    private void advanceSeconds(final double seconds) {
+        for (int i = 0; i < Math.round(seconds * 1000 / STEP); i++) {
+            this.handler.update(STEP);
+        }
+    }
+
+    @Test
+    public void testEffectEndsAfterItsTime() {
+        this.handler.addPowerup(new TestEffect("a", 2));
+        assertEquals(List.of("apply a"), this.log);
+        assertEquals(1, this.handler.activeCount());
+        this.handler.update(2000 - STEP);
+        assertEquals(1, this.handler.activeCount());
+        this.handler.update(STEP);
+        assertEquals(List.of("apply a", "remove a"), this.log);
+        assertEquals(0, this.handler.activeCount());
+    }
+
+    @Test
+    public void testLastEffectOfATypeRemovesIt() {
+        this.handler.addPowerup(new TestEffect("a", 2));
+        this.advanceSeconds(1);
+        this.handler.addPowerup(new TestEffect("b", 2));
+        this.advanceSeconds(1);
+        assertEquals(List.of("apply a", "apply b"), this.log);
+        this.advanceSeconds(1);
+        assertEquals(List.of("apply a", "apply b", "remove b"), this.log);
+    }
+
+    @Test
+    public void testPauseStopsTheClock() {
+        this.handler.addPowerup(new TestEffect("a", 1));
+        this.handler.pause();
+        this.advanceSeconds(5);
+        assertTrue(this.handler.isPaused());
+        assertEquals(1, this.handler.activeCount());
+        this.handler.resume();
+        this.advanceSeconds(1);
+        assertEquals(0, this.handler.activeCount());
+    }
+
+    @Test
+    public void testStopRemovesEveryEffect() {
+        this.handler.addPowerup(new TestEffect("a", 5));
+        this.handler.addPowerup(new TestEffect("b", 5));
+        this.handler.stop();
+        assertEquals(List.of("apply a", "apply b", "remove a", "remove b"), this.log);
+        assertEquals(0, this.handler.activeCount());
+        this.advanceSeconds(5);
+        assertEquals(4, this.log.size());
+    }
+}
@@ -0,0 +1,82 @@
+package it.unibo.pyxis.model.powerup.handler.timer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private TimingWheel wheel;
+    private List<String> log;
+
+    @BeforeEach
+    public void setUp() {
+        this.wheel = new TimingWheelImpl(4);
+        this.log = new ArrayList<>();
+    }
+
+    private void advance(final int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            this.wheel.advance();
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheelImpl(6));
+        assertThrows(IllegalArgumentException.class, () -> this.wheel.schedule(0, () -> { }));
+    }
+
+    @Test
+    public void testDeadlinesBeyondOneTurn() {
+        final Timeout far = this.wheel.schedule(9, () -> this.log.add("far"));
+        this.wheel.schedule(1, () -> this.log.add("near"));
+        this.wheel.schedule(9, () -> this.log.add("far again"));
+        assertEquals(3, this.wheel.size());
+        this.advance(1);
+        assertEquals(List.of("near"), this.log);
+        this.advance(7);
+        assertEquals(List.of("near"), this.log);
+        assertFalse(far.isExpired());
+        this.advance(1);
+        assertEquals(List.of("near", "far", "far again"), this.log);
+        assertTrue(far.isExpired());
+        assertEquals(0, this.wheel.size());
+        assertEquals(9, this.wheel.getTick());
+    }
+
+    @Test
+    public void testCancel() {
+        final Timeout cancelled = this.wheel.schedule(2, () -> this.log.add("cancelled"));
+        this.wheel.schedule(2, () -> this.log.add("kept"));
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        this.advance(2);
+        assertEquals(List.of("kept"), this.log);
+        assertTrue(cancelled.isCancelled());
+    }
+
+    @Test
+    public void testTaskCancellingAnotherOfTheSameTick() {
+        final List<Timeout> timeouts = new ArrayList<>();
+        timeouts.add(this.wheel.schedule(1, () -> timeouts.get(1).cancel()));
+        timeouts.add(this.wheel.schedule(1, () -> this.log.add("second")));
+        this.advance(1);
+        assertTrue(this.log.isEmpty());
+        assertTrue(timeouts.get(1).isCancelled());
+    }
+
+    @Test
+    public void testClear() {
+        final Timeout timeout = this.wheel.schedule(3, () -> this.log.add("cleared"));
+        this.wheel.clear();
+        this.advance(3);
+        assertTrue(this.log.isEmpty());
+        assertTrue(timeout.isCancelled());
+        assertEquals(0, this.wheel.size());
+    }
+}
@@ -1,4 +1,5 @@
 package it.unibo.pyxis.model.state;
+import it.unibo.pyxis.model.level.Level;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -36,4 +37,14 @@ class GameStateTest {
         assertEquals(StateEnum.WAITING_FOR_NEW_GAME, this.testGameState.getState());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testRetiredLevelCleanUp() {
+        final Level firstLevel = this.testGameState.getCurrentLevel();
+        this.testGameState.switchLevel();
+        assertFalse(firstLevel.getArena().getBricks().isEmpty());
+        this.testGameState.cleanUpRetiredLevels();
+        assertTrue(firstLevel.getArena().getBricks().isEmpty());
+        assertFalse(this.testGameState.getCurrentLevel().getArena().getBricks().isEmpty());
+    }
+}